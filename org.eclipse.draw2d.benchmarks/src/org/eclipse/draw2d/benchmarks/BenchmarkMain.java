@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the draw2d benchmarks. The arguments are the usual JMH command line
+ * options, e.g. {@code -prof gc} to report the allocation rate or
+ * {@code -rf json} to write the results to a file that can be compared with the
+ * results of another build. Without a benchmark pattern, all benchmarks of this
+ * bundle are run.
+ * <p>
+ * JMH forks new virtual machines with the class path of the current one, so
+ * this class has to be started with a plain class path containing this bundle,
+ * draw2d, SWT and JMH, rather than inside an OSGi framework.
+ * </p>
+ */
+public final class BenchmarkMain {
+
+	private BenchmarkMain() {
+	}
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		OptionsBuilder options = new OptionsBuilder();
+		options.parent(commandLine);
+		if (commandLine.getIncludes().isEmpty()) {
+			options.include(BenchmarkMain.class.getPackageName() + ".*"); //$NON-NLS-1$
+		}
+		new Runner(options.build()).run();
+	}
+
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Layer;
+import org.eclipse.draw2d.ToolbarLayout;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of deep figure trees and the hit-testing on layers
+ * with many children.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FigureBenchmark {
+
+	/**
+	 * A tree of figures in which every figure has {@link #FAN_OUT} children,
+	 * arranged by a {@link ToolbarLayout}.
+	 */
+	@State(Scope.Benchmark)
+	public static class DeepTree {
+
+		private static final int FAN_OUT = 3;
+
+		/**
+		 * The depth of the tree. A tree of depth 8 contains 9841 figures.
+		 */
+		@Param({ "4", "8" })
+		public int depth;
+
+		IFigure root;
+
+		@Setup
+		public void setUp() {
+			root = createTree(depth, true);
+			root.setBounds(new Rectangle(0, 0, 10000, 10000));
+		}
+
+		private static IFigure createTree(int depth, boolean vertical) {
+			Figure figure = new Figure();
+			figure.setLayoutManager(new ToolbarLayout(!vertical));
+			if (depth == 0) {
+				figure.setPreferredSize(new Dimension(20, 10));
+				return figure;
+			}
+			for (int i = 0; i < FAN_OUT; i++) {
+				figure.add(createTree(depth - 1, !vertical));
+			}
+			return figure;
+		}
+	}
+
+	/**
+	 * A layer with many small children scattered over a large area.
+	 */
+	@State(Scope.Benchmark)
+	public static class WideLayer {
+
+		private static final int SIZE = 20000;
+		private static final int QUERIES = 256;
+
+		@Param({ "1000", "10000", "100000" })
+		public int children;
+
+		@Param({ "false", "true" })
+		public boolean spatialIndex;
+
+		Layer layer;
+		int[] locations;
+
+		@Setup
+		public void setUp() {
+			Random random = new Random(42);
+			layer = new Layer();
+			layer.setBounds(new Rectangle(0, 0, SIZE, SIZE));
+			layer.setSpatialIndexEnabled(spatialIndex);
+			for (int i = 0; i < children; i++) {
+				Figure child = new Figure();
+				child.setBounds(new Rectangle(random.nextInt(SIZE), random.nextInt(SIZE), 10 + random.nextInt(90),
+						10 + random.nextInt(40)));
+				layer.add(child);
+			}
+			locations = new int[2 * QUERIES];
+			for (int i = 0; i < locations.length; i++) {
+				locations[i] = random.nextInt(SIZE);
+			}
+			// let the index, if any, settle before measuring
+			layer.findFigureAt(0, 0);
+		}
+	}
+
+	@Benchmark
+	public IFigure validateDeepTree(DeepTree tree) {
+		tree.root.invalidateTree();
+		tree.root.validate();
+		return tree.root;
+	}
+
+	@Benchmark
+	public void findFigureAtWideLayer(WideLayer layer, Blackhole blackhole) {
+		int[] locations = layer.locations;
+		for (int i = 0; i < locations.length; i += 2) {
+			blackhole.consume(layer.layer.findFigureAt(locations[i], locations[i + 1]));
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.PrecisionRectangle;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the geometry operations which are executed for almost every figure
+ * during layout, painting and hit-testing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+	private static final int COUNT = 1024;
+
+	/**
+	 * The number of points of the poly-line.
+	 */
+	@Param({ "16", "1024" })
+	public int points;
+
+	private Rectangle[] rectangles;
+	private PrecisionRectangle[] precisionRectangles;
+	private PointList pointList;
+	private Point[] locations;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		rectangles = new Rectangle[COUNT];
+		precisionRectangles = new PrecisionRectangle[COUNT];
+		locations = new Point[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			rectangles[i] = new Rectangle(random.nextInt(1000), random.nextInt(1000), 1 + random.nextInt(200),
+					1 + random.nextInt(200));
+			precisionRectangles[i] = new PrecisionRectangle(random.nextDouble() * 1000, random.nextDouble() * 1000,
+					random.nextDouble() * 200, random.nextDouble() * 200);
+			locations[i] = new Point(random.nextInt(1200), random.nextInt(1200));
+		}
+		pointList = new PointList(points);
+		for (int i = 0; i < points; i++) {
+			pointList.addPoint(random.nextInt(1000), random.nextInt(1000));
+		}
+	}
+
+	@Benchmark
+	public Rectangle rectangleUnion() {
+		Rectangle union = rectangles[0].getCopy();
+		for (Rectangle r : rectangles) {
+			union.union(r);
+		}
+		return union;
+	}
+
+	@Benchmark
+	public void rectangleIntersect(Blackhole blackhole) {
+		Rectangle clip = rectangles[0];
+		for (Rectangle r : rectangles) {
+			blackhole.consume(r.getIntersection(clip));
+		}
+	}
+
+	@Benchmark
+	public int rectangleContains() {
+		int hits = 0;
+		for (int i = 0; i < COUNT; i++) {
+			if (rectangles[i].contains(locations[i])) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	public PrecisionRectangle precisionRectangleUnion() {
+		PrecisionRectangle union = precisionRectangles[0].getPreciseCopy();
+		for (Rectangle r : precisionRectangles) {
+			union.union(r);
+		}
+		return union;
+	}
+
+	@Benchmark
+	public void precisionRectangleScale(Blackhole blackhole) {
+		for (PrecisionRectangle r : precisionRectangles) {
+			PrecisionRectangle copy = r.getPreciseCopy();
+			copy.performScale(1.25);
+			blackhole.consume(copy);
+		}
+	}
+
+	@Benchmark
+	public Rectangle pointListBounds() {
+		// getBounds() caches its result, use a copy to measure the computation
+		return pointList.getCopy().getBounds();
+	}
+
+	@Benchmark
+	public int pointListContains() {
+		int hits = 0;
+		for (int i = 0; i < 64; i++) {
+			Point location = locations[i];
+			if (pointList.polylineContainsPoint(location.x, location.y, 3)) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	public PointList pointListTranslate() {
+		PointList copy = pointList.getCopy();
+		copy.performTranslate(10, 10);
+		copy.performScale(1.5);
+		return copy;
+	}
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.Path;
+import org.eclipse.draw2d.graph.ShortestPathRouter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the graph algorithms of draw2d on synthetic graphs. Both algorithms
+ * modify their input, so a fresh graph is created before every invocation. The
+ * invocations take milliseconds, which makes the overhead of the per-invocation
+ * setup negligible.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphBenchmark {
+
+	/**
+	 * A random connected, acyclic graph in which every node has up to
+	 * {@link #MAX_OUT_DEGREE} outgoing edges.
+	 */
+	@State(Scope.Thread)
+	public static class RandomGraph {
+
+		private static final int MAX_OUT_DEGREE = 3;
+
+		@Param({ "100", "500", "2000" })
+		public int nodes;
+
+		/**
+		 * The number of parallel restarts of the crossing minimization.
+		 */
+		@Param({ "0", "4" })
+		public int restarts;
+
+		DirectedGraph graph;
+
+		@Setup(Level.Invocation)
+		public void setUp() {
+			Random random = new Random(42);
+			graph = new DirectedGraph();
+			Node[] created = new Node[nodes];
+			for (int i = 0; i < nodes; i++) {
+				Node node = new Node(Integer.valueOf(i));
+				node.width = 20 + random.nextInt(60);
+				node.height = 20 + random.nextInt(20);
+				created[i] = node;
+				graph.nodes.add(node);
+				if (i > 0) {
+					// connect to an earlier node to keep the graph connected
+					graph.edges.add(new Edge(created[random.nextInt(i)], node));
+				}
+			}
+			for (int i = 0; i < nodes - 1; i++) {
+				int degree = random.nextInt(MAX_OUT_DEGREE);
+				for (int j = 0; j < degree; j++) {
+					int target = i + 1 + random.nextInt(Math.min(nodes - i - 1, 20));
+					graph.edges.add(new Edge(created[i], created[target]));
+				}
+			}
+		}
+	}
+
+	/**
+	 * A grid of obstacles with paths between random points in the gaps of the
+	 * grid.
+	 */
+	@State(Scope.Thread)
+	public static class RoutingProblem {
+
+		private static final int OBSTACLE_SIZE = 40;
+		private static final int GAP = 30;
+
+		@Param({ "25", "100", "400" })
+		public int obstacles;
+
+		@Param({ "10", "100" })
+		public int paths;
+
+		ShortestPathRouter router;
+
+		@Setup(Level.Invocation)
+		public void setUp() {
+			Random random = new Random(42);
+			router = new ShortestPathRouter();
+			int columns = (int) Math.ceil(Math.sqrt(obstacles));
+			int cell = OBSTACLE_SIZE + GAP;
+			for (int i = 0; i < obstacles; i++) {
+				router.addObstacle(new Rectangle((i % columns) * cell + random.nextInt(GAP / 2),
+						(i / columns) * cell + random.nextInt(GAP / 2), OBSTACLE_SIZE, OBSTACLE_SIZE));
+			}
+			for (int i = 0; i < paths; i++) {
+				router.addPath(new Path(gapPoint(random, columns, cell), gapPoint(random, columns, cell)));
+			}
+		}
+
+		private static Point gapPoint(Random random, int columns, int cell) {
+			// the bottom right corner of a cell is never covered by its obstacle
+			return new Point(random.nextInt(columns) * cell + cell - 5, random.nextInt(columns) * cell + cell - 5);
+		}
+	}
+
+	@Benchmark
+	public DirectedGraph directedGraphLayout(RandomGraph graph) {
+		DirectedGraphLayout layout = new DirectedGraphLayout();
+		layout.setCrossingMinimizationRestarts(graph.restarts);
+		layout.visit(graph.graph);
+		return graph.graph;
+	}
+
+	@Benchmark
+	public List<Path> shortestPathRouter(RoutingProblem problem) {
+		return problem.router.solve();
+	}
+
+}
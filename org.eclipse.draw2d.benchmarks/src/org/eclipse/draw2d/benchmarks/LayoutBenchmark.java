@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FlowLayout;
+import org.eclipse.draw2d.GridLayout;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.LayoutManager;
+import org.eclipse.draw2d.XYLayout;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a complete layout pass of a container using one of the standard
+ * layout managers. All cached sizes are discarded before each pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutBenchmark {
+
+	@Param({ "xy", "grid", "flow" })
+	public String layout;
+
+	@Param({ "100", "1000", "10000" })
+	public int children;
+
+	private IFigure container;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		LayoutManager manager = switch (layout) {
+		case "xy" -> new XYLayout(); //$NON-NLS-1$
+		case "grid" -> new GridLayout(10, false); //$NON-NLS-1$
+		case "flow" -> new FlowLayout(); //$NON-NLS-1$
+		default -> throw new IllegalArgumentException(layout);
+		};
+		container = new Figure();
+		container.setLayoutManager(manager);
+		container.setBounds(new Rectangle(0, 0, 2000, 2000));
+		for (int i = 0; i < children; i++) {
+			Figure child = new Figure();
+			child.setPreferredSize(new Dimension(10 + random.nextInt(90), 10 + random.nextInt(40)));
+			Object constraint = null;
+			if (manager instanceof XYLayout) {
+				constraint = new Rectangle(random.nextInt(2000), random.nextInt(2000), -1, -1);
+			}
+			container.add(child, constraint);
+		}
+	}
+
+	@Benchmark
+	public IFigure layout() {
+		container.invalidateTree();
+		container.validate();
+		return container;
+	}
+
+}
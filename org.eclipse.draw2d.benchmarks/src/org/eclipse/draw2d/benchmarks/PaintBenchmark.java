@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Ellipse;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Label;
+import org.eclipse.draw2d.Polyline;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.ScaledGraphics;
+import org.eclipse.draw2d.Shape;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures painting a figure tree into an offscreen image, either directly with
+ * {@link SWTGraphics} or through {@link ScaledGraphics}. A new GC is created
+ * for every paint, like the update manager does for every repaint.
+ * <p>
+ * SWT requires all calls to happen on the thread which created the display.
+ * The display is therefore created by the benchmark thread and the benchmark
+ * must not be run with more than one thread.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaintBenchmark {
+
+	private static final int WIDTH = 1600;
+	private static final int HEIGHT = 1200;
+
+	@Param({ "100", "1000" })
+	public int figures;
+
+	/**
+	 * The zoom factor, painting uses {@link ScaledGraphics} if it is not 1.
+	 */
+	@Param({ "1.0", "1.5" })
+	public double scale;
+
+	private Display display;
+	private boolean ownDisplay;
+	private Image image;
+	private IFigure root;
+
+	@Setup
+	public void setUp() {
+		display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+			ownDisplay = true;
+		}
+		image = new Image(display, WIDTH, HEIGHT);
+		root = new Figure();
+		root.setOpaque(true);
+		root.setBackgroundColor(ColorConstants.white);
+		root.setFont(display.getSystemFont());
+		root.setBounds(new Rectangle(0, 0, WIDTH, HEIGHT));
+		Random random = new Random(42);
+		for (int i = 0; i < figures; i++) {
+			Rectangle bounds = new Rectangle(random.nextInt(WIDTH), random.nextInt(HEIGHT), 20 + random.nextInt(100),
+					15 + random.nextInt(50));
+			IFigure figure = switch (i % 4) {
+			case 0 -> new RectangleFigure();
+			case 1 -> new Ellipse();
+			case 2 -> new Label("Label " + i); //$NON-NLS-1$
+			default -> createPolyline(bounds);
+			};
+			if (figure instanceof Shape shape) {
+				shape.setBackgroundColor(ColorConstants.lightBlue);
+				shape.setLineWidth(1 + i % 3);
+			}
+			if (!(figure instanceof Polyline)) {
+				// the bounds of a polyline are derived from its points
+				figure.setBounds(bounds);
+			}
+			root.add(figure);
+		}
+	}
+
+	private static IFigure createPolyline(Rectangle bounds) {
+		PointList points = new PointList(3);
+		points.addPoint(bounds.getTopLeft());
+		points.addPoint(new Point(bounds.getCenter().x, bounds.bottom()));
+		points.addPoint(bounds.getTopRight());
+		Polyline polyline = new Polyline();
+		polyline.setPoints(points);
+		return polyline;
+	}
+
+	@TearDown
+	public void tearDown() {
+		image.dispose();
+		if (ownDisplay) {
+			display.dispose();
+		}
+	}
+
+	@Benchmark
+	public Image paint() {
+		GC gc = new GC(image);
+		SWTGraphics swtGraphics = new SWTGraphics(gc);
+		Graphics graphics = swtGraphics;
+		if (scale != 1.0) {
+			graphics = new ScaledGraphics(swtGraphics);
+			graphics.scale(scale);
+		}
+		try {
+			root.paint(graphics);
+		} finally {
+			if (graphics != swtGraphics) {
+				graphics.dispose();
+			}
+			swtGraphics.dispose();
+			gc.dispose();
+		}
+		return image;
+	}
+
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.graph.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphDelta;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings("nls")
+public class IncrementalDirectedGraphLayoutTest {
+	DirectedGraphLayout layout;
+	DirectedGraph g;
+
+	@Before
+	public void setUp() {
+		Random random = new Random(7);
+		g = new DirectedGraph();
+		for (int i = 0; i < 60; i++) {
+			Node node = new Node("n" + i);
+			node.width = 20 + random.nextInt(40);
+			node.height = 20;
+			g.nodes.add(node);
+			if (i > 0) {
+				g.edges.add(new Edge(g.nodes.get(random.nextInt(i)), node));
+			}
+			if (i > 5 && random.nextBoolean()) {
+				g.edges.add(new Edge(g.nodes.get(random.nextInt(i)), node));
+			}
+		}
+		layout = new DirectedGraphLayout();
+		layout.visit(g);
+	}
+
+	@Test
+	public void test_emptyDeltaKeepsLayout() {
+		List<int[]> before = getLocations();
+
+		layout.visit(g, new DirectedGraphDelta());
+
+		List<int[]> after = getLocations();
+		for (int i = 0; i < before.size(); i++) {
+			assertEquals(before.get(i)[0], after.get(i)[0]);
+			assertEquals(before.get(i)[1], after.get(i)[1]);
+		}
+	}
+
+	@Test
+	public void test_addNode() {
+		Node parent = g.nodes.get(10);
+		Node child = new Node("new");
+		child.width = 30;
+		child.height = 20;
+		DirectedGraphDelta delta = new DirectedGraphDelta();
+		delta.addedNodes.add(child);
+		delta.addedEdges.add(new Edge(parent, child));
+
+		layout.visit(g, delta);
+
+		assertTrue(g.nodes.contains(child));
+		assertEquals(1, child.incoming.size());
+		assertTrue(g.edges.contains(child.incoming.get(0)));
+		assertEquals(getRank(parent) + 1, getRank(child));
+		assertValidLayout();
+	}
+
+	@Test
+	public void test_removeNode() {
+		Node removed = g.nodes.get(30);
+		int edges = g.edges.size() - removed.incoming.size() - removed.outgoing.size();
+		DirectedGraphDelta delta = new DirectedGraphDelta();
+		delta.removedNodes.add(removed);
+
+		layout.visit(g, delta);
+
+		assertFalse(g.nodes.contains(removed));
+		assertEquals(edges, g.edges.size());
+		assertValidLayout();
+	}
+
+	@Test
+	public void test_rankAssignmentIsOptimal() {
+		DirectedGraphDelta delta = new DirectedGraphDelta();
+		Node node = new Node("new");
+		delta.addedNodes.add(node);
+		delta.addedEdges.add(new Edge(g.nodes.get(0), node));
+		delta.addedEdges.add(new Edge(node, g.nodes.get(50)));
+		delta.removedEdges.add(g.edges.get(20));
+
+		layout.visit(g, delta);
+		int incremental = getTotalEdgeLength();
+		new DirectedGraphLayout().visit(g);
+
+		assertEquals(getTotalEdgeLength(), incremental);
+		assertValidLayout();
+	}
+
+	@Test
+	public void test_unchangedRowsKeepOrder() {
+		Node last = g.nodes.get(g.nodes.size() - 1);
+		int bottom = 0;
+		for (Node node : g.nodes) {
+			bottom = Math.max(bottom, getRank(node));
+		}
+		List<Node> top = new ArrayList<>();
+		for (Node node : g.nodes) {
+			if (getRank(node) == 0) {
+				top.add(node);
+			}
+		}
+		top.sort((n1, n2) -> n1.x - n2.x);
+		DirectedGraphDelta delta = new DirectedGraphDelta();
+		Node node = new Node("new");
+		delta.addedNodes.add(node);
+		delta.addedEdges.add(new Edge(last, node));
+
+		layout.visit(g, delta);
+
+		for (int i = 1; i < top.size(); i++) {
+			assertTrue(top.get(i - 1).x < top.get(i).x);
+		}
+		assertTrue(getRank(node) > getRank(last));
+		assertTrue(bottom >= 3);
+	}
+
+	@Test
+	public void test_firstLayout() {
+		DirectedGraph graph = new DirectedGraph();
+		DirectedGraphDelta delta = new DirectedGraphDelta();
+		Node n1 = new Node("n1");
+		Node n2 = new Node("n2");
+		delta.addedNodes.add(n1);
+		delta.addedNodes.add(n2);
+		delta.addedEdges.add(new Edge(n1, n2));
+
+		layout.visit(graph, delta);
+
+		assertEquals(2, graph.nodes.size());
+		assertEquals(1, graph.edges.size());
+		assertEquals(0, getRank(n1));
+		assertEquals(1, getRank(n2));
+	}
+
+	private void assertValidLayout() {
+		for (Node node : g.nodes) {
+			assertTrue(getRank(node) >= 0);
+			assertTrue(node.x >= 0);
+		}
+		for (Edge edge : g.edges) {
+			assertTrue(getRank(edge.target) >= getRank(edge.source) + edge.delta);
+			assertTrue(edge.target.y > edge.source.y);
+		}
+	}
+
+	private List<int[]> getLocations() {
+		List<int[]> locations = new ArrayList<>();
+		for (Node node : g.nodes) {
+			locations.add(new int[] { node.x, node.y });
+		}
+		return locations;
+	}
+
+	private int getTotalEdgeLength() {
+		int length = 0;
+		for (Edge edge : g.edges) {
+			length += edge.weight * (getRank(edge.target) - getRank(edge.source));
+		}
+		return length;
+	}
+
+	private static final int getRank(Node n) {
+		try {
+			Field f = Node.class.getDeclaredField("rank");
+			f.setAccessible(true);
+			return f.getInt(n);
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.graph.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+
+import org.junit.Test;
+
+@SuppressWarnings("nls")
+public class MinCrossRestartsTest {
+
+	private static DirectedGraph createGraph(int rows, int width, long seed) {
+		Random random = new Random(seed);
+		DirectedGraph g = new DirectedGraph();
+		List<Node> previous = new ArrayList<>();
+		for (int row = 0; row < rows; row++) {
+			List<Node> current = new ArrayList<>();
+			for (int i = 0; i < width; i++) {
+				Node node = new Node(row + ":" + i);
+				node.width = 20;
+				node.height = 20;
+				g.nodes.add(node);
+				current.add(node);
+				if (!previous.isEmpty()) {
+					g.edges.add(new Edge(previous.get(random.nextInt(previous.size())), node));
+					if (random.nextBoolean()) {
+						g.edges.add(new Edge(previous.get(random.nextInt(previous.size())), node));
+					}
+				}
+			}
+			previous = current;
+		}
+		return g;
+	}
+
+	/**
+	 * Counts the crossings of the edges between adjacent ranks, using the
+	 * coordinates of the nodes and bendpoints.
+	 */
+	private static int countCrossings(DirectedGraph g) {
+		List<int[]> segments = new ArrayList<>();
+		for (Edge edge : g.edges) {
+			List<Node> path = new ArrayList<>();
+			path.add(edge.source);
+			if (edge.vNodes != null) {
+				path.addAll(edge.vNodes);
+			}
+			path.add(edge.target);
+			for (int i = 0; i < path.size() - 1; i++) {
+				Node n1 = path.get(i);
+				Node n2 = path.get(i + 1);
+				segments.add(new int[] { n1.y, n1.x + n1.width / 2, n2.x + n2.width / 2 });
+			}
+		}
+		int crossings = 0;
+		for (int i = 0; i < segments.size(); i++) {
+			for (int j = i + 1; j < segments.size(); j++) {
+				int[] s1 = segments.get(i);
+				int[] s2 = segments.get(j);
+				if (s1[0] == s2[0] && (long) (s1[1] - s2[1]) * (s1[2] - s2[2]) < 0) {
+					crossings++;
+				}
+			}
+		}
+		return crossings;
+	}
+
+	@Test
+	public void testRestartsReduceCrossings() {
+		int reduced = 0;
+		for (long seed = 0; seed < 5; seed++) {
+			DirectedGraph regular = createGraph(6, 25, seed);
+			new DirectedGraphLayout().visit(regular);
+
+			DirectedGraph restarted = createGraph(6, 25, seed);
+			DirectedGraphLayout layout = new DirectedGraphLayout();
+			layout.setCrossingMinimizationRestarts(8);
+			layout.visit(restarted);
+
+			int before = countCrossings(regular);
+			int after = countCrossings(restarted);
+			assertTrue(after <= before);
+			if (after < before) {
+				reduced++;
+			}
+		}
+		assertTrue(reduced > 0);
+	}
+
+	@Test
+	public void testRestartsAreReproducible() {
+		DirectedGraph g1 = createGraph(5, 30, 42);
+		DirectedGraph g2 = createGraph(5, 30, 42);
+		for (DirectedGraph g : List.of(g1, g2)) {
+			DirectedGraphLayout layout = new DirectedGraphLayout();
+			layout.setCrossingMinimizationRestarts(4);
+			layout.visit(g);
+		}
+		for (int i = 0; i < g1.nodes.size(); i++) {
+			assertEquals(g1.nodes.get(i).x, g2.nodes.get(i).x);
+			assertEquals(g1.nodes.get(i).y, g2.nodes.get(i).y);
+		}
+	}
+
+	@Test
+	public void testTimeLimit() {
+		DirectedGraph g = createGraph(10, 100, 1);
+		DirectedGraphLayout layout = new DirectedGraphLayout();
+		layout.setCrossingMinimizationRestarts(4);
+		layout.setCrossingMinimizationTimeLimit(1);
+		layout.visit(g);
+		for (Edge edge : g.edges) {
+			assertTrue(edge.target.y > edge.source.y);
+		}
+		assertEquals(1, layout.getCrossingMinimizationTimeLimit());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeRestarts() {
+		new DirectedGraphLayout().setCrossingMinimizationRestarts(-1);
+	}
+}
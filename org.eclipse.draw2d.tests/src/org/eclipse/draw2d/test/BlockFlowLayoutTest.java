@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.text.BlockFlow;
+import org.eclipse.draw2d.text.FlowAdapter;
+import org.eclipse.draw2d.text.FlowPage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlockFlowLayoutTest {
+
+	private static final int PARAGRAPHS = 100;
+
+	/**
+	 * Inline figure of a fixed size, which counts how often it is laid out.
+	 */
+	private static class Box extends FlowAdapter {
+		int layouts;
+
+		Box(int width, int height) {
+			setPreferredSize(width, height);
+		}
+
+		@Override
+		protected void layout() {
+			layouts++;
+			super.layout();
+		}
+	}
+
+	private FlowPage page;
+	private BlockFlow[] paragraphs;
+	private Box[] boxes;
+
+	@Before
+	public void setUp() {
+		page = new FlowPage();
+		paragraphs = new BlockFlow[PARAGRAPHS];
+		boxes = new Box[PARAGRAPHS];
+		for (int i = 0; i < PARAGRAPHS; i++) {
+			paragraphs[i] = new BlockFlow();
+			boxes[i] = new Box(50 + i % 7 * 10, 10);
+			paragraphs[i].add(boxes[i]);
+			paragraphs[i].add(new Box(80, 15));
+			page.add(paragraphs[i]);
+		}
+		page.setBounds(new Rectangle(0, 0, 120, 0));
+		page.validate();
+	}
+
+	private int getLayoutCount() {
+		int count = 0;
+		for (Box box : boxes) {
+			count += box.layouts;
+			box.layouts = 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a copy of the page laid out from scratch.
+	 */
+	private FlowPage createExpectedPage() {
+		FlowPage expected = new FlowPage();
+		for (BlockFlow paragraph : paragraphs) {
+			BlockFlow copy = new BlockFlow();
+			copy.setHorizontalAligment(paragraph.getLocalHorizontalAlignment());
+			paragraph.getChildren().forEach(child -> {
+				Dimension size = child.getPreferredSize();
+				copy.add(new Box(size.width, size.height));
+			});
+			expected.add(copy);
+		}
+		expected.setHorizontalAligment(page.getLocalHorizontalAlignment());
+		expected.setBounds(new Rectangle(0, 0, page.getBounds().width, 0));
+		expected.validate();
+		return expected;
+	}
+
+	/**
+	 * Compares the bounds of the children of the given paragraph with those of a
+	 * page laid out from scratch.
+	 */
+	private void assertParagraphEquals(FlowPage expected, int i) {
+		for (int j = 0; j < paragraphs[i].getChildren().size(); j++) {
+			assertEquals(expected.getChildren().get(i).getChildren().get(j).getBounds(),
+					paragraphs[i].getChildren().get(j).getBounds());
+		}
+	}
+
+	/**
+	 * Compares the bounds of all paragraphs with those of a page laid out from
+	 * scratch.
+	 */
+	private void assertLayoutEquals() {
+		FlowPage expected = createExpectedPage();
+		for (int i = 0; i < PARAGRAPHS; i++) {
+			assertEquals(expected.getChildren().get(i).getBounds(), paragraphs[i].getBounds());
+			assertParagraphEquals(expected, i);
+		}
+		int width = page.getBounds().width;
+		assertEquals(expected.getPreferredSize(width, -1), page.getPreferredSize(width, -1));
+	}
+
+	/**
+	 * Only the changed paragraph must be laid out again, while the paragraphs
+	 * below it are moved.
+	 */
+	@Test
+	public void testChangedParagraph() {
+		assertEquals(PARAGRAPHS, getLayoutCount());
+		assertLayoutEquals();
+
+		boxes[40].setPreferredSize(new Dimension(60, 30));
+		page.validate();
+		assertEquals(1, getLayoutCount());
+		assertLayoutEquals();
+
+		paragraphs[41].remove(paragraphs[41].getChildren().get(1));
+		page.validate();
+		assertEquals(1, getLayoutCount());
+		assertLayoutEquals();
+	}
+
+	/**
+	 * All paragraphs must be laid out again if their width or an inherited
+	 * property changes.
+	 */
+	@Test
+	public void testChangedPage() {
+		getLayoutCount();
+		page.setBounds(new Rectangle(0, 0, 200, 0));
+		page.validate();
+		assertEquals(PARAGRAPHS, getLayoutCount());
+		page.setBounds(new Rectangle(0, 0, 120, 0));
+		page.validate();
+		assertEquals(PARAGRAPHS, getLayoutCount());
+
+		page.setHorizontalAligment(PositionConstants.RIGHT);
+		page.validate();
+		assertEquals(PARAGRAPHS, getLayoutCount());
+		assertLayoutEquals();
+	}
+
+	/**
+	 * A virtualized page must only lay out the paragraphs near the visible area of
+	 * its viewport, and lay out the others once they are scrolled into view.
+	 */
+	@Test
+	public void testVirtualized() {
+		Viewport viewport = new Viewport(true);
+		viewport.setContentsTracksWidth(true);
+		viewport.setContents(page);
+		viewport.addNotify();
+		page.setVirtualized(true);
+		getLayoutCount();
+
+		viewport.setBounds(new Rectangle(0, 0, 150, 50));
+		viewport.validate();
+		int layouts = getLayoutCount();
+		assertTrue(layouts > 0 && layouts < PARAGRAPHS / 4);
+		assertVisibleParagraphsEqual(viewport);
+
+		viewport.setViewLocation(0, 1000);
+		viewport.validate();
+		assertEquals(1000, viewport.getViewLocation().y);
+		layouts += getLayoutCount();
+		assertTrue(layouts < PARAGRAPHS / 2);
+		assertVisibleParagraphsEqual(viewport);
+
+		// scrolling within the laid out area does not lay out any paragraph
+		viewport.setViewLocation(0, 1010);
+		viewport.validate();
+		assertEquals(0, getLayoutCount());
+
+		page.setVirtualized(false);
+		viewport.validate();
+		assertEquals(PARAGRAPHS - layouts, getLayoutCount());
+		assertLayoutEquals();
+	}
+
+	private void assertVisibleParagraphsEqual(Viewport viewport) {
+		FlowPage expected = createExpectedPage();
+		Rectangle visible = viewport.getClientArea();
+		int count = 0;
+		for (int i = 0; i < PARAGRAPHS; i++) {
+			if (paragraphs[i].getBounds().intersects(visible)) {
+				assertParagraphEquals(expected, i);
+				count++;
+			}
+		}
+		assertTrue(count > 0);
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.draw2d.DisjointDamageStrategy;
+import org.eclipse.draw2d.IDamageStrategy;
+import org.eclipse.draw2d.UnionDamageStrategy;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DamageStrategyTest extends Assert {
+
+	private static List<Rectangle> damage(Rectangle... rects) {
+		return new ArrayList<>(Arrays.asList(rects));
+	}
+
+	@Test
+	public void testUnion() {
+		IDamageStrategy strategy = new UnionDamageStrategy();
+		assertEquals(List.of(), strategy.getRepaintRegions(damage()));
+		assertEquals(List.of(new Rectangle(0, 0, 4000, 2000)),
+				strategy.getRepaintRegions(damage(new Rectangle(0, 0, 10, 10), new Rectangle(3990, 1990, 10, 10))));
+	}
+
+	@Test
+	public void testDistantRegionsArePaintedSeparately() {
+		IDamageStrategy strategy = new DisjointDamageStrategy();
+		List<Rectangle> regions = strategy
+				.getRepaintRegions(damage(new Rectangle(0, 0, 10, 10), new Rectangle(3990, 1990, 10, 10)));
+		assertEquals(List.of(new Rectangle(0, 0, 10, 10), new Rectangle(3990, 1990, 10, 10)), regions);
+	}
+
+	@Test
+	public void testOverlappingRegionsAreMerged() {
+		IDamageStrategy strategy = new DisjointDamageStrategy();
+		List<Rectangle> regions = strategy.getRepaintRegions(damage(new Rectangle(0, 0, 100, 100),
+				new Rectangle(500, 0, 100, 100), new Rectangle(50, 50, 500, 10)));
+		assertEquals(List.of(new Rectangle(0, 0, 600, 100)), regions);
+	}
+
+	@Test
+	public void testAdjacentRegionsAreMerged() {
+		IDamageStrategy strategy = new DisjointDamageStrategy();
+		List<Rectangle> regions = strategy
+				.getRepaintRegions(damage(new Rectangle(0, 0, 100, 100), new Rectangle(100, 0, 100, 90)));
+		assertEquals(List.of(new Rectangle(0, 0, 200, 100)), regions);
+	}
+
+	@Test
+	public void testRegionLimit() {
+		IDamageStrategy strategy = new DisjointDamageStrategy(3, 0);
+		List<Rectangle> damage = damage();
+		for (int i = 0; i < 20; i++) {
+			damage.add(new Rectangle(i * 100 + (i % 3) * 7, (i * 37) % 500, 10, 10));
+		}
+		List<Rectangle> regions = strategy.getRepaintRegions(new ArrayList<>(damage));
+		assertTrue(regions.size() <= 3);
+		for (Rectangle area : damage) {
+			assertTrue(regions.stream().anyMatch(region -> region.contains(area)));
+		}
+		for (int i = 0; i < regions.size(); i++) {
+			for (int j = i + 1; j < regions.size(); j++) {
+				assertFalse(regions.get(i).intersects(regions.get(j)));
+			}
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.DeferredUpdateManager;
+import org.eclipse.draw2d.UpdateListener;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeferredUpdateManagerTest extends Assert {
+
+	private static final long FRAME_INTERVAL = 10_000_000L;
+
+	/**
+	 * Update manager whose updates take at least the given time.
+	 */
+	private static class SlowUpdateManager extends DeferredUpdateManager {
+		long updateTime;
+
+		@Override
+		protected void repairDamage() {
+			super.repairDamage();
+			try {
+				Thread.sleep(updateTime);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private SlowUpdateManager manager;
+	private List<long[]> droppedFrames;
+
+	@Before
+	public void setUp() {
+		manager = new SlowUpdateManager();
+		droppedFrames = new ArrayList<>();
+		manager.addUpdateListener(new UpdateListener.Stub() {
+			@Override
+			public void notifyFramesDropped(int count, long frameDuration) {
+				droppedFrames.add(new long[] { count, frameDuration });
+			}
+		});
+	}
+
+	@Test
+	public void testLastFrameDuration() {
+		assertEquals(0, manager.getLastFrameDuration());
+		manager.updateTime = 20;
+		manager.performUpdate();
+		assertTrue(manager.getLastFrameDuration() >= 20_000_000L);
+	}
+
+	@Test
+	public void testLongFrameDropsFrames() {
+		manager.setTargetFrameRate(100);
+		manager.updateTime = 55;
+		manager.performUpdate();
+
+		assertEquals(1, droppedFrames.size());
+		long duration = manager.getLastFrameDuration();
+		assertEquals(duration / FRAME_INTERVAL, droppedFrames.get(0)[0]);
+		assertEquals(duration, droppedFrames.get(0)[1]);
+		assertTrue(droppedFrames.get(0)[0] >= 5);
+	}
+
+	@Test
+	public void testShortFrameDropsNoFrames() {
+		manager.setTargetFrameRate(10);
+		manager.performUpdate();
+		assertTrue(droppedFrames.isEmpty());
+	}
+
+	@Test
+	public void testNoTargetFrameRate() {
+		manager.updateTime = 30;
+		manager.performUpdate();
+		manager.setTargetFrameRate(0);
+		manager.performUpdate();
+		manager.setTargetFrameRate(-1);
+		manager.performUpdate();
+		assertTrue(droppedFrames.isEmpty());
+	}
+
+	@Test
+	public void testHighTargetFrameRate() {
+		// the frame interval must not be rounded down to "unlimited"
+		manager.setTargetFrameRate(Integer.MAX_VALUE);
+		manager.updateTime = 1;
+		manager.performUpdate();
+		assertEquals(1, droppedFrames.size());
+	}
+
+	@Test
+	public void testTargetFrameRateOverridesRefreshRate() {
+		Display display = Display.getDefault();
+		manager.setRefreshRate(60_000);
+		manager.setTargetFrameRate(100);
+		boolean[] updated = new boolean[1];
+		manager.runWithUpdate(() -> updated[0] = true);
+
+		long end = System.currentTimeMillis() + 5000;
+		while (!updated[0] && System.currentTimeMillis() < end) {
+			if (!display.readAndDispatch()) {
+				Thread.yield();
+			}
+		}
+		assertTrue(updated[0]);
+	}
+}
@@ -14,6 +14,8 @@
 package org.eclipse.draw2d.test;
 
 import org.eclipse.draw2d.graph.test.DirectedGraphLayoutTest;
+import org.eclipse.draw2d.graph.test.IncrementalDirectedGraphLayoutTest;
+import org.eclipse.draw2d.graph.test.MinCrossRestartsTest;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -26,9 +28,13 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	FanRouterTest.class,
+	ManhattanConnectionRouterTest.class,
+	PolylineTest.class,
 	ShortestPathRoutingTest.class,
+	ShortestPathConnectionRouterTest.class,
 	XYLayoutTest.class,
 	TextFlowWrapTest.class,
+	BlockFlowLayoutTest.class,
 	LocalOptimizerTest.class,
 	AdvancedGraphicsTests.class,
 	FlowBorderTests.class,
@@ -56,9 +62,15 @@ import org.junit.runners.Suite;
 	GeometryTest.class,
 	ScalablePolygonShapeTest.class,
 	LayerTest.class,
+	FigureSpatialIndexTest.class,
+	DamageStrategyTest.class,
+	DeferredUpdateManagerTest.class,
+	UpdateStatisticsTest.class,
 	ShapeTest.class,
 	InsetsTest.class,
 	DirectedGraphLayoutTest.class,
+	IncrementalDirectedGraphLayoutTest.class,
+	MinCrossRestartsTest.class,
 	ScrollPaneTests.class
 })
 public class Draw2dTestSuite {
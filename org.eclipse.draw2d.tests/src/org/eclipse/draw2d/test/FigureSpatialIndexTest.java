@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.Collections;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Layer;
+import org.eclipse.draw2d.MouseListener;
+import org.eclipse.draw2d.Polyline;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FigureSpatialIndexTest extends Assert {
+
+	private Figure container;
+
+	@Before
+	public void setUp() {
+		container = new Figure();
+		container.setBounds(new Rectangle(-1000, -1000, 5000, 5000));
+		container.setSpatialIndexEnabled(true);
+	}
+
+	private static IFigure createChild(int x, int y, int width, int height) {
+		Figure child = new Figure();
+		child.setBounds(new Rectangle(x, y, width, height));
+		return child;
+	}
+
+	@Test
+	public void testFindsTopMostChild() {
+		IFigure bottom = createChild(0, 0, 100, 100);
+		IFigure top = createChild(50, 50, 100, 100);
+		top.addMouseListener(new MouseListener.Stub());
+		container.add(bottom);
+		container.add(top);
+
+		assertSame(top, container.findFigureAt(75, 75));
+		assertSame(bottom, container.findFigureAt(25, 25));
+		assertSame(container, container.findFigureAt(500, 500));
+		assertSame(top, container.findMouseEventTargetAt(75, 75));
+		assertNull(container.findMouseEventTargetAt(25, 25));
+	}
+
+	@Test
+	public void testChildInsertedBelow() {
+		IFigure top = createChild(0, 0, 100, 100);
+		container.add(top);
+		assertSame(top, container.findFigureAt(50, 50));
+
+		IFigure bottom = createChild(0, 0, 100, 100);
+		container.add(bottom, 0);
+		assertSame(top, container.findFigureAt(50, 50));
+
+		container.remove(top);
+		assertSame(bottom, container.findFigureAt(50, 50));
+	}
+
+	@Test
+	public void testMovedChild() {
+		IFigure child = createChild(0, 0, 100, 100);
+		container.add(child);
+		assertSame(child, container.findFigureAt(50, 50));
+
+		child.setBounds(new Rectangle(1000, -500, 20, 20));
+		assertSame(container, container.findFigureAt(50, 50));
+		assertSame(child, container.findFigureAt(1010, -490));
+	}
+
+	@Test
+	public void testLargeChild() {
+		IFigure large = createChild(-1000, -1000, 4000, 4000);
+		IFigure small = createChild(10, 10, 10, 10);
+		container.add(large);
+		container.add(small);
+
+		assertSame(small, container.findFigureAt(15, 15));
+		assertSame(large, container.findFigureAt(2500, 2500));
+		assertSame(large, container.findFigureAtExcluding(15, 15, Collections.singleton(small)));
+	}
+
+	@Test
+	public void testTransparentLayer() {
+		Layer layer = new Layer();
+		layer.setBounds(new Rectangle(0, 0, 1000, 1000));
+		layer.setSpatialIndexEnabled(true);
+		IFigure child = createChild(100, 100, 50, 50);
+		layer.add(child);
+
+		assertTrue(layer.containsPoint(120, 120));
+		assertFalse(layer.containsPoint(500, 500));
+		assertSame(child, layer.findFigureAt(120, 120));
+		assertNull(layer.findFigureAt(500, 500));
+	}
+
+	/**
+	 * Polylines contain points up to their tolerance outside of their bounds.
+	 */
+	@Test
+	public void testPolylineTolerance() {
+		Polyline line = new Polyline();
+		line.addPoint(new Point(100, 100));
+		line.addPoint(new Point(300, 100));
+		container.add(line);
+
+		assertSame(line, container.findFigureAt(200, 102));
+		assertSame(line, container.findFigureAt(200, 98));
+		assertSame(container, container.findFigureAt(200, 103));
+
+		line.setTolerance(5);
+		assertSame(line, container.findFigureAt(200, 105));
+
+		PointList points = new PointList();
+		points.addPoint(100, 500);
+		points.addPoint(300, 500);
+		line.setPoints(points);
+		assertSame(container, container.findFigureAt(200, 100));
+		assertSame(line, container.findFigureAt(200, 505));
+	}
+
+	/**
+	 * Only the children intersecting the clip are visited while painting.
+	 */
+	@Test
+	public void testPaintSkipsChildrenOutsideClip() {
+		for (int i = 0; i < 10; i++) {
+			for (int j = 0; j < 10; j++) {
+				container.add(createChild(i * 300, j * 300, 50, 50));
+			}
+		}
+		IFigure hidden = createChild(50, 50, 10, 10);
+		hidden.setVisible(false);
+		container.add(hidden);
+
+		paint(container, 200, 200);
+		assertEquals(2, container.getVisitedChildrenCount());
+		assertEquals(1, container.getPaintedChildrenCount());
+
+		paint(container, 200, 200);
+		assertEquals(4, container.getVisitedChildrenCount());
+		assertEquals(2, container.getPaintedChildrenCount());
+
+		container.resetPaintCounters();
+		assertEquals(0, container.getVisitedChildrenCount());
+		assertEquals(0, container.getPaintedChildrenCount());
+
+		container.setSpatialIndexEnabled(false);
+		paint(container, 200, 200);
+		assertEquals(0, container.getVisitedChildrenCount());
+		assertEquals(0, container.getPaintedChildrenCount());
+	}
+
+	private static void paint(IFigure figure, int width, int height) {
+		Image image = new Image(Display.getDefault(), width, height);
+		GC gc = new GC(image);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			figure.paint(graphics);
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+			image.dispose();
+		}
+	}
+
+	@Test
+	public void testSameResultAsWithoutIndex() {
+		for (int i = 0; i < 500; i++) {
+			container.add(createChild((i * 37) % 2000, (i * 53) % 2000, 10 + i % 90, 10 + i % 70));
+		}
+		for (int x = 0; x < 2100; x += 13) {
+			for (int y = 0; y < 2100; y += 17) {
+				container.setSpatialIndexEnabled(true);
+				IFigure indexed = container.findFigureAt(x, y);
+				container.setSpatialIndexEnabled(false);
+				assertSame(container.findFigureAt(x, y), indexed);
+			}
+		}
+	}
+}
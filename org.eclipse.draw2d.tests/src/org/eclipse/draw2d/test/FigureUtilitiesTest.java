@@ -13,9 +13,14 @@
 
 package org.eclipse.draw2d.test;
 
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
+
 import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.FigureUtilities;
 import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.TextUtilities;
+import org.eclipse.draw2d.geometry.Dimension;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -88,4 +93,91 @@ public class FigureUtilitiesTest extends Assert {
 		IFigure result = FigureUtilities.findCommonAncestor(figureChild, orphanFigure);
 		assertNull(result);
 	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testTextExtentCache() {
+		Font font = new Font(null, "Arial", 10, SWT.NORMAL); //$NON-NLS-1$
+		try {
+			FigureUtilities.resetTextExtentCacheStatistics();
+			Dimension extents = FigureUtilities.getTextExtents("draw2d", font); //$NON-NLS-1$
+			assertEquals(0, FigureUtilities.getTextExtentCacheHits());
+			assertEquals(1, FigureUtilities.getTextExtentCacheMisses());
+
+			// measurements via TextUtilities share the cache
+			assertEquals(extents, TextUtilities.INSTANCE.getTextExtents("draw2d", font)); //$NON-NLS-1$
+			assertEquals(1, FigureUtilities.getTextExtentCacheHits());
+
+			// the cached extents must not be modified by callers
+			extents.expand(10, 10);
+			assertNotEquals(extents, FigureUtilities.getTextExtents("draw2d", font)); //$NON-NLS-1$
+			assertEquals(2, FigureUtilities.getTextExtentCacheHits());
+
+			// string extents are cached separately
+			FigureUtilities.getStringExtents("draw2d", font); //$NON-NLS-1$
+			assertEquals(2, FigureUtilities.getTextExtentCacheMisses());
+
+			FigureUtilities.invalidateTextExtents(font);
+			FigureUtilities.getTextExtents("draw2d", font); //$NON-NLS-1$
+			assertEquals(3, FigureUtilities.getTextExtentCacheMisses());
+		} finally {
+			FigureUtilities.invalidateTextExtents(font);
+			font.dispose();
+		}
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testTextExtentCacheSize() {
+		int size = FigureUtilities.getTextExtentCacheSize();
+		Font font = new Font(null, "Arial", 10, SWT.NORMAL); //$NON-NLS-1$
+		try {
+			FigureUtilities.setTextExtentCacheSize(1);
+			FigureUtilities.resetTextExtentCacheStatistics();
+			FigureUtilities.getTextExtents("a", font); //$NON-NLS-1$
+			FigureUtilities.getTextExtents("b", font); //$NON-NLS-1$
+			FigureUtilities.getTextExtents("a", font); //$NON-NLS-1$
+			assertEquals(0, FigureUtilities.getTextExtentCacheHits());
+			assertEquals(3, FigureUtilities.getTextExtentCacheMisses());
+
+			// a disabled cache measures every string
+			FigureUtilities.setTextExtentCacheSize(0);
+			FigureUtilities.getTextExtents("a", font); //$NON-NLS-1$
+			assertEquals(0, FigureUtilities.getTextExtentCacheHits());
+
+			assertThrows(IllegalArgumentException.class, () -> FigureUtilities.setTextExtentCacheSize(-1));
+		} finally {
+			FigureUtilities.setTextExtentCacheSize(size);
+			FigureUtilities.invalidateTextExtents(font);
+			font.dispose();
+		}
+	}
+
+	/**
+	 * Accessing the cache settings and statistics on another thread must not bind
+	 * the cache to that thread.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testTextExtentCacheAccessedFromOtherThread() throws InterruptedException {
+		int size = FigureUtilities.getTextExtentCacheSize();
+		Thread thread = new Thread(() -> {
+			FigureUtilities.getTextExtentCacheHits();
+			FigureUtilities.resetTextExtentCacheStatistics();
+			FigureUtilities.setTextExtentCacheSize(size);
+		});
+		thread.start();
+		thread.join();
+
+		Font font = new Font(null, "Arial", 10, SWT.NORMAL); //$NON-NLS-1$
+		try {
+			FigureUtilities.resetTextExtentCacheStatistics();
+			FigureUtilities.getTextExtents("draw2d", font); //$NON-NLS-1$
+			FigureUtilities.getTextExtents("draw2d", font); //$NON-NLS-1$
+			assertEquals(1, FigureUtilities.getTextExtentCacheHits());
+		} finally {
+			FigureUtilities.invalidateTextExtents(font);
+			font.dispose();
+		}
+	}
 }
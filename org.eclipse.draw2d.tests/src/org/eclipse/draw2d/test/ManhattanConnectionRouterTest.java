@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.draw2d.ChopboxAnchor;
+import org.eclipse.draw2d.Connection;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.ManhattanConnectionRouter;
+import org.eclipse.draw2d.PolylineConnection;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ManhattanConnectionRouterTest {
+	IFigure container;
+	IFigure source;
+	IFigure target;
+	IFigure obstacle;
+
+	@Before
+	public void setUp() {
+		container = new Figure();
+		source = new Figure();
+		source.setBounds(new Rectangle(0, 0, 40, 40));
+		container.add(source);
+		target = new Figure();
+		target.setBounds(new Rectangle(200, 100, 40, 40));
+		container.add(target);
+		obstacle = new Figure();
+		obstacle.setBounds(new Rectangle(100, 0, 40, 140));
+		container.add(obstacle);
+	}
+
+	private Connection createConnection() {
+		Connection connection = new PolylineConnection();
+		connection.setSourceAnchor(new ChopboxAnchor(source));
+		connection.setTargetAnchor(new ChopboxAnchor(target));
+		return connection;
+	}
+
+	/**
+	 * Connections between the same figures must not share the column of their
+	 * middle segment. The column of an invalidated connection becomes available
+	 * again.
+	 */
+	@Test
+	public void testDistinctColumns() {
+		ManhattanConnectionRouter router = new ManhattanConnectionRouter();
+		Set<Integer> columns = new HashSet<>();
+		Connection first = null;
+		for (int i = 0; i < 10; i++) {
+			Connection connection = createConnection();
+			router.route(connection);
+			PointList points = connection.getPoints();
+			assertEquals(4, points.size());
+			assertEquals(points.getPoint(1).x, points.getPoint(2).x);
+			assertTrue(columns.add(Integer.valueOf(points.getPoint(1).x)));
+			if (first == null) {
+				first = connection;
+			}
+		}
+
+		int column = first.getPoints().getPoint(1).x;
+		router.remove(first);
+		Connection connection = createConnection();
+		router.route(connection);
+		assertEquals(column, connection.getPoints().getPoint(1).x);
+	}
+
+	/**
+	 * The middle segments of connections must be moved off the children of the
+	 * container, while staying as close as possible to their usual position.
+	 */
+	@Test
+	public void testAvoidObstacles() {
+		Connection unconstrained = createConnection();
+		new ManhattanConnectionRouter().route(unconstrained);
+		assertTrue(crossesObstacle(unconstrained.getPoints()));
+
+		ManhattanConnectionRouter router = new ManhattanConnectionRouter(container);
+		Set<Integer> columns = new HashSet<>();
+		for (int i = 0; i < 10; i++) {
+			Connection connection = createConnection();
+			router.route(connection);
+			PointList points = connection.getPoints();
+			assertEquals(points.getFirstPoint(), unconstrained.getPoints().getFirstPoint());
+			assertEquals(points.getLastPoint(), unconstrained.getPoints().getLastPoint());
+			assertFalse(crossesObstacle(points));
+			assertTrue(columns.add(Integer.valueOf(points.getPoint(1).x)));
+		}
+
+		// invisible children are no obstacles
+		obstacle.setVisible(false);
+		Connection connection = createConnection();
+		router.route(connection);
+		assertArrayEquals(unconstrained.getPoints().toIntArray(), connection.getPoints().toIntArray());
+	}
+
+	private boolean crossesObstacle(PointList points) {
+		for (int i = 1; i < points.size() - 2; i++) {
+			Rectangle segment = new Rectangle(points.getPoint(i), points.getPoint(i + 1));
+			if (segment.intersects(obstacle.getBounds())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -304,6 +304,50 @@ public class PointListTests extends BaseTestCase {
 		assertEquals(10, -20, point);
 	}
 
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetXY() {
+		PointList list = new PointList();
+		list.addPoint(10, -20);
+		list.addPoint(40, 30);
+		//
+		// check work getX() and getY() use wrong index
+		assertThrows(IndexOutOfBoundsException.class, () -> list.getX(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.getY(2));
+		//
+		// check work getX() and getY()
+		assertEquals(10, list.getX(0));
+		assertEquals(-20, list.getY(0));
+		assertEquals(40, list.getX(1));
+		assertEquals(30, list.getY(1));
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetTranslatedScaled() {
+		PointList list = new PointList(8);
+		list.addPoint(10, -20);
+		list.addPoint(-5, 7);
+		//
+		// check work getTranslated() without buffer
+		int[] translated = list.getTranslated(3, -4, null);
+		assertArrayEquals(new int[] { 13, -24, -2, 3 }, translated);
+		assertEquals(10, -20, list.getFirstPoint());
+		//
+		// check work getTranslated() with sufficient buffer
+		int[] buffer = new int[] { 1, 1, 1, 1, 1, 1 };
+		assertSame(buffer, list.getTranslated(1, 1, buffer));
+		assertArrayEquals(new int[] { 11, -19, -4, 8, 1, 1 }, buffer);
+		//
+		// check work getScaled() with too small buffer
+		int[] scaled = list.getScaled(0.5, new int[2]);
+		assertArrayEquals(new int[] { 5, -10, -3, 3 }, scaled);
+		//
+		// check consistency with performScale()
+		list.performScale(0.5);
+		assertArrayEquals(list.toIntArray(), scaled);
+	}
+
 	@SuppressWarnings("static-method")
 	@Test
 	public void testSetPointPointInt() {
@@ -384,6 +428,14 @@ public class PointListTests extends BaseTestCase {
 
 		list.addPoint(20, 20);
 		assertEquals(0, 0, 21, 21, list.getBounds());
+		//
+		list.insertPoint(new Point(-10, 5), 1);
+		assertEquals(-10, 0, 31, 21, list.getBounds());
+		assertEquals(0, 0, list.getPoint(2));
+		assertEquals(20, 20, list.getPoint(3));
+
+		list.setSize(2);
+		assertEquals(-10, 5, 21, 6, list.getBounds());
 	}
 
 	@SuppressWarnings("static-method")
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.draw2d.Polyline;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+
+import org.junit.Test;
+
+public class PolylineTest {
+
+	private static PointList createPoints(Random random, int size) {
+		PointList points = new PointList();
+		int x = 0;
+		int y = 0;
+		for (int i = 0; i < size; i++) {
+			x += random.nextInt(41) - 10;
+			y += random.nextInt(41) - 20;
+			points.addPoint(x, y);
+		}
+		return points;
+	}
+
+	/**
+	 * The segment index must yield the same hit-test results as testing every
+	 * segment.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testSegmentIndex() {
+		Random random = new Random(42);
+		for (int size : new int[] { 0, 1, 2, 9, 10, 100, 257 }) {
+			Polyline plain = new Polyline();
+			Polyline indexed = new Polyline();
+			indexed.setSegmentIndexEnabled(true);
+			assertTrue(indexed.isSegmentIndexEnabled());
+
+			PointList points = createPoints(random, size);
+			plain.setPoints(points);
+			indexed.setPoints(points.getCopy());
+			for (int i = 0; i < 2000; i++) {
+				int x = plain.getBounds().x + random.nextInt(plain.getBounds().width + 10) - 5;
+				int y = plain.getBounds().y + random.nextInt(plain.getBounds().height + 10) - 5;
+				assertEquals(plain.containsPoint(x, y), indexed.containsPoint(x, y));
+			}
+		}
+	}
+
+	/**
+	 * The segment index must be updated when the points of the polyline change.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testSegmentIndexUpdated() {
+		Polyline polyline = new Polyline();
+		polyline.setSegmentIndexEnabled(true);
+		for (int i = 0; i < 20; i++) {
+			polyline.addPoint(new Point(i * 10, i % 2 * 10));
+		}
+		assertTrue(polyline.containsPoint(95, 5));
+
+		polyline.setPoint(new Point(100, 100), 10);
+		assertFalse(polyline.containsPoint(95, 5));
+		assertTrue(polyline.containsPoint(95, 55));
+
+		polyline.removePoint(10);
+		assertFalse(polyline.containsPoint(95, 55));
+		assertTrue(polyline.containsPoint(100, 10));
+
+		polyline.removeAllPoints();
+		assertFalse(polyline.containsPoint(100, 10));
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.PolylineConnection;
+import org.eclipse.draw2d.ShortestPathConnectionRouter;
+import org.eclipse.draw2d.XYAnchor;
+import org.eclipse.draw2d.XYLayout;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShortestPathConnectionRouterTest extends BaseTestCase {
+
+	private static final Rectangle BOUNDS = new Rectangle(0, 0, 800, 600);
+
+	/**
+	 * Three horizontal connections, each crossing its own obstacle. They are far
+	 * enough apart not to influence each other's routes.
+	 */
+	private static class Diagram {
+		final IFigure contents = new Figure();
+		final IFigure container = new Figure();
+		final IFigure connectionLayer = new Figure();
+		final ShortestPathConnectionRouter router;
+		final List<IFigure> obstacles = new ArrayList<>();
+		final List<PolylineConnection> connections = new ArrayList<>();
+
+		Diagram(boolean asynchronous) {
+			contents.setLayoutManager(new XYLayout());
+			container.setLayoutManager(new XYLayout());
+			contents.add(container, BOUNDS);
+			contents.add(connectionLayer, BOUNDS);
+			router = new ShortestPathConnectionRouter(container);
+			router.setAsynchronous(asynchronous);
+			for (int y = 100; y <= 500; y += 200) {
+				IFigure obstacle = new Figure();
+				container.add(obstacle, new Rectangle(300, y - 50, 100, 100));
+				obstacles.add(obstacle);
+				PolylineConnection connection = new PolylineConnection();
+				connection.setSourceAnchor(new XYAnchor(new Point(50, y)));
+				connection.setTargetAnchor(new XYAnchor(new Point(750, y)));
+				connection.setConnectionRouter(router);
+				connectionLayer.add(connection);
+				connections.add(connection);
+			}
+		}
+
+		void moveObstacle() {
+			container.setConstraint(obstacles.get(0), new Rectangle(300, 20, 100, 200));
+		}
+
+		void removeConnection() {
+			connectionLayer.remove(connections.get(1));
+		}
+
+		List<List<Point>> getRoutes() {
+			List<List<Point>> routes = new ArrayList<>();
+			for (PolylineConnection connection : connections) {
+				if (connection.getParent() != null) {
+					routes.add(toList(connection.getPoints()));
+				}
+			}
+			return routes;
+		}
+	}
+
+	private static List<Point> toList(PointList points) {
+		List<Point> list = new ArrayList<>(points.size());
+		for (int i = 0; i < points.size(); i++) {
+			list.add(points.getPoint(i));
+		}
+		return list;
+	}
+
+	private Shell shell;
+	private FigureCanvas canvas;
+
+	@Before
+	public void setUp() {
+		shell = new Shell(Display.getDefault());
+		shell.setLayout(new FillLayout());
+		canvas = new FigureCanvas(shell);
+		shell.setSize(900, 700);
+		shell.open();
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	private List<List<Point>> routeSynchronously(boolean moveObstacle, boolean removeConnection) {
+		Diagram diagram = new Diagram(false);
+		if (moveObstacle) {
+			diagram.moveObstacle();
+		}
+		if (removeConnection) {
+			diagram.removeConnection();
+		}
+		canvas.setContents(diagram.contents);
+		canvas.getLightweightSystem().getUpdateManager().performUpdate();
+		return diagram.getRoutes();
+	}
+
+	private void waitForRoutes(Diagram diagram, List<List<Point>> expected) {
+		long end = System.currentTimeMillis() + 10000;
+		while (!expected.equals(diagram.getRoutes()) && System.currentTimeMillis() < end) {
+			waitEventLoop(shell, 10);
+		}
+		assertEquals(expected, diagram.getRoutes());
+	}
+
+	@Test
+	public void testAsynchronousRoutesMatchSynchronousRoutes() {
+		List<List<Point>> expected = routeSynchronously(false, false);
+		Diagram diagram = new Diagram(true);
+		canvas.setContents(diagram.contents);
+		canvas.getLightweightSystem().getUpdateManager().performUpdate();
+
+		// until the background solve has finished, the connections are straight
+		for (List<Point> route : diagram.getRoutes()) {
+			assertEquals(2, route.size());
+		}
+		waitForRoutes(diagram, expected);
+	}
+
+	@Test
+	public void testChangesWhileSolving() {
+		List<List<Point>> expected = routeSynchronously(true, true);
+		Diagram diagram = new Diagram(true);
+		canvas.setContents(diagram.contents);
+		canvas.getLightweightSystem().getUpdateManager().performUpdate();
+
+		// the solve can't finish before the event loop runs again
+		PolylineConnection removed = diagram.connections.get(1);
+		List<Point> removedRoute = toList(removed.getPoints());
+		diagram.moveObstacle();
+		diagram.removeConnection();
+		canvas.getLightweightSystem().getUpdateManager().performUpdate();
+
+		waitForRoutes(diagram, expected);
+		// the route of the removed connection is not applied
+		assertEquals(removedRoute, toList(removed.getPoints()));
+		assertTrue(diagram.router.hasMoreConnections());
+	}
+}
@@ -12,6 +12,10 @@
  *******************************************************************************/
 package org.eclipse.draw2d.test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.geometry.Geometry;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -160,6 +164,30 @@ public class ShortestPathRoutingTest extends Assert {
 		// 0);
 	}
 
+	private static void doAssertNoObstacleCrossed(List<Path> paths, List<Rectangle> obstacles) {
+		for (Path path : paths) {
+			PointList points = path.getPoints();
+			assertTrue("Path should have been routed " + path, points.size() >= 2); //$NON-NLS-1$
+			for (int s = 0; s < points.size() - 1; s++) {
+				Point p1 = points.getPoint(s);
+				Point p2 = points.getPoint(s + 1);
+				for (Rectangle obstacle : obstacles) {
+					if (obstacle.contains(points.getFirstPoint()) || obstacle.contains(points.getLastPoint())) {
+						continue;
+					}
+					// the diagonals of the obstacle without its outline
+					int x1 = obstacle.x + 1;
+					int y1 = obstacle.y + 1;
+					int x2 = obstacle.right() - 2;
+					int y2 = obstacle.bottom() - 2;
+					assertFalse("Segment " + p1 + p2 + " should not cross " + obstacle, //$NON-NLS-1$ //$NON-NLS-2$
+							Geometry.linesIntersect(p1.x, p1.y, p2.x, p2.y, x1, y1, x2, y2)
+									|| Geometry.linesIntersect(p1.x, p1.y, p2.x, p2.y, x1, y2, x2, y1));
+				}
+			}
+		}
+	}
+
 	private static void doAssertNumPoints(PointList path, int expectedBends) {
 		assertTrue("Path should have " + expectedBends + " but had " + (path.size() - 2), //$NON-NLS-1$ //$NON-NLS-2$
 				expectedBends == path.size() - 2);
@@ -539,6 +567,107 @@ public class ShortestPathRoutingTest extends Assert {
 		doAssertNoPathsSolved();
 	}
 
+	@Test
+	public void testIncrementalMoveObstacle() {
+		routing.setIncremental(true);
+		List<Rectangle> obstacles = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			for (int j = 0; j < 10; j++) {
+				Rectangle obstacle = new Rectangle(i * 100 + (j % 3) * 10, j * 90 + (i % 4) * 10, 60, 40);
+				obstacles.add(obstacle);
+				routing.addObstacle(obstacle.getCopy());
+			}
+		}
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			Point start = obstacles.get(i * 7 % 100).getCenter();
+			Point end = obstacles.get((i * 13 + 50) % 100).getCenter();
+			paths.add(new Path(start, end));
+		}
+		paths.forEach(routing::addPath);
+		assertEquals("The first solve should be a full solve.", paths.size(), routing.solve().size()); //$NON-NLS-1$
+		List<PointList> previousPoints = new ArrayList<>();
+		paths.forEach(path -> previousPoints.add(path.getPoints().getCopy()));
+
+		Rectangle moved = obstacles.get(44);
+		Rectangle newBounds = moved.getTranslated(15, 10);
+		assertTrue(routing.updateObstacle(moved.getCopy(), newBounds.getCopy()));
+		obstacles.set(44, newBounds);
+		List<Path> solved = routing.solve();
+
+		assertFalse("Some paths should have been solved.", solved.isEmpty()); //$NON-NLS-1$
+		assertTrue("Only the affected paths should have been solved.", solved.size() < paths.size()); //$NON-NLS-1$
+		for (int i = 0; i < paths.size(); i++) {
+			Path path = paths.get(i);
+			if (!solved.contains(path)) {
+				assertArrayEquals("Unaffected paths should keep their points.", previousPoints.get(i).toIntArray(), //$NON-NLS-1$
+						path.getPoints().toIntArray());
+			}
+		}
+		doAssertNoObstacleCrossed(paths, obstacles);
+	}
+
+	@Test
+	public void testIncrementalRemovePath() {
+		routing.setIncremental(true);
+		routing.addObstacle(quadBendBottom.getCopy());
+		routing.addObstacle(quadBendMiddleMiss.getCopy());
+		routing.addObstacle(quadBendTop.getCopy());
+		Path a = new Path(quadBendAStart.getCopy(), quadBendAEnd.getCopy());
+		routing.addPath(a);
+		routing.addPath(new Path(quadBendBStart.getCopy(), quadBendBEnd.getCopy()));
+		routing.addPath(new Path(quadBendCStart.getCopy(), quadBendCEnd.getCopy()));
+		routing.addPath(new Path(quadBendDStart.getCopy(), quadBendDEnd.getCopy()));
+		routing.solve();
+		assertTrue(routing.removePath(a));
+		List<Path> solved = routing.solve();
+
+		// the remaining paths share their corners with the removed path
+		ShortestPathRouter fullRouting = new ShortestPathRouter();
+		fullRouting.addObstacle(quadBendBottom.getCopy());
+		fullRouting.addObstacle(quadBendMiddleMiss.getCopy());
+		fullRouting.addObstacle(quadBendTop.getCopy());
+		fullRouting.addPath(new Path(quadBendBStart.getCopy(), quadBendBEnd.getCopy()));
+		fullRouting.addPath(new Path(quadBendCStart.getCopy(), quadBendCEnd.getCopy()));
+		fullRouting.addPath(new Path(quadBendDStart.getCopy(), quadBendDEnd.getCopy()));
+		List<Path> expected = fullRouting.solve();
+
+		assertEquals("The remaining paths should have been bent again.", expected.size(), solved.size()); //$NON-NLS-1$
+		for (int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i).getPoints().toIntArray(), solved.get(i).getPoints().toIntArray());
+		}
+	}
+
+	@Test
+	public void testManyObstacles() {
+		// without spacing, the paths are not bent into the obstacles they pass
+		routing.setSpacing(0);
+		List<Rectangle> obstacles = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			for (int j = 0; j < 20; j++) {
+				Rectangle obstacle = new Rectangle(i * 100 + (j % 3) * 10, j * 90 + (i % 4) * 10, 60, 40);
+				obstacles.add(obstacle);
+				routing.addObstacle(obstacle.getCopy());
+			}
+		}
+		// a wall covering many cells of the obstacle index
+		Rectangle wall = new Rectangle(-50, 1850, 2100, 30);
+		obstacles.add(wall);
+		routing.addObstacle(wall.getCopy());
+
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			Point start = obstacles.get(i * 7 % 400).getCenter();
+			Point end = obstacles.get((i * 13 + 150) % 400).getCenter();
+			paths.add(new Path(start, end));
+		}
+		paths.add(new Path(new Point(1000, 1900), new Point(1000, -20)));
+		paths.forEach(routing::addPath);
+		routing.solve();
+
+		doAssertNoObstacleCrossed(paths, obstacles);
+	}
+
 	@Test
 	public void testOffsetShrink() {
 		routing.addObstacle(offsetRectLeft.getCopy());
@@ -549,6 +678,44 @@ public class ShortestPathRoutingTest extends Assert {
 		doTestOffsetShrink();
 	}
 
+	@Test
+	public void testParallelSolve() {
+		ShortestPathRouter serialRouting = new ShortestPathRouter();
+		routing.setParallelism(4);
+		for (int i = 0; i < 20; i++) {
+			for (int j = 0; j < 20; j++) {
+				Rectangle obstacle = new Rectangle(i * 100 + (j % 3) * 10, j * 90 + (i % 4) * 10, 60, 40);
+				routing.addObstacle(obstacle.getCopy());
+				serialRouting.addObstacle(obstacle.getCopy());
+			}
+		}
+
+		List<Path> paths = new ArrayList<>();
+		List<Path> serialPaths = new ArrayList<>();
+		for (int i = 0; i < 60; i++) {
+			// short paths within the grid, some of which share their search regions
+			Point start = new Point(i % 10 * 200 + 80, i / 10 * 300 + 20);
+			Point end = start.getTranslated(i % 3 * 100 + 50, 150);
+			paths.add(new Path(start.getCopy(), end.getCopy()));
+			serialPaths.add(new Path(start.getCopy(), end.getCopy()));
+		}
+		// a path with bend points is split into child paths sharing vertices
+		PointList bendPoints = new PointList();
+		bendPoints.addPoint(1000, 900);
+		paths.get(0).setBendPoints(bendPoints.getCopy());
+		serialPaths.get(0).setBendPoints(bendPoints.getCopy());
+		paths.forEach(routing::addPath);
+		serialPaths.forEach(serialRouting::addPath);
+
+		routing.solve();
+		serialRouting.solve();
+
+		for (int i = 0; i < paths.size(); i++) {
+			assertArrayEquals("Paths should be the same as when solved serially.", //$NON-NLS-1$
+					serialPaths.get(i).getPoints().toIntArray(), paths.get(i).getPoints().toIntArray());
+		}
+	}
+
 	@Test
 	public void testQuadBendHit() {
 		routing.addObstacle(quadBendBottom.getCopy());
@@ -611,6 +778,19 @@ public class ShortestPathRoutingTest extends Assert {
 		doTestSideIntersectionTop();
 	}
 
+	@Test
+	public void testSteepPathAcrossGridCells() {
+		// the path passes from one column of the obstacle index to the next one
+		// between two pixels, next to the obstacle
+		routing.setSpacing(0);
+		routing.addObstacle(new Rectangle(1781, 842, 86, 53));
+		Path path = new Path(new Point(1781, 2306), new Point(1793, 626));
+		routing.addPath(path);
+		routing.solve();
+
+		assertTrue("Path should bend around the obstacle", path.getPoints().size() > 2); //$NON-NLS-1$
+	}
+
 	@Test
 	public void testSubpath() {
 		routing.addObstacle(subpathLeftRect.getCopy());
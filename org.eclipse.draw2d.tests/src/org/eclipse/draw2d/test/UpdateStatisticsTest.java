@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.DeferredUpdateManager;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.GraphicsSource;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.UpdateListener;
+import org.eclipse.draw2d.UpdateStatistics;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UpdateStatisticsTest extends Assert {
+
+	/**
+	 * Update manager which doesn't need a display, updates are performed
+	 * explicitly.
+	 */
+	private static class TestUpdateManager extends DeferredUpdateManager {
+		@Override
+		protected void sendUpdateRequest() {
+			// updates are performed by the test
+		}
+	}
+
+	private static class SlowFigure extends Figure {
+		@Override
+		public void layout() {
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private TestUpdateManager manager;
+	private List<UpdateStatistics> updates;
+
+	@Before
+	public void setUp() {
+		manager = new TestUpdateManager();
+		updates = new ArrayList<>();
+		manager.addUpdateListener(new UpdateListener.Stub() {
+			@Override
+			public void notifyUpdated(UpdateStatistics statistics) {
+				updates.add(statistics);
+			}
+		});
+	}
+
+	private void addInvalidFigure(IFigure figure) {
+		figure.invalidate();
+		manager.addInvalidFigure(figure);
+	}
+
+	@Test
+	public void testInactiveByDefault() {
+		assertFalse(manager.isInstrumentationEnabled());
+		addInvalidFigure(new SlowFigure());
+		manager.performUpdate();
+		assertTrue(updates.isEmpty());
+	}
+
+	@Test
+	public void testValidation() {
+		manager.setInstrumentationEnabled(true);
+		IFigure parent = new Figure();
+		parent.add(new SlowFigure());
+		parent.add(new Figure());
+		addInvalidFigure(parent);
+		addInvalidFigure(new SlowFigure());
+		addInvalidFigure(new Figure());
+		manager.performUpdate();
+
+		assertEquals(1, updates.size());
+		UpdateStatistics statistics = updates.get(0);
+		// new figures are invalid, so the children of the parent are validated as well
+		assertEquals(5, statistics.getValidatedFigureCount());
+		assertEquals(SlowFigure.class, statistics.getSlowestFigureClass());
+		assertTrue(statistics.getSlowestFigureClassTime() >= 10_000_000L);
+		assertTrue(statistics.getValidationTime() >= statistics.getSlowestFigureClassTime());
+		assertEquals(0, statistics.getPaintedFigureCount());
+		assertEquals(0, statistics.getPaintTime());
+		assertNull(statistics.getLargestDamage());
+	}
+
+	@Test
+	public void testEachUpdateIsMeasuredSeparately() {
+		manager.setInstrumentationEnabled(true);
+		addInvalidFigure(new SlowFigure());
+		manager.performUpdate();
+		manager.performUpdate();
+
+		assertEquals(2, updates.size());
+		assertEquals(1, updates.get(0).getValidatedFigureCount());
+		assertEquals(0, updates.get(1).getValidatedFigureCount());
+		assertEquals(0, updates.get(1).getValidationTime());
+		assertNull(updates.get(1).getSlowestFigureClass());
+	}
+
+	@Test
+	public void testFiguresValidatedOutsideOfUpdatesAreNotMeasured() {
+		manager.setInstrumentationEnabled(true);
+		IFigure figure = new SlowFigure();
+		figure.invalidate();
+		figure.validate();
+		manager.performUpdate();
+
+		assertEquals(1, updates.size());
+		assertEquals(0, updates.get(0).getValidatedFigureCount());
+	}
+
+	@Test
+	public void testPaint() {
+		Image image = new Image(Display.getDefault(), 200, 200);
+		GC gc = new GC(image);
+		try {
+			manager.setGraphicsSource(new GraphicsSource() {
+				@Override
+				public Graphics getGraphics(Rectangle region) {
+					return new SWTGraphics(gc);
+				}
+
+				@Override
+				public void flushGraphics(Rectangle region) {
+					// nothing to flush
+				}
+			});
+			IFigure root = new Figure();
+			root.setBounds(new Rectangle(0, 0, 200, 200));
+			IFigure child = new Figure();
+			child.setBounds(new Rectangle(10, 10, 50, 50));
+			root.add(child);
+			manager.setRoot(root);
+			manager.setInstrumentationEnabled(true);
+
+			manager.addDirtyRegion(root, new Rectangle(0, 0, 20, 20));
+			manager.addDirtyRegion(child, new Rectangle(0, 0, 30, 40));
+			manager.performUpdate();
+
+			assertEquals(1, updates.size());
+			UpdateStatistics statistics = updates.get(0);
+			assertEquals(2, statistics.getPaintedFigureCount());
+			assertEquals(new Rectangle(0, 0, 30, 40), statistics.getLargestDamage());
+			assertEquals(Figure.class, statistics.getSlowestFigureClass());
+			assertTrue(statistics.getPaintTime() > 0);
+		} finally {
+			gc.dispose();
+			image.dispose();
+		}
+	}
+}
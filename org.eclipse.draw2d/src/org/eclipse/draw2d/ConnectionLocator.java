@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
-import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 
@@ -124,10 +123,9 @@ public class ConnectionLocator extends AbstractLocator {
 			if (points.size() % 2 == 0) {
 				int i = points.size() / 2;
 				int j = i - 1;
-				Point p1 = points.getPoint(j);
-				Point p2 = points.getPoint(i);
-				Dimension d = p2.getDifference(p1);
-				return Point.SINGLETON.setLocation(p1.x + d.width / 2, p1.y + d.height / 2);
+				int x1 = points.getX(j);
+				int y1 = points.getY(j);
+				return Point.SINGLETON.setLocation(x1 + (points.getX(i) - x1) / 2, y1 + (points.getY(i) - y1) / 2);
 			}
 			int i = (points.size() - 1) / 2;
 			return points.getPoint(Point.SINGLETON, i);
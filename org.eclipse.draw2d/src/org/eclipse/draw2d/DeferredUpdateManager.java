@@ -59,6 +59,13 @@ public class DeferredUpdateManager extends UpdateManager {
 	private boolean validating;
 	private RunnableChain afterUpdate;
 	private int refreshRate = -1;
+	private long frameInterval;
+	private long frameStart;
+	private boolean framePerformed;
+	private long frameDuration;
+	private long scheduledFrameStart;
+	private boolean instrumentationEnabled;
+	private IDamageStrategy damageStrategy = new UnionDamageStrategy();
 
 	private static class RunnableChain {
 		RunnableChain next;
@@ -148,6 +155,27 @@ public class DeferredUpdateManager extends UpdateManager {
 		return graphicsSource.getGraphics(region);
 	}
 
+	/**
+	 * Returns the duration of the last update, including the validation and
+	 * painting of all figures.
+	 *
+	 * @return the duration of the last update in nanoseconds
+	 * @since 3.18
+	 */
+	public long getLastFrameDuration() {
+		return frameDuration;
+	}
+
+	/**
+	 * @return <code>true</code> if each update is measured and reported to the
+	 *         update listeners
+	 * @see #setInstrumentationEnabled(boolean)
+	 * @since 3.18
+	 */
+	public boolean isInstrumentationEnabled() {
+		return instrumentationEnabled;
+	}
+
 	/**
 	 * @since 3.10
 	 */
@@ -191,6 +219,12 @@ public class DeferredUpdateManager extends UpdateManager {
 			return;
 		}
 		updating = true;
+		long start = System.nanoTime();
+		// time the queued request has been delayed by other work
+		long delay = updateQueued && frameInterval > 0 ? Math.max(0, start - scheduledFrameStart) : 0;
+		UpdateRecorder recorder = instrumentationEnabled || FlightRecorderSupport.isEnabled() ? UpdateRecorder.begin()
+				: null;
+		UpdateStatistics statistics = null;
 		try {
 			performValidation();
 			updateQueued = false;
@@ -205,6 +239,21 @@ public class DeferredUpdateManager extends UpdateManager {
 			}
 		} finally {
 			updating = false;
+			frameStart = start;
+			framePerformed = true;
+			frameDuration = System.nanoTime() - start;
+			if (recorder != null) {
+				statistics = recorder.end();
+			}
+		}
+		if (statistics != null && instrumentationEnabled) {
+			fireUpdated(statistics);
+		}
+		if (frameInterval > 0) {
+			int dropped = (int) ((delay + frameDuration) / frameInterval);
+			if (dropped > 0) {
+				fireFramesDropped(dropped, frameDuration);
+			}
 		}
 	}
 
@@ -216,6 +265,12 @@ public class DeferredUpdateManager extends UpdateManager {
 		if (invalidFigures.isEmpty() || validating) {
 			return;
 		}
+		UpdateRecorder recorder = UpdateRecorder.getActive();
+		long start = 0;
+		if (recorder != null) {
+			recorder.beginValidation();
+			start = System.nanoTime();
+		}
 		try {
 			IFigure fig;
 			validating = true;
@@ -228,6 +283,9 @@ public class DeferredUpdateManager extends UpdateManager {
 		} finally {
 			invalidFigures.clear();
 			validating = false;
+			if (recorder != null) {
+				recorder.endValidation(System.nanoTime() - start);
+			}
 		}
 	}
 
@@ -264,7 +322,20 @@ public class DeferredUpdateManager extends UpdateManager {
 		if (display == null) {
 			throw new SWTException(SWT.ERROR_THREAD_INVALID_ACCESS);
 		}
-		if (refreshRate <= 0) {
+		if (frameInterval > 0) {
+			// batch all requests until the next frame is due. If the last frame
+			// overran its interval, the missed frames are skipped, not caught up. The
+			// origin of nanoTime() is arbitrary, so only differences are compared
+			long now = System.nanoTime();
+			long wait = framePerformed ? Math.min(frameStart + frameInterval - now, frameInterval) : 0;
+			if (wait <= 0) {
+				scheduledFrameStart = now;
+				display.asyncExec(new UpdateRequest());
+			} else {
+				scheduledFrameStart = now + wait;
+				display.timerExec((int) ((wait + 999_999) / 1_000_000), new UpdateRequest());
+			}
+		} else if (refreshRate <= 0) {
 			display.asyncExec(new UpdateRequest());
 		} else {
 			display.timerExec(refreshRate, new UpdateRequest());
@@ -287,6 +358,7 @@ public class DeferredUpdateManager extends UpdateManager {
 	 * regions.
 	 */
 	protected void repairDamage() {
+		List<Rectangle> contributions = new ArrayList<>(dirtyRegions.size());
 		dirtyRegions.forEach((figure, contribution) -> {
 			IFigure walker = figure.getParent();
 			// A figure can't paint beyond its own bounds
@@ -301,6 +373,9 @@ public class DeferredUpdateManager extends UpdateManager {
 			} else {
 				damage.union(contribution);
 			}
+			if (!contribution.isEmpty()) {
+				contributions.add(new Rectangle(contribution));
+			}
 		});
 
 		if (!dirtyRegions.isEmpty()) {
@@ -310,10 +385,23 @@ public class DeferredUpdateManager extends UpdateManager {
 		}
 
 		if (damage != null && !damage.isEmpty()) {
-			Graphics graphics = getGraphics(damage);
-			if (graphics != null) {
-				root.paint(graphics);
-				releaseGraphics(graphics);
+			// each region is painted separately, see releaseGraphics(Graphics)
+			UpdateRecorder recorder = UpdateRecorder.getActive();
+			for (Rectangle region : damageStrategy.getRepaintRegions(contributions)) {
+				damage = region;
+				Graphics graphics = getGraphics(damage);
+				if (graphics != null) {
+					long start = 0;
+					if (recorder != null) {
+						recorder.beginPaint();
+						start = System.nanoTime();
+					}
+					root.paint(graphics);
+					releaseGraphics(graphics);
+					if (recorder != null) {
+						recorder.endPaint(region, System.nanoTime() - start);
+					}
+				}
 			}
 		}
 		damage = null;
@@ -333,6 +421,22 @@ public class DeferredUpdateManager extends UpdateManager {
 		}
 	}
 
+	/**
+	 * Sets the strategy used to combine the damaged areas of an update into the
+	 * regions which are repainted. By default, a {@link UnionDamageStrategy} is
+	 * used, which repaints a single rectangle containing all damaged areas.
+	 *
+	 * @param damageStrategy the damage strategy, must not be <code>null</code>
+	 * @see DisjointDamageStrategy
+	 * @since 3.18
+	 */
+	public void setDamageStrategy(IDamageStrategy damageStrategy) {
+		if (damageStrategy == null) {
+			throw new IllegalArgumentException();
+		}
+		this.damageStrategy = damageStrategy;
+	}
+
 	/**
 	 * Sets the graphics source.
 	 *
@@ -371,6 +475,51 @@ public class DeferredUpdateManager extends UpdateManager {
 		this.refreshRate = refreshRate;
 	}
 
+	/**
+	 * Enables or disables the instrumentation of this update manager. If enabled,
+	 * the time spent validating and painting, the number of validated and painted
+	 * figures, the largest repainted region and the slowest figure class are
+	 * measured for each update and reported via
+	 * {@link UpdateListener#notifyUpdated(UpdateStatistics)}.
+	 * <p>
+	 * Independent of this setting, the same measurements are emitted as Java
+	 * Flight Recorder events (<code>org.eclipse.draw2d.Update</code>,
+	 * <code>org.eclipse.draw2d.Validation</code> and
+	 * <code>org.eclipse.draw2d.Paint</code>) while a recording containing them is
+	 * running. If neither is the case, no measurements are taken.
+	 *
+	 * @param enabled <code>true</code> to measure each update
+	 * @since 3.18
+	 */
+	public void setInstrumentationEnabled(boolean enabled) {
+		instrumentationEnabled = enabled;
+	}
+
+	/**
+	 * Sets the number of frames per second this update manager aims for. All
+	 * invalidations and damage received within a frame are validated and painted
+	 * in a single update at the start of the next frame. Updates which take
+	 * longer than a frame, or which are delayed by other work on the UI thread,
+	 * cause frames to be skipped. Those are reported via
+	 * {@link UpdateListener#notifyFramesDropped(int, long)}.
+	 * <p>
+	 * If set to {@code 0} or a negative value, the frame rate is not limited
+	 * (default behavior). A target frame rate takes precedence over the
+	 * {@link #setRefreshRate(int) refresh rate}.
+	 *
+	 * Example:
+	 *
+	 * <pre>
+	 * setTargetFrameRate(60); // Updates at most every 16.7ms
+	 * </pre>
+	 *
+	 * @param framesPerSecond the target frame rate
+	 * @since 3.18
+	 */
+	public void setTargetFrameRate(int framesPerSecond) {
+		frameInterval = framesPerSecond > 0 ? Math.max(1, 1_000_000_000L / framesPerSecond) : 0;
+	}
+
 	/**
 	 * Validates all invalid figures on the update queue and calls
 	 * {@link UpdateManager#fireValidating()} unless there are no invalid figures.
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Damage strategy which keeps a bounded number of disjoint regions, so that
+ * changes in distant parts of a large canvas don't cause everything in between
+ * to be repainted. Two regions are merged into their bounding rectangle if they
+ * intersect, or if the area of the bounding rectangle not covered by either
+ * region is small enough. If there are still more regions than allowed, the
+ * pair wasting the least area is merged until the limit is met.
+ *
+ * @since 3.18
+ */
+public class DisjointDamageStrategy implements IDamageStrategy {
+
+	/**
+	 * The default maximum number of regions.
+	 */
+	public static final int DEFAULT_MAX_REGIONS = 8;
+
+	/**
+	 * The default fraction of the bounding rectangle which may be wasted when
+	 * merging two regions.
+	 */
+	public static final double DEFAULT_MAX_WASTE = 0.25;
+
+	private final int maxRegions;
+	private final double maxWaste;
+
+	/**
+	 * Creates a new strategy with the default limits.
+	 */
+	public DisjointDamageStrategy() {
+		this(DEFAULT_MAX_REGIONS, DEFAULT_MAX_WASTE);
+	}
+
+	/**
+	 * Creates a new strategy.
+	 *
+	 * @param maxRegions the maximum number of regions to repaint, at least 1
+	 * @param maxWaste   the fraction of the bounding rectangle of two regions,
+	 *                   which may be covered by neither region, in order to
+	 *                   merge them anyway. Must be between 0 and 1.
+	 */
+	public DisjointDamageStrategy(int maxRegions, double maxWaste) {
+		if (maxRegions < 1) {
+			throw new IllegalArgumentException("At least one region is required"); //$NON-NLS-1$
+		}
+		if (maxWaste < 0 || maxWaste > 1) {
+			throw new IllegalArgumentException("Waste must be between 0 and 1"); //$NON-NLS-1$
+		}
+		this.maxRegions = maxRegions;
+		this.maxWaste = maxWaste;
+	}
+
+	@Override
+	public List<Rectangle> getRepaintRegions(List<Rectangle> damage) {
+		List<Rectangle> regions = new ArrayList<>(maxRegions + 1);
+		for (Rectangle area : damage) {
+			if (!area.isEmpty()) {
+				add(regions, new Rectangle(area));
+			}
+		}
+		return regions;
+	}
+
+	private void add(List<Rectangle> regions, Rectangle region) {
+		// merging may cause intersections with other regions, hence repeat
+		boolean merged = true;
+		while (merged) {
+			merged = false;
+			for (int i = 0; i < regions.size(); i++) {
+				Rectangle other = regions.get(i);
+				if (region.intersects(other) || waste(region, other) <= maxWaste * unionArea(region, other)) {
+					region.union(other);
+					regions.remove(i);
+					merged = true;
+					break;
+				}
+			}
+		}
+		regions.add(region);
+		if (regions.size() > maxRegions) {
+			mergeCheapestPair(regions);
+		}
+	}
+
+	private void mergeCheapestPair(List<Rectangle> regions) {
+		int first = 0;
+		int second = 1;
+		long minWaste = Long.MAX_VALUE;
+		for (int i = 0; i < regions.size(); i++) {
+			for (int j = i + 1; j < regions.size(); j++) {
+				long waste = waste(regions.get(i), regions.get(j));
+				if (waste < minWaste) {
+					minWaste = waste;
+					first = i;
+					second = j;
+				}
+			}
+		}
+		Rectangle merged = regions.remove(second);
+		merged.union(regions.remove(first));
+		add(regions, merged);
+	}
+
+	/**
+	 * Returns the area of the bounding rectangle of two disjoint regions, which is
+	 * covered by neither of them.
+	 */
+	private static long waste(Rectangle r1, Rectangle r2) {
+		return unionArea(r1, r2) - area(r1) - area(r2);
+	}
+
+	private static long unionArea(Rectangle r1, Rectangle r2) {
+		long width = Math.max(r1.right(), r2.right()) - (long) Math.min(r1.x, r2.x);
+		long height = Math.max(r1.bottom(), r2.bottom()) - (long) Math.min(r1.y, r2.y);
+		return width * height;
+	}
+
+	private static long area(Rectangle r) {
+		return (long) r.width * r.height;
+	}
+}
@@ -35,6 +35,7 @@ import org.eclipse.draw2d.geometry.Insets;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.geometry.Translatable;
+import org.eclipse.draw2d.internal.ChildSpatialIndex;
 
 /**
  * The base implementation for graphical figures.
@@ -83,6 +84,7 @@ public class Figure implements IFigure {
 	private final EventListenerList eventListeners = new EventListenerList();
 
 	private List<IFigure> children = Collections.emptyList();
+	private ChildSpatialIndex spatialIndex;
 
 	/**
 	 * This Figure's preferred size.
@@ -170,6 +172,9 @@ public class Figure implements IFigure {
 		} else {
 			children.add(index, figure);
 		}
+		if (spatialIndex != null) {
+			spatialIndex.childAdded(figure, index);
+		}
 		figure.setParent(this);
 
 		if (layoutManager != null) {
@@ -381,7 +386,7 @@ public class Figure implements IFigure {
 		x = PRIVATE_POINT.x;
 		y = PRIVATE_POINT.y;
 
-		for (IFigure fig : getChildrenRevIterable()) {
+		for (IFigure fig : getChildrenAt(x, y)) {
 			if (fig.isVisible()) {
 				fig = fig.findFigureAt(x, y, search);
 				if (fig != null) {
@@ -487,7 +492,7 @@ public class Figure implements IFigure {
 			return null;
 		}
 
-		for (IFigure fig : getChildrenRevIterable()) {
+		for (IFigure fig : getChildrenAt(x, y)) {
 			if (fig.isVisible() && fig.isEnabled() && fig.containsPoint(x, y)) {
 				fig = fig.findMouseEventTargetAt(x, y);
 				if (fig != null) {
@@ -644,6 +649,35 @@ public class Figure implements IFigure {
 		return () -> new ReverseFigureChildrenIterator(Figure.this);
 	}
 
+	/**
+	 * Returns the children which have to be considered when searching for a
+	 * figure at the given location, in reverse z-order. If the spatial index is
+	 * enabled, only the children whose bounds contain the location are returned,
+	 * with the bounds of polylines expanded by their tolerance.
+	 *
+	 * @param x the x coordinate, relative to the coordinate system of the children
+	 * @param y the y coordinate, relative to the coordinate system of the children
+	 * @return the candidates, beginning with the top-most child
+	 */
+	Iterable<IFigure> getChildrenAt(int x, int y) {
+		if (spatialIndex != null) {
+			return spatialIndex.getChildrenAt(x, y);
+		}
+		return getChildrenRevIterable();
+	}
+
+	/**
+	 * Called by children whose hit area changed without their figure listeners
+	 * being notified.
+	 *
+	 * @param child the changed child
+	 */
+	void childHitAreaChanged(IFigure child) {
+		if (spatialIndex != null) {
+			spatialIndex.figureMoved(child);
+		}
+	}
+
 	/**
 	 * @see IFigure#getClientArea(Rectangle)
 	 */
@@ -854,6 +888,19 @@ public class Figure implements IFigure {
 		return getPreferredSize(wHint, hHint);
 	}
 
+	/**
+	 * Returns the number of children which have been painted by
+	 * {@link #paintChildren(Graphics)}, since the spatial index has been enabled
+	 * or since the last call to {@link #resetPaintCounters()}.
+	 *
+	 * @return the number of painted children, 0 if the spatial index is disabled
+	 * @see #setSpatialIndexEnabled(boolean)
+	 * @since 3.18
+	 */
+	public long getPaintedChildrenCount() {
+		return spatialIndex != null ? spatialIndex.getPaintedCount() : 0;
+	}
+
 	/**
 	 * @see IFigure#getParent()
 	 */
@@ -915,6 +962,20 @@ public class Figure implements IFigure {
 		return NO_MANAGER;
 	}
 
+	/**
+	 * Returns the number of children which have been visited by
+	 * {@link #paintChildren(Graphics)}, since the spatial index has been enabled
+	 * or since the last call to {@link #resetPaintCounters()}. Without the index,
+	 * every child is visited on each paint.
+	 *
+	 * @return the number of visited children, 0 if the spatial index is disabled
+	 * @see #setSpatialIndexEnabled(boolean)
+	 * @since 3.18
+	 */
+	public long getVisitedChildrenCount() {
+		return spatialIndex != null ? spatialIndex.getVisitedCount() : 0;
+	}
+
 	/**
 	 * @see IFigure#handleFocusGained(FocusEvent)
 	 */
@@ -1164,6 +1225,18 @@ public class Figure implements IFigure {
 		return isVisible() && (getParent() == null || getParent().isShowing());
 	}
 
+	/**
+	 * Returns <code>true</code> if the children of this figure are kept in a
+	 * spatial index.
+	 *
+	 * @return <code>true</code> if the spatial index is enabled
+	 * @see #setSpatialIndexEnabled(boolean)
+	 * @since 3.18
+	 */
+	public boolean isSpatialIndexEnabled() {
+		return spatialIndex != null;
+	}
+
 	/**
 	 * Returns <code>true</code> if this Figure is valid.
 	 *
@@ -1227,11 +1300,24 @@ public class Figure implements IFigure {
 		}
 
 		graphics.pushState();
+		UpdateRecorder recorder = UpdateRecorder.getActive();
 		try {
-			paintFigure(graphics);
-			graphics.restoreState();
-			paintClientArea(graphics);
-			paintBorder(graphics);
+			if (recorder == null) {
+				paintFigure(graphics);
+				graphics.restoreState();
+				paintClientArea(graphics);
+				paintBorder(graphics);
+			} else {
+				// measure the time spent on this figure, without its children
+				long start = System.nanoTime();
+				paintFigure(graphics);
+				long time = System.nanoTime() - start;
+				graphics.restoreState();
+				paintClientArea(graphics);
+				start = System.nanoTime();
+				paintBorder(graphics);
+				recorder.figurePainted(this, time + System.nanoTime() - start);
+			}
 		} finally {
 			graphics.popState();
 		}
@@ -1262,6 +1348,22 @@ public class Figure implements IFigure {
 	 * @since 2.0
 	 */
 	protected void paintChildren(Graphics graphics) {
+		if (spatialIndex != null && clippingStrategy == null) {
+			// only visit the children intersecting the clip
+			List<IFigure> candidates = spatialIndex.getChildrenIntersecting(graphics.getClip(new Rectangle()));
+			int painted = 0;
+			for (IFigure child : candidates) {
+				if (child.isVisible()) {
+					graphics.clipRect(child.getBounds());
+					child.paint(graphics);
+					graphics.restoreState();
+					painted++;
+				}
+			}
+			spatialIndex.countPainted(candidates.size(), painted);
+			return;
+		}
+		int painted = 0;
 		for (IFigure child : children) {
 			if (child.isVisible()) {
 				// determine clipping areas for child
@@ -1273,15 +1375,23 @@ public class Figure implements IFigure {
 					clipping = new Rectangle[] { child.getBounds() };
 				}
 				// child may now paint inside the clipping areas
+				boolean paintedChild = false;
 				for (Rectangle element : clipping) {
 					if (element.intersects(graphics.getClip(Rectangle.SINGLETON))) {
 						graphics.clipRect(element);
 						child.paint(graphics);
 						graphics.restoreState();
+						paintedChild = true;
 					}
 				}
+				if (paintedChild) {
+					painted++;
+				}
 			}
 		}
+		if (spatialIndex != null) {
+			spatialIndex.countPainted(children.size(), painted);
+		}
 	}
 
 	/**
@@ -1389,6 +1499,9 @@ public class Figure implements IFigure {
 		figure.erase();
 		figure.setParent(null);
 		children.remove(figure);
+		if (spatialIndex != null) {
+			spatialIndex.childRemoved(figure);
+		}
 		revalidate();
 	}
 
@@ -1527,6 +1640,18 @@ public class Figure implements IFigure {
 		propertyListeners.removePropertyChangeListener(property, listener);
 	}
 
+	/**
+	 * Resets the counters of {@link #getVisitedChildrenCount()} and
+	 * {@link #getPaintedChildrenCount()} to 0.
+	 *
+	 * @since 3.18
+	 */
+	public void resetPaintCounters() {
+		if (spatialIndex != null) {
+			spatialIndex.resetCounters();
+		}
+	}
+
 	/**
 	 * @see IFigure#repaint(Rectangle)
 	 */
@@ -1926,6 +2051,39 @@ public class Figure implements IFigure {
 		setFlag(FLAG_FOCUSABLE, requestFocusEnabled);
 	}
 
+	/**
+	 * Enables or disables the spatial index of the children of this figure. When
+	 * enabled, {@link #findFigureAt(int, int, TreeSearch)} and
+	 * {@link #findMouseEventTargetAt(int, int)} only visit the children whose
+	 * bounds contain the given location, instead of all children. This is
+	 * intended for containers with a large number of children, such as the
+	 * primary layer of a diagram.
+	 * <p>
+	 * The index is kept in sync with the bounds of the children automatically. It
+	 * assumes that a child only contains locations inside its bounds, i.e. that
+	 * {@link IFigure#containsPoint(int, int)} never returns <code>true</code> for
+	 * a location outside of {@link IFigure#getBounds()}.
+	 * <p>
+	 * Unless a clipping strategy is set, the index is also used by
+	 * {@link #paintChildren(Graphics)} to only visit the children intersecting
+	 * the clip. The number of visited and painted children can be queried via
+	 * {@link #getVisitedChildrenCount()} and {@link #getPaintedChildrenCount()}.
+	 *
+	 * @param enabled <code>true</code> to enable the spatial index
+	 * @since 3.18
+	 */
+	public void setSpatialIndexEnabled(boolean enabled) {
+		if (enabled == isSpatialIndexEnabled()) {
+			return;
+		}
+		if (enabled) {
+			spatialIndex = new ChildSpatialIndex(this, ChildSpatialIndex.DEFAULT_CELL_SIZE);
+		} else {
+			spatialIndex.dispose();
+			spatialIndex = null;
+		}
+	}
+
 	/**
 	 * @see IFigure#setSize(Dimension)
 	 */
@@ -2061,7 +2219,14 @@ public class Figure implements IFigure {
 			return;
 		}
 		setValid(true);
-		layout();
+		UpdateRecorder recorder = UpdateRecorder.getActive();
+		if (recorder == null) {
+			layout();
+		} else {
+			long start = System.nanoTime();
+			layout();
+			recorder.figureValidated(this, System.nanoTime() - start);
+		}
 		children.forEach(IFigure::validate);
 	}
 
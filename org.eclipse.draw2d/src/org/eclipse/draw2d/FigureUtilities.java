@@ -23,6 +23,7 @@ import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.internal.TextExtentCache;
 
 /**
  * Provides miscellaneous Figure operations.
@@ -34,6 +35,8 @@ public class FigureUtilities {
 	private static Font appliedFont;
 	private static FontMetrics metrics;
 	private static Color ghostFillColor = new Color(null, 31, 31, 31);
+	private static TextExtentCache textExtentCache;
+	private static int textExtentCacheSize = TextExtentCache.DEFAULT_SIZE;
 
 	/**
 	 * Returns a new Color the same as the passed color in a darker hue.
@@ -73,8 +76,11 @@ public class FigureUtilities {
 	@Deprecated
 	protected static GC getGC() {
 		if (gc == null) {
-			gc = new GC(new Shell());
+			Shell shell = new Shell();
+			gc = new GC(shell);
 			appliedFont = gc.getFont();
+			// the extents can only be cached on the thread they are measured on
+			textExtentCache = new TextExtentCache(shell.getDisplay().getThread(), textExtentCacheSize);
 		}
 		return gc;
 	}
@@ -89,8 +95,100 @@ public class FigureUtilities {
 	 * @see GC#textExtent(String)
 	 */
 	protected static org.eclipse.swt.graphics.Point getTextDimension(String s, Font f) {
-		setFont(f);
-		return getGC().textExtent(s);
+		return getTextExtentCache().getExtent(f, s, true, (string, font) -> {
+			setFont(font);
+			return getGC().textExtent(string);
+		});
+	}
+
+	private static TextExtentCache getTextExtentCache() {
+		getGC();
+		return textExtentCache;
+	}
+
+	/**
+	 * Returns the number of text measurements which have been answered from the
+	 * text extent cache.
+	 *
+	 * @return the number of cache hits
+	 * @see #setTextExtentCacheSize(int)
+	 * @since 3.18
+	 */
+	public static long getTextExtentCacheHits() {
+		return textExtentCache != null ? textExtentCache.getHits() : 0;
+	}
+
+	/**
+	 * Returns the number of text measurements which have not been answered from
+	 * the text extent cache, and have been measured instead.
+	 *
+	 * @return the number of cache misses
+	 * @see #setTextExtentCacheSize(int)
+	 * @since 3.18
+	 */
+	public static long getTextExtentCacheMisses() {
+		return textExtentCache != null ? textExtentCache.getMisses() : 0;
+	}
+
+	/**
+	 * Returns the maximum number of text extents which are cached.
+	 *
+	 * @return the maximum number of cached extents
+	 * @see #setTextExtentCacheSize(int)
+	 * @since 3.18
+	 */
+	public static int getTextExtentCacheSize() {
+		return textExtentCacheSize;
+	}
+
+	/**
+	 * Removes all cached text extents measured in the given font. Clients should
+	 * call this method before disposing a font which has been used to measure
+	 * text, so that the cache does not hold on to it.
+	 *
+	 * @param f the font, or <code>null</code> to remove all cached extents
+	 * @see #setTextExtentCacheSize(int)
+	 * @since 3.18
+	 */
+	public static void invalidateTextExtents(Font f) {
+		if (textExtentCache != null) {
+			textExtentCache.invalidate(f);
+		}
+	}
+
+	/**
+	 * Resets the number of cache hits and misses reported by
+	 * {@link #getTextExtentCacheHits()} and {@link #getTextExtentCacheMisses()}.
+	 *
+	 * @since 3.18
+	 */
+	public static void resetTextExtentCacheStatistics() {
+		if (textExtentCache != null) {
+			textExtentCache.resetStatistics();
+		}
+	}
+
+	/**
+	 * Sets the maximum number of text extents which are cached. The extents
+	 * measured by {@link #getTextExtents(String, Font)},
+	 * {@link #getStringExtents(String, Font)} and the methods based on them, which
+	 * includes {@link TextUtilities}, are cached per font and string, and the
+	 * least recently used extents are discarded first. Like the measurements
+	 * themselves, the cache may only be accessed from the UI thread. By default,
+	 * 1024 extents are cached.
+	 *
+	 * @param size the maximum number of cached extents, 0 to disable the cache
+	 * @throws IllegalArgumentException if the size is negative
+	 * @since 3.18
+	 */
+	public static void setTextExtentCacheSize(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Cache size must not be negative: " + size); //$NON-NLS-1$
+		}
+		textExtentCacheSize = size;
+		if (textExtentCache != null) {
+			textExtentCache.setMaximumSize(size);
+		}
 	}
 
 	/**
@@ -117,8 +215,10 @@ public class FigureUtilities {
 	 * @see GC#stringExtent(java.lang.String)
 	 */
 	protected static org.eclipse.swt.graphics.Point getStringDimension(String s, Font f) {
-		setFont(f);
-		return getGC().stringExtent(s);
+		return getTextExtentCache().getExtent(f, s, false, (string, font) -> {
+			setFont(font);
+			return getGC().stringExtent(string);
+		});
 	}
 
 	/**
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The Java Flight Recorder events emitted by the {@link DeferredUpdateManager}.
+ * Only accessed via {@link FlightRecorderSupport}.
+ */
+final class FlightRecorderEvents {
+
+	private static final EventType UPDATE_TYPE = EventType.getEventType(UpdateEvent.class);
+
+	private FlightRecorderEvents() {
+	}
+
+	@Name("org.eclipse.draw2d.Update")
+	@Label("Update")
+	@Category({ "Eclipse", "Draw2d" })
+	@Description("Validation and repaint of a lightweight system")
+	static final class UpdateEvent extends Event {
+		@Label("Validation Time")
+		@Timespan
+		long validationTime;
+
+		@Label("Paint Time")
+		@Timespan
+		long paintTime;
+
+		@Label("Validated Figures")
+		int validatedFigures;
+
+		@Label("Painted Figures")
+		int paintedFigures;
+
+		@Label("Largest Damage Area")
+		@Description("Area of the largest repainted region in pixels")
+		long largestDamageArea;
+
+		@Label("Slowest Figure Class")
+		Class<?> slowestFigureClass;
+
+		@Label("Slowest Figure Class Time")
+		@Timespan
+		long slowestFigureClassTime;
+	}
+
+	@Name("org.eclipse.draw2d.Validation")
+	@Label("Validation")
+	@Category({ "Eclipse", "Draw2d" })
+	static final class ValidationEvent extends Event {
+		@Label("Validated Figures")
+		int validatedFigures;
+	}
+
+	@Name("org.eclipse.draw2d.Paint")
+	@Label("Paint")
+	@Category({ "Eclipse", "Draw2d" })
+	static final class PaintEvent extends Event {
+		@Label("X")
+		int x;
+
+		@Label("Y")
+		int y;
+
+		@Label("Width")
+		int width;
+
+		@Label("Height")
+		int height;
+	}
+
+	static boolean isEnabled() {
+		return UPDATE_TYPE.isEnabled();
+	}
+
+	static Object beginUpdate() {
+		UpdateEvent event = new UpdateEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitUpdate(Object event, UpdateStatistics statistics) {
+		UpdateEvent update = (UpdateEvent) event;
+		if (update.shouldCommit()) {
+			update.validationTime = statistics.getValidationTime();
+			update.paintTime = statistics.getPaintTime();
+			update.validatedFigures = statistics.getValidatedFigureCount();
+			update.paintedFigures = statistics.getPaintedFigureCount();
+			Rectangle damage = statistics.getLargestDamage();
+			update.largestDamageArea = damage == null ? 0 : (long) damage.width * damage.height;
+			update.slowestFigureClass = statistics.getSlowestFigureClass();
+			update.slowestFigureClassTime = statistics.getSlowestFigureClassTime();
+			update.commit();
+		}
+	}
+
+	static Object beginValidation() {
+		ValidationEvent event = new ValidationEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitValidation(Object event, int validatedFigures) {
+		ValidationEvent validation = (ValidationEvent) event;
+		validation.validatedFigures = validatedFigures;
+		validation.commit();
+	}
+
+	static Object beginPaint() {
+		PaintEvent event = new PaintEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitPaint(Object event, Rectangle region) {
+		PaintEvent paint = (PaintEvent) event;
+		paint.x = region.x;
+		paint.y = region.y;
+		paint.width = region.width;
+		paint.height = region.height;
+		paint.commit();
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Entry point for the Java Flight Recorder events of Draw2d. The
+ * <code>jdk.jfr</code> module is optional. If it is not available, all methods
+ * do nothing, without ever loading {@link FlightRecorderEvents}.
+ */
+final class FlightRecorderSupport {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	private FlightRecorderSupport() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderSupport.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if a running flight recording contains the update
+	 *         events of Draw2d
+	 */
+	static boolean isEnabled() {
+		return AVAILABLE && FlightRecorderEvents.isEnabled();
+	}
+
+	static Object beginUpdate() {
+		return AVAILABLE ? FlightRecorderEvents.beginUpdate() : null;
+	}
+
+	static void commitUpdate(Object event, UpdateStatistics statistics) {
+		if (event != null) {
+			FlightRecorderEvents.commitUpdate(event, statistics);
+		}
+	}
+
+	static Object beginValidation() {
+		return AVAILABLE ? FlightRecorderEvents.beginValidation() : null;
+	}
+
+	static void commitValidation(Object event, int validatedFigures) {
+		if (event != null) {
+			FlightRecorderEvents.commitValidation(event, validatedFigures);
+		}
+	}
+
+	static Object beginPaint() {
+		return AVAILABLE ? FlightRecorderEvents.beginPaint() : null;
+	}
+
+	static void commitPaint(Object event, Rectangle region) {
+		if (event != null) {
+			FlightRecorderEvents.commitPaint(event, region);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.List;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A strategy used by the {@link DeferredUpdateManager} to combine the damaged
+ * areas of a single update into the regions which are repainted. Painting a
+ * single large region is cheap in terms of paint calls, but may repaint large
+ * areas which have not changed. Painting many small regions avoids this, at
+ * the cost of traversing the figure hierarchy once per region.
+ *
+ * @since 3.18
+ */
+public interface IDamageStrategy {
+
+	/**
+	 * Combines the given damaged areas into the regions to repaint. Every point of
+	 * a damaged area must be contained in at least one of the returned regions.
+	 *
+	 * @param damage the non-empty damaged areas, in the coordinates of the root
+	 *               figure. The list and its rectangles may be modified.
+	 * @return the regions to repaint, may be empty but not <code>null</code>
+	 */
+	List<Rectangle> getRepaintRegions(List<Rectangle> damage);
+}
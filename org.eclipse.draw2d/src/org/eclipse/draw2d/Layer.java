@@ -36,7 +36,7 @@ public class Layer extends Figure {
 		translateFromParent(pt);
 		x = pt.x;
 		y = pt.y;
-		for (IFigure child : getChildren()) {
+		for (IFigure child : getChildrenAt(x, y)) {
 			if (child.containsPoint(x, y)) {
 				return true;
 			}
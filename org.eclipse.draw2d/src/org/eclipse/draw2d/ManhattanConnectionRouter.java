@@ -13,6 +13,7 @@
 package org.eclipse.draw2d;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +22,7 @@ import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.geometry.Vector;
+import org.eclipse.draw2d.internal.ChannelSet;
 
 /**
  * Provides a {@link Connection} with an orthogonal route between the
@@ -28,9 +30,16 @@ import org.eclipse.draw2d.geometry.Vector;
  */
 public final class ManhattanConnectionRouter extends AbstractRouter {
 
-	private final Map<Integer, Integer> rowsUsed = new HashMap<>();
-	private final Map<Integer, Integer> colsUsed = new HashMap<>();
+	/**
+	 * The distance kept between the inner segments of a connection and the
+	 * obstacles.
+	 */
+	private static final int OBSTACLE_SPACING = 4;
+
+	private final ChannelSet rowsUsed = new ChannelSet();
+	private final ChannelSet colsUsed = new ChannelSet();
 	private final Map<Connection, ReservedInfo> reservedInfo = new HashMap<>();
+	private final IFigure container;
 
 	private class ReservedInfo {
 		public final List<Integer> reservedRows = new ArrayList<>(2);
@@ -42,6 +51,31 @@ public final class ManhattanConnectionRouter extends AbstractRouter {
 	private static final Vector LEFT = new Vector(-1, 0);
 	private static final Vector RIGHT = new Vector(1, 0);
 
+	/**
+	 * Creates a new router.
+	 */
+	public ManhattanConnectionRouter() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new router which moves the inner segments of the connections off
+	 * the children of the given container. The rows and columns of these segments
+	 * are chosen as close as possible to their usual position, such that they
+	 * neither cross a child nor a segment of another connection. The first and
+	 * last segment of a connection still start at its anchors, and children
+	 * containing these anchors are not avoided. The children are expected to be
+	 * in the same coordinate system as the connections after translation to
+	 * absolute coordinates.
+	 *
+	 * @param container the container whose children are avoided, or
+	 *                  <code>null</code>
+	 * @since 3.18
+	 */
+	public ManhattanConnectionRouter(IFigure container) {
+		this.container = container;
+	}
+
 	/**
 	 * @see ConnectionRouter#invalidate(Connection)
 	 */
@@ -51,6 +85,18 @@ public final class ManhattanConnectionRouter extends AbstractRouter {
 	}
 
 	private int getColumnNear(Connection connection, int r, int n, int x) {
+		return getChannelNear(connection, false, r, n, x);
+	}
+
+	/**
+	 * Returns the row or column closest to <i>r</i>, which is not used by another
+	 * connection, and reserves it. The candidates are visited in the order
+	 * <i>r</i>, <i>r</i> + 2, <i>r</i> - 2, <i>r</i> + 4 and so on. If a candidate
+	 * at or beyond <i>n</i> or <i>x</i> is used, the channel next to it is
+	 * returned without being reserved. The first free candidate in each direction
+	 * is determined by a single lookup, rather than by probing each candidate.
+	 */
+	private int getChannelNear(Connection connection, boolean row, int r, int n, int x) {
 		int min = Math.min(n, x);
 		int max = Math.max(n, x);
 		if (min > r) {
@@ -61,34 +107,124 @@ public final class ManhattanConnectionRouter extends AbstractRouter {
 			min = max;
 			max = r + (r - max);
 		}
-		int proximity = 0;
-		int direction = -1;
 		if (r % 2 == 1) {
 			r--;
 		}
-		Integer i;
-		while (proximity < r) {
-			i = Integer.valueOf(r + proximity * direction);
-			if (!colsUsed.containsKey(i)) {
-				colsUsed.put(i, i);
-				reserveColumn(connection, i);
-				return i.intValue();
+		// candidates are only visited while their distance to r is less than r
+		if (r <= 0) {
+			return r;
+		}
+		ChannelSet used = row ? rowsUsed : colsUsed;
+		if (!used.contains(r)) {
+			return reserveChannel(connection, row, r);
+		}
+		if (r <= min) {
+			return r + 2;
+		}
+		if (r >= max) {
+			return r - 2;
+		}
+		// the steps to the first free candidate and to the first used candidate
+		// beyond max or min, in either direction
+		int freeUp = (used.getFree(r, true) - r) / 2;
+		int freeDown = (r - used.getFree(r, false)) / 2;
+		int limitUp = (max - r + 1) / 2;
+		int limitDown = (r - min + 1) / 2;
+		int stepsUp = Math.min(freeUp, limitUp);
+		int stepsDown = Math.min(freeDown, limitDown);
+		if (stepsUp <= stepsDown) {
+			if (2 * stepsUp >= r) {
+				return r;
 			}
-			int j = i.intValue();
-			if (j <= min) {
-				return j + 2;
+			int j = r + 2 * stepsUp;
+			return freeUp <= limitUp ? reserveChannel(connection, row, j) : j - 2;
+		}
+		if (2 * stepsDown >= r) {
+			return r;
+		}
+		int j = r - 2 * stepsDown;
+		return freeDown <= limitDown ? reserveChannel(connection, row, j) : j + 2;
+	}
+
+	private int reserveChannel(Connection connection, boolean row, int channel) {
+		if (row) {
+			rowsUsed.add(channel);
+			reserveRow(connection, Integer.valueOf(channel));
+		} else {
+			colsUsed.add(channel);
+			reserveColumn(connection, Integer.valueOf(channel));
+		}
+		return channel;
+	}
+
+	/**
+	 * Returns the row or column closest to <i>r</i> which is neither used by
+	 * another connection nor blocked by an obstacle, and reserves it. A row is
+	 * blocked by the obstacles overlapping the horizontal extent of the segment
+	 * placed in it, and vice versa for columns.
+	 *
+	 * @param connection the connection
+	 * @param row        <code>true</code> to find a row, <code>false</code> for a
+	 *                   column
+	 * @param r          the preferred row or column
+	 * @param from       the start of the segment across the channel
+	 * @param to         the end of the segment across the channel
+	 * @param obstacles  the obstacles
+	 * @return the row or column
+	 */
+	private int getChannelAround(Connection connection, boolean row, int r, int from, int to,
+			List<Rectangle> obstacles) {
+		int min = Math.min(from, to);
+		int max = Math.max(from, to);
+		ChannelSet blocked = new ChannelSet();
+		for (Rectangle obstacle : obstacles) {
+			if (row && obstacle.x <= max && obstacle.right() > min) {
+				blocked.add(obstacle.y - OBSTACLE_SPACING, obstacle.bottom() - 1 + OBSTACLE_SPACING);
+			} else if (!row && obstacle.y <= max && obstacle.bottom() > min) {
+				blocked.add(obstacle.x - OBSTACLE_SPACING, obstacle.right() - 1 + OBSTACLE_SPACING);
 			}
-			if (j >= max) {
-				return j - 2;
+		}
+		if (r % 2 != 0) {
+			r--;
+		}
+		ChannelSet used = row ? rowsUsed : colsUsed;
+		int up = getFree(used, blocked, r, true);
+		int down = getFree(used, blocked, r, false);
+		return reserveChannel(connection, row, up - r <= r - down ? up : down);
+	}
+
+	private static int getFree(ChannelSet used, ChannelSet blocked, int channel, boolean ascending) {
+		int free = channel;
+		do {
+			channel = free;
+			free = blocked.getFree(used.getFree(channel, ascending), ascending);
+		} while (free != channel);
+		return free;
+	}
+
+	/**
+	 * Returns the bounds of the children of the container, relative to the given
+	 * connection, except for the children containing its anchors.
+	 */
+	private List<Rectangle> getObstacles(Connection conn, Point start, Point end) {
+		if (container == null) {
+			return Collections.emptyList();
+		}
+		List<Rectangle> obstacles = new ArrayList<>();
+		for (IFigure child : container.getChildren()) {
+			if (!child.isVisible()) {
+				continue;
 			}
-			if (direction == 1) {
-				direction = -1;
-			} else {
-				direction = 1;
-				proximity += 2;
+			Rectangle bounds = child.getBounds().getCopy();
+			child.translateToAbsolute(bounds);
+			conn.translateToRelative(bounds);
+			// anchors on the outline of a figure are not contained by its bounds
+			Rectangle outline = bounds.getExpanded(1, 1);
+			if (!outline.contains(start) && !outline.contains(end)) {
+				obstacles.add(bounds);
 			}
 		}
-		return r;
+		return obstacles;
 	}
 
 	/**
@@ -150,35 +286,7 @@ public final class ManhattanConnectionRouter extends AbstractRouter {
 			min = max;
 			max = r + (r - max);
 		}
-
-		int proximity = 0;
-		int direction = -1;
-		if (r % 2 == 1) {
-			r--;
-		}
-		Integer i;
-		while (proximity < r) {
-			i = Integer.valueOf(r + proximity * direction);
-			if (!rowsUsed.containsKey(i)) {
-				rowsUsed.put(i, i);
-				reserveRow(connection, i);
-				return i.intValue();
-			}
-			int j = i.intValue();
-			if (j <= min) {
-				return j + 2;
-			}
-			if (j >= max) {
-				return j - 2;
-			}
-			if (direction == 1) {
-				direction = -1;
-			} else {
-				direction = 1;
-				proximity += 2;
-			}
-		}
-		return r;
+		return getChannelNear(connection, true, r, min, max);
 	}
 
 	protected Vector getStartDirection(Connection conn) {
@@ -218,6 +326,8 @@ public final class ManhattanConnectionRouter extends AbstractRouter {
 
 		PointList points = new PointList();
 		points.addPoint(new Point((int) start.x, (int) start.y));
+		List<Rectangle> obstacles = getObstacles(conn, points.getFirstPoint(),
+				new Point((int) end.x, (int) end.y));
 		Point p;
 		boolean adjust;
 		for (i = 2; i < pos.length - 1; i++) {
@@ -227,14 +337,18 @@ public final class ManhattanConnectionRouter extends AbstractRouter {
 
 			adjust = (i != pos.length - 2);
 			if (horizontal) {
-				if (adjust) {
+				if (adjust && container != null) {
+					pos[i] = current = getChannelAround(conn, true, current, prev, pos[i + 1], obstacles);
+				} else if (adjust) {
 					int min = pos[i - 2];
 					int max = pos[i + 2];
 					pos[i] = current = getRowNear(conn, current, min, max);
 				}
 				p = new Point(prev, current);
 			} else {
-				if (adjust) {
+				if (adjust && container != null) {
+					pos[i] = current = getChannelAround(conn, false, current, prev, pos[i + 1], obstacles);
+				} else if (adjust) {
 					int min = pos[i - 2];
 					int max = pos[i + 2];
 					pos[i] = current = getColumnNear(conn, current, min, max);
@@ -261,11 +375,11 @@ public final class ManhattanConnectionRouter extends AbstractRouter {
 			return;
 		}
 
-		for (Object element : rInfo.reservedRows) {
-			rowsUsed.remove(element);
+		for (Integer row : rInfo.reservedRows) {
+			rowsUsed.remove(row.intValue());
 		}
-		for (Object element : rInfo.reservedCols) {
-			colsUsed.remove(element);
+		for (Integer column : rInfo.reservedCols) {
+			colsUsed.remove(column.intValue());
 		}
 		reservedInfo.remove(connection);
 	}
@@ -17,6 +17,7 @@ import org.eclipse.draw2d.geometry.Geometry;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.internal.SegmentIndex;
 
 /**
  * Renders a {@link PointList} as a series of line segments. A Polyline figure
@@ -32,6 +33,8 @@ public class Polyline extends AbstractPointListShape {
 
 	private int tolerance = 2;
 	private static final Rectangle LINEBOUNDS = Rectangle.SINGLETON;
+	private boolean segmentIndexEnabled;
+	private SegmentIndex segmentIndex;
 
 	{
 		setFill(false);
@@ -54,6 +57,12 @@ public class Polyline extends AbstractPointListShape {
 
 	@Override
 	protected boolean shapeContainsPoint(int x, int y) {
+		if (segmentIndexEnabled) {
+			if (segmentIndex == null || !segmentIndex.isIndexOf(points)) {
+				segmentIndex = new SegmentIndex(points);
+			}
+			return segmentIndex.containsPoint(x, y, tolerance);
+		}
 		return Geometry.polylineContainsPoint(points, x, y, tolerance);
 	}
 
@@ -78,6 +87,17 @@ public class Polyline extends AbstractPointListShape {
 		return bounds;
 	}
 
+	/**
+	 * Returns whether the segments of this polyline are indexed for hit-testing.
+	 *
+	 * @return <code>true</code> if the segment index is enabled
+	 * @see #setSegmentIndexEnabled(boolean)
+	 * @since 3.18
+	 */
+	public boolean isSegmentIndexEnabled() {
+		return segmentIndexEnabled;
+	}
+
 	/**
 	 * @return <code>false</code> because Polyline's aren't filled
 	 */
@@ -110,6 +130,7 @@ public class Polyline extends AbstractPointListShape {
 	public void removeAllPoints() {
 		super.removeAllPoints();
 		bounds = null;
+		segmentIndex = null;
 	}
 
 	/**
@@ -142,6 +163,27 @@ public class Polyline extends AbstractPointListShape {
 		firePropertyChange(Connection.PROPERTY_POINTS, null, points);
 	}
 
+	/**
+	 * Enables or disables the segment index of this polyline. When enabled, the
+	 * bounding boxes of the segments are kept in a hierarchy, so that
+	 * {@link #containsPoint(int, int)} only tests the segments close to the given
+	 * location, instead of all segments. This is intended for polylines with a
+	 * large number of points, such as long routed connections.
+	 * <p>
+	 * The index is created on the first hit test and discarded whenever this
+	 * polyline is repainted, which includes all changes of its points made via
+	 * this figure. Like the bounds, it is not updated when the list returned by
+	 * {@link #getPoints()} is modified without calling
+	 * {@link #setPoints(PointList)}.
+	 *
+	 * @param enabled <code>true</code> to enable the segment index
+	 * @since 3.18
+	 */
+	public void setSegmentIndexEnabled(boolean enabled) {
+		segmentIndexEnabled = enabled;
+		segmentIndex = null;
+	}
+
 	/**
 	 * Sets the tolerance
 	 *
@@ -149,11 +191,36 @@ public class Polyline extends AbstractPointListShape {
 	 */
 	public void setTolerance(int tolerance) {
 		this.tolerance = tolerance;
+		hitAreaChanged();
+	}
+
+	/**
+	 * Returns the distance from the line within which points are still considered
+	 * to be contained in this polyline.
+	 *
+	 * @return the tolerance
+	 * @see #containsPoint(int, int)
+	 * @since 3.18
+	 */
+	public int getTolerance() {
+		return tolerance;
+	}
+
+	/**
+	 * Polylines change their bounds without notifying their figure listeners, so
+	 * the spatial index of the parent has to be told explicitly.
+	 */
+	private void hitAreaChanged() {
+		if (getParent() instanceof Figure parent) {
+			parent.childHitAreaChanged(this);
+		}
 	}
 
 	@Override
 	public void repaint() {
 		bounds = null;
+		segmentIndex = null;
+		hitAreaChanged();
 		super.repaint();
 	}
 }
\ No newline at end of file
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -19,6 +20,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
@@ -62,14 +69,31 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 	private final Set<Connection> staleConnections = new HashSet<>();
 	private final LayoutListener listener = new LayoutTracker();
 
+	/**
+	 * Executes the asynchronous solves of this router. The worker thread is
+	 * discarded when idle, so no cleanup is required.
+	 */
+	private final Executor routingExecutor = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "Draw2d Connection Routing"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+	private boolean asynchronous;
+	/**
+	 * Whether the algorithm is currently solving on the worker thread. In the
+	 * meantime, all changes to the algorithm are deferred.
+	 */
+	private boolean solving;
+	private final List<Runnable> pendingChanges = new ArrayList<>();
+
 	private final FigureListener figureListener = source -> {
 		Rectangle newBounds = source.getBounds().getCopy();
-		if (algorithm.updateObstacle(figuresToBounds.get(source), newBounds)) {
-			queueSomeRouting();
-			isDirty = true;
+		if (solving) {
+			pendingChanges.add(() -> updateChild(source, newBounds));
+			return;
 		}
-
-		figuresToBounds.put(source, newBounds);
+		updateChild(source, newBounds);
 	};
 	private boolean ignoreInvalidate;
 
@@ -92,6 +116,10 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		if (connectionToPaths == null) {
 			return;
 		}
+		if (solving) {
+			pendingChanges.add(() -> addChild(child));
+			return;
+		}
 		if (figuresToBounds.containsKey(child)) {
 			return;
 		}
@@ -122,6 +150,19 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		}
 	}
 
+	private void updateChild(IFigure child, Rectangle newBounds) {
+		if (figuresToBounds == null || !figuresToBounds.containsKey(child)) {
+			// the child has been removed while the change was deferred
+			return;
+		}
+		if (algorithm.updateObstacle(figuresToBounds.get(child), newBounds)) {
+			queueSomeRouting();
+			isDirty = true;
+		}
+
+		figuresToBounds.put(child, newBounds);
+	}
+
 	/**
 	 * Gets the constraint for the given {@link Connection}. The constraint is the
 	 * paths list of bend points for this connection.
@@ -146,6 +187,28 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		return algorithm.getSpacing();
 	}
 
+	/**
+	 * Returns whether the connections are routed on a background thread.
+	 *
+	 * @return <code>true</code> if routing is asynchronous
+	 * @see #setAsynchronous(boolean)
+	 * @since 3.18
+	 */
+	public boolean isAsynchronous() {
+		return asynchronous;
+	}
+
+	/**
+	 * Returns whether only the connections affected by a change are routed again.
+	 *
+	 * @return <code>true</code> if routing is incremental
+	 * @see #setIncremental(boolean)
+	 * @since 3.18
+	 */
+	public boolean isIncremental() {
+		return algorithm.isIncremental();
+	}
+
 	/**
 	 * @see ConnectionRouter#invalidate(Connection)
 	 */
@@ -231,6 +294,10 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		if (connectionToPaths == null) {
 			return;
 		}
+		if (solving) {
+			pendingChanges.add(() -> remove(connection));
+			return;
+		}
 		Path path = connectionToPaths.remove(connection);
 		algorithm.removePath(path);
 		isDirty = true;
@@ -248,9 +315,16 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		if (connectionToPaths == null) {
 			return;
 		}
-		Rectangle bounds = child.getBounds().getCopy();
+		if (solving) {
+			pendingChanges.add(() -> removeChild(child));
+			return;
+		}
+		Rectangle bounds = figuresToBounds.remove(child);
+		if (bounds == null) {
+			// the child has already been removed while the change was deferred
+			return;
+		}
 		boolean change = algorithm.removeObstacle(bounds);
-		figuresToBounds.remove(child);
 		child.removeFigureListener(figureListener);
 		if (change) {
 			isDirty = true;
@@ -263,42 +337,127 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 	 */
 	@Override
 	public void route(Connection conn) {
+		if (solving) {
+			routeDirectly(conn);
+			return;
+		}
 		if (isDirty) {
 			ignoreInvalidate = true;
 			processStaleConnections();
 			isDirty = false;
-			for (Path path : algorithm.solve()) {
-				Connection current = (Connection) path.data;
-				current.revalidate();
+			Display display = asynchronous ? Display.getCurrent() : null;
+			if (display != null) {
+				solveInBackground(display);
+				routeDirectly(conn);
+			} else {
+				algorithm.solve().forEach(this::applyPath);
+			}
+			ignoreInvalidate = false;
+		}
+	}
+
+	private void applyPath(Path path) {
+		Connection current = (Connection) path.data;
+		current.revalidate();
 
-				PointList points = path.getPoints().getCopy();
-				Point ref1 = new PrecisionPoint(points.getPoint(1));
-				Point ref2 = new PrecisionPoint(points.getPoint(points.size() - 2));
-				current.translateToAbsolute(ref1);
-				current.translateToAbsolute(ref2);
+		PointList points = path.getPoints().getCopy();
+		Point ref1 = new PrecisionPoint(points.getX(1), points.getY(1));
+		Point ref2 = new PrecisionPoint(points.getX(points.size() - 2), points.getY(points.size() - 2));
+		current.translateToAbsolute(ref1);
+		current.translateToAbsolute(ref2);
 
-				Point start = current.getSourceAnchor().getLocation(ref1).getCopy();
-				Point end = current.getTargetAnchor().getLocation(ref2).getCopy();
+		Point start = current.getSourceAnchor().getLocation(ref1).getCopy();
+		Point end = current.getTargetAnchor().getLocation(ref2).getCopy();
 
-				current.translateToRelative(start);
-				current.translateToRelative(end);
-				points.setPoint(start, 0);
-				points.setPoint(end, points.size() - 1);
+		current.translateToRelative(start);
+		current.translateToRelative(end);
+		points.setPoint(start, 0);
+		points.setPoint(end, points.size() - 1);
 
-				current.setPoints(points);
+		current.setPoints(points);
+	}
+
+	/**
+	 * Routes a connection which has not been routed yet directly between its
+	 * anchors, until the solve running in the background has finished. Routed
+	 * connections keep their previous route in the meantime.
+	 *
+	 * @param conn the connection
+	 */
+	private void routeDirectly(Connection conn) {
+		PointList points = conn.getPoints();
+		if (points.size() >= 2) {
+			return;
+		}
+		points.removeAllPoints();
+		Point p = getStartPoint(conn);
+		conn.translateToRelative(p);
+		points.addPoint(p);
+		p = getEndPoint(conn);
+		conn.translateToRelative(p);
+		points.addPoint(p);
+		conn.setPoints(points);
+	}
+
+	/**
+	 * Solves the algorithm on the worker thread. The paths, obstacles and spacing
+	 * of the algorithm are not changed until the solve has finished. The computed
+	 * routes are then applied to all solved connections at once, on the UI thread.
+	 *
+	 * @param display the display of the UI thread
+	 */
+	private void solveInBackground(Display display) {
+		solving = true;
+		routingExecutor.execute(() -> {
+			List<Path> solved = Collections.emptyList();
+			try {
+				solved = algorithm.solve();
+			} finally {
+				List<Path> paths = solved;
+				if (!display.isDisposed()) {
+					display.asyncExec(() -> finishSolve(paths));
+				}
+			}
+		});
+	}
+
+	private void finishSolve(List<Path> paths) {
+		solving = false;
+		List<Runnable> changes = new ArrayList<>(pendingChanges);
+		pendingChanges.clear();
+		changes.forEach(Runnable::run);
+
+		ignoreInvalidate = true;
+		try {
+			for (Path path : paths) {
+				// connections removed in the meantime are no longer updated
+				if (connectionToPaths != null && connectionToPaths.get(path.data) == path) {
+					applyPath(path);
+				}
 			}
+		} finally {
 			ignoreInvalidate = false;
 		}
+
+		if (isDirty) {
+			// route the changes made in the meantime
+			if (!staleConnections.isEmpty()) {
+				processLayout();
+			} else {
+				queueSomeRouting();
+			}
+		}
 	}
 
 	/**
 	 * @return All connection paths after routing dirty paths. Some of the paths
 	 *         that were not dirty may change as well, as a consequence of new
-	 *         routings.
+	 *         routings. The list is empty while the connections are routed
+	 *         asynchronously.
 	 * @since 3.5
 	 */
 	public List<Path> getPathsAfterRouting() {
-		if (isDirty) {
+		if (isDirty && !solving) {
 			processStaleConnections();
 			isDirty = false;
 			return algorithm.solve();
@@ -320,6 +479,43 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		isDirty = true;
 	}
 
+	/**
+	 * Sets whether the connections are routed on a background thread. If enabled,
+	 * the positions of the anchors are taken when routing is due and the routes
+	 * are computed on a worker thread, so that the UI stays responsive. The new
+	 * routes are then applied to all routed connections at once on the UI thread.
+	 * In the meantime, the connections keep their previous routes, while new
+	 * connections are drawn directly between their anchors. Changes made in the
+	 * meantime are routed once the current routes have been applied. Connections
+	 * are always routed synchronously if not validated on the UI thread. The
+	 * default value is <code>false</code>.
+	 *
+	 * @param asynchronous <code>true</code> to route on a background thread
+	 * @since 3.18
+	 */
+	public void setAsynchronous(boolean asynchronous) {
+		this.asynchronous = asynchronous;
+	}
+
+	/**
+	 * Sets whether only the connections affected by a change are routed again.
+	 * When a child of the container moves, this only updates the connections which
+	 * are rerouted around the child and the connections sharing a corner with
+	 * them, while all other connections keep their points. The default value is
+	 * <code>false</code>.
+	 *
+	 * @param incremental <code>true</code> to route incrementally
+	 * @see ShortestPathRouter#setIncremental(boolean)
+	 * @since 3.18
+	 */
+	public void setIncremental(boolean incremental) {
+		if (solving) {
+			pendingChanges.add(() -> setIncremental(incremental));
+			return;
+		}
+		algorithm.setIncremental(incremental);
+	}
+
 	/**
 	 * Sets the default space that should be maintained on either side of a
 	 * connection. This causes the connections to be separated from each other and
@@ -329,6 +525,10 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 	 * @since 3.2
 	 */
 	public void setSpacing(int spacing) {
+		if (solving) {
+			pendingChanges.add(() -> setSpacing(spacing));
+			return;
+		}
 		algorithm.setSpacing(spacing);
 	}
 
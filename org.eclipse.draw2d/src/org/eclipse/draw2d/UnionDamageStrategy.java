@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Damage strategy which repaints the smallest rectangle containing all damaged
+ * areas. This is the default strategy of the {@link DeferredUpdateManager}.
+ *
+ * @since 3.18
+ */
+public class UnionDamageStrategy implements IDamageStrategy {
+
+	@Override
+	public List<Rectangle> getRepaintRegions(List<Rectangle> damage) {
+		if (damage.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Rectangle union = new Rectangle(damage.get(0));
+		damage.forEach(union::union);
+		return Collections.singletonList(union);
+	}
+}
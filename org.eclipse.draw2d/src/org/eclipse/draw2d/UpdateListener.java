@@ -40,6 +40,32 @@ public interface UpdateListener {
 	 */
 	void notifyValidating();
 
+	/**
+	 * Notifies the listener that frames have been dropped, because an update took
+	 * longer than the frame interval of the update manager or has been delayed by
+	 * other work on the UI thread. Only sent if a target frame rate has been set.
+	 *
+	 * @param count         the number of frames dropped
+	 * @param frameDuration the duration of the last update in nanoseconds
+	 * @see DeferredUpdateManager#setTargetFrameRate(int)
+	 * @since 3.18
+	 */
+	default void notifyFramesDropped(int count, long frameDuration) {
+		// optional
+	}
+
+	/**
+	 * Notifies the listener that an update has been completed. Only sent if the
+	 * instrumentation of the update manager is enabled.
+	 *
+	 * @param statistics the measurements of the update
+	 * @see DeferredUpdateManager#setInstrumentationEnabled(boolean)
+	 * @since 3.18
+	 */
+	default void notifyUpdated(UpdateStatistics statistics) {
+		// optional
+	}
+
 	/**
 	 * An empty implementation of {@list UpdateListener} for convenience.
 	 *
@@ -117,6 +117,27 @@ public abstract class UpdateManager {
 		listeners.forEach(localListener -> localListener.notifyPainting(damage, dirtyRegions));
 	}
 
+	/**
+	 * Notifies listeners that frames have been dropped.
+	 *
+	 * @param count         the number of dropped frames
+	 * @param frameDuration the duration of the last update in nanoseconds
+	 * @since 3.18
+	 */
+	protected void fireFramesDropped(int count, long frameDuration) {
+		listeners.forEach(localListener -> localListener.notifyFramesDropped(count, frameDuration));
+	}
+
+	/**
+	 * Notifies listeners that an update has been completed.
+	 *
+	 * @param statistics the measurements of the update
+	 * @since 3.18
+	 */
+	protected void fireUpdated(UpdateStatistics statistics) {
+		listeners.forEach(localListener -> localListener.notifyUpdated(statistics));
+	}
+
 	/**
 	 * Notifies listeners that validation is about to occur.
 	 */
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Collects the measurements of a single update. While an update is recorded,
+ * the recorder is accessible via {@link #getActive()}, so that figures can
+ * report their work. If no update is recorded, the only cost is the check for
+ * an active recorder. Recorders must only be used on the UI thread.
+ */
+final class UpdateRecorder {
+
+	private static UpdateRecorder active;
+
+	private final UpdateRecorder previous;
+	private final Object updateEvent;
+	private final Map<Class<?>, long[]> timePerClass = new HashMap<>();
+	private long validationTime;
+	private long paintTime;
+	private int validatedFigures;
+	private int paintedFigures;
+	private Rectangle largestDamage;
+	private Object spanEvent;
+
+	private UpdateRecorder(UpdateRecorder previous) {
+		this.previous = previous;
+		this.updateEvent = FlightRecorderSupport.isEnabled() ? FlightRecorderSupport.beginUpdate() : null;
+	}
+
+	/**
+	 * @return the recorder of the current update or <code>null</code> if the
+	 *         current update is not recorded
+	 */
+	static UpdateRecorder getActive() {
+		return active;
+	}
+
+	/**
+	 * Starts recording an update. Must be followed by {@link #end()}.
+	 */
+	static UpdateRecorder begin() {
+		active = new UpdateRecorder(active);
+		return active;
+	}
+
+	/**
+	 * Stops recording and commits the flight recorder event of this update.
+	 *
+	 * @return the measurements of the update
+	 */
+	UpdateStatistics end() {
+		active = previous;
+		Class<?> slowestClass = null;
+		long slowestTime = 0;
+		for (Map.Entry<Class<?>, long[]> entry : timePerClass.entrySet()) {
+			if (slowestClass == null || entry.getValue()[0] > slowestTime) {
+				slowestClass = entry.getKey();
+				slowestTime = entry.getValue()[0];
+			}
+		}
+		UpdateStatistics statistics = new UpdateStatistics(validationTime, paintTime, validatedFigures,
+				paintedFigures, largestDamage, slowestClass, slowestTime);
+		FlightRecorderSupport.commitUpdate(updateEvent, statistics);
+		return statistics;
+	}
+
+	void beginValidation() {
+		if (updateEvent != null) {
+			spanEvent = FlightRecorderSupport.beginValidation();
+		}
+	}
+
+	void endValidation(long time) {
+		validationTime += time;
+		FlightRecorderSupport.commitValidation(spanEvent, validatedFigures);
+		spanEvent = null;
+	}
+
+	void beginPaint() {
+		if (updateEvent != null) {
+			spanEvent = FlightRecorderSupport.beginPaint();
+		}
+	}
+
+	void endPaint(Rectangle region, long time) {
+		paintTime += time;
+		if (largestDamage == null || area(region) > area(largestDamage)) {
+			largestDamage = region.getCopy();
+		}
+		FlightRecorderSupport.commitPaint(spanEvent, region);
+		spanEvent = null;
+	}
+
+	/**
+	 * @param figure the figure which has been laid out
+	 * @param time   the time spent in {@link Figure#layout()}
+	 */
+	void figureValidated(IFigure figure, long time) {
+		validatedFigures++;
+		addTime(figure, time);
+	}
+
+	/**
+	 * @param figure the figure which has been painted
+	 * @param time   the time spent painting the figure, excluding its children
+	 */
+	void figurePainted(IFigure figure, long time) {
+		paintedFigures++;
+		addTime(figure, time);
+	}
+
+	private void addTime(IFigure figure, long time) {
+		timePerClass.computeIfAbsent(figure.getClass(), key -> new long[1])[0] += time;
+	}
+
+	private static long area(Rectangle r) {
+		return (long) r.width * r.height;
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Measurements of a single update of an update manager, i.e. the validation of
+ * all invalid figures followed by the repaint of the damaged regions. All times
+ * are given in nanoseconds.
+ *
+ * @see UpdateListener#notifyUpdated(UpdateStatistics)
+ * @see DeferredUpdateManager#setInstrumentationEnabled(boolean)
+ * @since 3.18
+ */
+public final class UpdateStatistics {
+
+	private final long validationTime;
+	private final long paintTime;
+	private final int validatedFigures;
+	private final int paintedFigures;
+	private final Rectangle largestDamage;
+	private final Class<?> slowestFigureClass;
+	private final long slowestFigureClassTime;
+
+	UpdateStatistics(long validationTime, long paintTime, int validatedFigures, int paintedFigures,
+			Rectangle largestDamage, Class<?> slowestFigureClass, long slowestFigureClassTime) {
+		this.validationTime = validationTime;
+		this.paintTime = paintTime;
+		this.validatedFigures = validatedFigures;
+		this.paintedFigures = paintedFigures;
+		this.largestDamage = largestDamage;
+		this.slowestFigureClass = slowestFigureClass;
+		this.slowestFigureClassTime = slowestFigureClassTime;
+	}
+
+	/**
+	 * @return the time spent validating the invalid figures
+	 */
+	public long getValidationTime() {
+		return validationTime;
+	}
+
+	/**
+	 * @return the time spent painting the damaged regions
+	 */
+	public long getPaintTime() {
+		return paintTime;
+	}
+
+	/**
+	 * @return the number of figures which have been laid out
+	 */
+	public int getValidatedFigureCount() {
+		return validatedFigures;
+	}
+
+	/**
+	 * @return the number of figures which have been painted
+	 */
+	public int getPaintedFigureCount() {
+		return paintedFigures;
+	}
+
+	/**
+	 * @return a copy of the largest region which has been repainted, or
+	 *         <code>null</code> if nothing has been painted
+	 */
+	public Rectangle getLargestDamage() {
+		return largestDamage == null ? null : largestDamage.getCopy();
+	}
+
+	/**
+	 * Returns the figure class whose instances took the most time to lay out and
+	 * to paint themselves, excluding the time spent on their children.
+	 *
+	 * @return the slowest figure class, or <code>null</code> if no figure has
+	 *         been validated or painted
+	 */
+	public Class<?> getSlowestFigureClass() {
+		return slowestFigureClass;
+	}
+
+	/**
+	 * @return the time spent by all instances of the
+	 *         {@link #getSlowestFigureClass() slowest figure class}
+	 */
+	public long getSlowestFigureClassTime() {
+		return slowestFigureClassTime;
+	}
+
+	@Override
+	public String toString() {
+		return "UpdateStatistics(validation=" + validationTime + "ns, paint=" + paintTime + "ns, validated=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ validatedFigures + ", painted=" + paintedFigures + ", largestDamage=" + largestDamage //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", slowest=" + (slowestFigureClass == null ? null : slowestFigureClass.getName()) + ')'; //$NON-NLS-1$
+	}
+}
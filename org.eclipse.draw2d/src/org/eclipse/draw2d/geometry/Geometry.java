@@ -103,13 +103,12 @@ public class Geometry {
 	 * @since 3.5
 	 */
 	public static boolean polylineContainsPoint(PointList points, int x, int y, int tolerance) {
-		int coordinates[] = points.toIntArray();
 		/*
 		 * For each segment of PolyLine calling isSegmentPoint
 		 */
-		for (int index = 0; index < coordinates.length - 3; index += 2) {
-			if (segmentContainsPoint(coordinates[index], coordinates[index + 1], coordinates[index + 2],
-					coordinates[index + 3], x, y, tolerance)) {
+		for (int index = 0; index < points.size() - 1; index++) {
+			if (segmentContainsPoint(points.getX(index), points.getY(index), points.getX(index + 1),
+					points.getY(index + 1), x, y, tolerance)) {
 				return true;
 			}
 		}
@@ -117,10 +116,20 @@ public class Geometry {
 	}
 
 	/**
+	 * @param x1        - X coordinate of the start of the segment
+	 * @param y1        - Y coordinate of the start of the segment
+	 * @param x2        - X coordinate of the end of the segment
+	 * @param y2        - Y coordinate of the end of the segment
+	 * @param px        - X coordinate of the point
+	 * @param py        - Y coordinate of the point
+	 * @param tolerance - allowed distance between point and segment
+	 *
 	 * @return true if the least distance between point (px,py) and segment (x1,y1)
 	 *         - (x2,y2) is less then specified tolerance
+	 * @see #polylineContainsPoint(PointList, int, int, int)
+	 * @since 3.18
 	 */
-	private static boolean segmentContainsPoint(int x1, int y1, int x2, int y2, int px, int py, int tolerance) {
+	public static boolean segmentContainsPoint(int x1, int y1, int x2, int y2, int px, int py, int tolerance) {
 		/*
 		 * Point should be located inside Rectangle(x1 -+ tolerance, y1 -+ tolerance, x2
 		 * +- tolerance, y2 +- tolerance)
@@ -169,16 +178,15 @@ public class Geometry {
 	 */
 	public static boolean polygonContainsPoint(PointList points, int x, int y) {
 		boolean isOdd = false;
-		int coordinates[] = points.toIntArray();
-		int n = coordinates.length;
-		if (n > 3) { // If there are at least 2 Points (4 ints)
+		int n = points.size();
+		if (n > 1) { // If there are at least 2 Points
 			int x1, y1;
-			int x0 = coordinates[n - 2];
-			int y0 = coordinates[n - 1];
+			int x0 = points.getX(n - 1);
+			int y0 = points.getY(n - 1);
 
-			for (int i = 0; i < n; x0 = x1, y0 = y1) {
-				x1 = coordinates[i++];
-				y1 = coordinates[i++];
+			for (int i = 0; i < n; i++, x0 = x1, y0 = y1) {
+				x1 = points.getX(i);
+				y1 = points.getY(i);
 				if (!segmentContaintPoint(y0, y1, y)) {
 					// Current edge has no intersection with the point by Y
 					// coordinates
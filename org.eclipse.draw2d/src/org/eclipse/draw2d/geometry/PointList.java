@@ -116,10 +116,17 @@ public class PointList implements java.io.Serializable, Translatable {
 		}
 		bounds = new Rectangle();
 		if (size > 0) {
-			bounds.setLocation(getPoint(0));
-			for (int i = 0; i < size; i++) {
-				bounds.union(getPoint(i));
+			int minX = points[0];
+			int minY = points[1];
+			int maxX = minX;
+			int maxY = minY;
+			for (int i = 2; i < size * 2; i += 2) {
+				minX = Math.min(minX, points[i]);
+				minY = Math.min(minY, points[i + 1]);
+				maxX = Math.max(maxX, points[i]);
+				maxY = Math.max(maxY, points[i + 1]);
 			}
+			bounds.setBounds(minX, minY, maxX - minX + 1, maxY - minY + 1);
 		}
 		return bounds;
 	}
@@ -214,6 +221,90 @@ public class PointList implements java.io.Serializable, Translatable {
 		return p;
 	}
 
+	/**
+	 * Returns the x value of the point at the specified index. This method exists
+	 * to avoid the creation of a new <code>Point</code>.
+	 *
+	 * @param index Index of the desired point
+	 * @return The x value of the point
+	 * @throws IndexOutOfBoundsException If the specified index is out of range
+	 * @since 3.18
+	 */
+	public int getX(int index) {
+		checkIndex(index);
+		return points[index * 2];
+	}
+
+	/**
+	 * Returns the y value of the point at the specified index. This method exists
+	 * to avoid the creation of a new <code>Point</code>.
+	 *
+	 * @param index Index of the desired point
+	 * @return The y value of the point
+	 * @throws IndexOutOfBoundsException If the specified index is out of range
+	 * @since 3.18
+	 */
+	public int getY(int index) {
+		checkIndex(index);
+		return points[index * 2 + 1];
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + //$NON-NLS-1$
+					", Size: " + size); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Copies the points of this list, translated by the given amount, into the
+	 * given array. The list itself is not modified. If the array is
+	 * <code>null</code> or too small to hold all points, a new array of exactly
+	 * twice the size of this list is allocated. Otherwise, only the first
+	 * {@link #size()} * 2 values of the array are overwritten.
+	 *
+	 * @param dx     Amount by which the points are shifted on the X axis
+	 * @param dy     Amount by which the points are shifted on the Y axis
+	 * @param buffer The array to copy the points into, or <code>null</code>
+	 * @return The array containing the translated points
+	 * @since 3.18
+	 */
+	public int[] getTranslated(int dx, int dy, int[] buffer) {
+		int length = size * 2;
+		if (buffer == null || buffer.length < length) {
+			buffer = new int[length];
+		}
+		for (int i = 0; i < length; i += 2) {
+			buffer[i] = points[i] + dx;
+			buffer[i + 1] = points[i + 1] + dy;
+		}
+		return buffer;
+	}
+
+	/**
+	 * Copies the points of this list, scaled by the given factor, into the given
+	 * array. The values are rounded like in {@link #performScale(double)}, and the
+	 * list itself is not modified. If the array is <code>null</code> or too small
+	 * to hold all points, a new array of exactly twice the size of this list is
+	 * allocated. Otherwise, only the first {@link #size()} * 2 values of the array
+	 * are overwritten.
+	 *
+	 * @param factor The scale factor
+	 * @param buffer The array to copy the points into, or <code>null</code>
+	 * @return The array containing the scaled points
+	 * @since 3.18
+	 */
+	public int[] getScaled(double factor, int[] buffer) {
+		int length = size * 2;
+		if (buffer == null || buffer.length < length) {
+			buffer = new int[length];
+		}
+		for (int i = 0; i < length; i++) {
+			buffer[i] = (int) Math.floor(points[i] * factor);
+		}
+		return buffer;
+	}
+
 	/**
 	 * Inserts a given point at a specified index.
 	 *
@@ -234,11 +325,8 @@ public class PointList implements java.io.Serializable, Translatable {
 		}
 		index *= 2;
 
-		int length = points.length;
-		int old[] = points;
-		points = new int[length + 2];
-		System.arraycopy(old, 0, points, 0, index);
-		System.arraycopy(old, index, points, index + 2, length - index);
+		ensureCapacity(size + 1);
+		System.arraycopy(points, index, points, index + 2, size * 2 - index);
 
 		points[index] = p.x;
 		points[index + 1] = p.y;
@@ -381,6 +469,7 @@ public class PointList implements java.io.Serializable, Translatable {
 	 * @param newSize the new size
 	 */
 	public void setSize(int newSize) {
+		bounds = null;
 		if (points.length > newSize * 2) {
 			size = newSize;
 			return;
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+
+/**
+ * The working paths of a {@link ShortestPathRouter} which are bent again by an
+ * incremental solve. These are the rerouted paths and all paths bending around
+ * a touched vertex, i.e. a vertex of the previous or new route of a rerouted
+ * path.
+ *
+ * The offsets at a vertex depend on all paths bending around it. All paths at a
+ * touched vertex are therefore bent again, while the affected paths keep their
+ * previous bend points at all other vertices, which are shared with paths that
+ * are not bent again.
+ *
+ * This class is for internal use only.
+ *
+ * @since 3.18
+ */
+class AffectedPaths {
+
+	private final List<Path> workingPaths;
+	private final Map<Vertex, List<Path>> pathsOnVertices = new IdentityHashMap<>();
+	private final Set<Path> paths = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Set<Vertex> touchedVertices = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<Path, Map<Vertex, Point>> previousBends = new IdentityHashMap<>();
+
+	/**
+	 * Creates a new, empty set of affected paths. The vertices of the given paths
+	 * are taken from their current solution.
+	 *
+	 * @param workingPaths all working paths of the router
+	 */
+	AffectedPaths(List<Path> workingPaths) {
+		this.workingPaths = workingPaths;
+		for (Path path : workingPaths) {
+			for (Vertex vertex : path.getBendVertices()) {
+				pathsOnVertices.computeIfAbsent(vertex, v -> new ArrayList<>(2)).add(path);
+			}
+		}
+	}
+
+	/**
+	 * Adds a path which has just been rerouted, and touches all vertices of its
+	 * new route.
+	 *
+	 * @param path the rerouted path
+	 */
+	void addReroutedPath(Path path) {
+		paths.add(path);
+		for (Vertex vertex : path.getBendVertices()) {
+			touch(vertex);
+		}
+	}
+
+	/**
+	 * Touches the given vertex and adds all paths bending around it. The previous
+	 * bend points of these paths are remembered before their solution is reset.
+	 *
+	 * @param vertex the vertex
+	 * @return <code>true</code> if paths have been added
+	 */
+	boolean touch(Vertex vertex) {
+		if (!touchedVertices.add(vertex)) {
+			return false;
+		}
+		List<Path> pathsOnVertex = pathsOnVertices.get(vertex);
+		if (pathsOnVertex == null) {
+			return false;
+		}
+		boolean changed = false;
+		for (Path path : pathsOnVertex) {
+			if (paths.add(path)) {
+				rememberBends(path);
+				path.resetPartial();
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private void rememberBends(Path path) {
+		List<Segment> route = path.grownSegments;
+		PointList points = path.getPoints();
+		// the points are the start, one bend point per inner vertex and the end
+		if (route.size() + 1 != points.size()) {
+			return;
+		}
+		Map<Vertex, Point> bends = new IdentityHashMap<>();
+		for (int i = 0; i < route.size() - 1; i++) {
+			bends.putIfAbsent(route.get(i).end, points.getPoint(i + 1));
+		}
+		previousBends.put(path, bends);
+	}
+
+	/**
+	 * Must be called when a subpath has been split off an affected path, so that
+	 * the subpath keeps the previous bend points of the path.
+	 *
+	 * @param path    the affected path
+	 * @param subPath the new subpath
+	 */
+	void addSubPath(Path path, Path subPath) {
+		Map<Vertex, Point> bends = previousBends.get(path);
+		if (bends != null) {
+			previousBends.put(subPath, bends);
+		}
+	}
+
+	/**
+	 * @param vertex a vertex
+	 * @return <code>true</code> if the paths at the given vertex are bent again
+	 */
+	boolean isTouched(Vertex vertex) {
+		return touchedVertices.contains(vertex);
+	}
+
+	/**
+	 * Returns the point at which the given path has been bent around the given
+	 * vertex by the previous solve, unless the vertex has been touched.
+	 *
+	 * @param path   the path
+	 * @param vertex the vertex
+	 * @return the previous bend point, or <code>null</code> if the path has to be
+	 *         bent again at the vertex
+	 */
+	Point getPreviousBend(Path path, Vertex vertex) {
+		if (touchedVertices.contains(vertex)) {
+			return null;
+		}
+		Map<Vertex, Point> bends = previousBends.get(path);
+		return bends == null ? null : bends.get(vertex);
+	}
+
+	/**
+	 * @param path a path
+	 * @return <code>true</code> if the given path is affected
+	 */
+	boolean contains(Path path) {
+		return paths.contains(path);
+	}
+
+	/**
+	 * Returns the affected paths in the order of the working paths, so that an
+	 * incremental solve processes them in the same order as a full solve.
+	 *
+	 * @return a new list of the affected paths
+	 */
+	List<Path> getPaths() {
+		List<Path> result = new ArrayList<>(paths.size());
+		for (Path path : workingPaths) {
+			if (paths.contains(path)) {
+				result.add(path);
+			}
+		}
+		return result;
+	}
+
+}
@@ -250,11 +250,12 @@ class BreakCycles extends GraphVisitor {
 	@Override
 	public void visit(DirectedGraph g) {
 		// put all nodes in list, initialize index
-		graphNodes.resetFlags();
+		graphNodes.clear();
 		for (Node n : g.nodes) {
 			setIncomingCount(n, n.incoming.size());
 			graphNodes.add(n);
 		}
+		graphNodes.resetFlags();
 		if (containsCycles(g)) {
 			breakCycles(g);
 		}
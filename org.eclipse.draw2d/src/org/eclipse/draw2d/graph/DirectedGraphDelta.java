@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+/**
+ * The changes made to a {@link DirectedGraph} since it was last laid out. A
+ * delta is passed to {@link DirectedGraphLayout#visit(DirectedGraph, DirectedGraphDelta)}
+ * together with the graph of the previous layout, which then applies the
+ * changes to the graph and reuses as much of the previous ranks and orderings as
+ * possible.
+ * <P>
+ * Edges are connected to their source and target node when they are
+ * constructed, so an added edge must only be listed here and not be added to
+ * the graph's {@link DirectedGraph#edges edges} list. The edges of a removed
+ * node are removed together with the node.
+ *
+ * @since 3.18
+ */
+public class DirectedGraphDelta {
+
+	/**
+	 * The nodes which are added to the graph.
+	 */
+	public NodeList addedNodes = new NodeList();
+
+	/**
+	 * The nodes which are removed from the graph, together with their edges.
+	 */
+	public NodeList removedNodes = new NodeList();
+
+	/**
+	 * The edges which are added to the graph.
+	 */
+	public EdgeList addedEdges = new EdgeList();
+
+	/**
+	 * The edges which are removed from the graph.
+	 */
+	public EdgeList removedEdges = new EdgeList();
+
+	/**
+	 * Returns <code>true</code> if this delta doesn't contain any changes.
+	 *
+	 * @return <code>true</code> if the delta is empty
+	 */
+	public boolean isEmpty() {
+		return addedNodes.isEmpty() && removedNodes.isEmpty() && addedEdges.isEmpty() && removedEdges.isEmpty();
+	}
+
+	/**
+	 * Applies this delta to the given graph. Removed edges and nodes are removed
+	 * first, so that a node may be removed and added again in the same delta.
+	 *
+	 * @param graph the graph to change
+	 */
+	void applyTo(DirectedGraph graph) {
+		for (Edge edge : getRemovedEdges()) {
+			graph.removeEdge(edge);
+		}
+		for (Node node : removedNodes) {
+			graph.removeNode(node);
+		}
+		for (Node node : addedNodes) {
+			if (!graph.nodes.contains(node)) {
+				graph.nodes.add(node);
+			}
+		}
+		for (Edge edge : addedEdges) {
+			if (!edge.source.outgoing.contains(edge)) {
+				edge.source.outgoing.add(edge);
+			}
+			if (!edge.target.incoming.contains(edge)) {
+				edge.target.incoming.add(edge);
+			}
+			if (!graph.edges.contains(edge)) {
+				graph.edges.add(edge);
+			}
+		}
+	}
+
+	/**
+	 * Returns the removed edges, including the edges of all removed nodes.
+	 *
+	 * @return the removed edges
+	 */
+	EdgeList getRemovedEdges() {
+		EdgeList edges = new EdgeList();
+		edges.addAll(removedEdges);
+		for (Node node : removedNodes) {
+			node.incoming.stream().filter(e -> !edges.contains(e)).forEach(edges::add);
+			node.outgoing.stream().filter(e -> !edges.contains(e)).forEach(edges::add);
+		}
+		return edges;
+	}
+
+}
@@ -73,6 +73,9 @@ import java.util.Deque;
 public class DirectedGraphLayout {
 
 	Deque<GraphVisitor> steps = new ArrayDeque<>();
+	private MinCross minCross;
+	private int restarts;
+	private long timeLimit;
 
 	/**
 	 * @since 3.1
@@ -90,11 +93,72 @@ public class DirectedGraphLayout {
 		steps.add(new RankAssignmentSolver());
 		steps.add(new PopulateRanks());
 		steps.add(new VerticalPlacement());
-		steps.add(new MinCross());
+		steps.add(minCross = new MinCross());
 		steps.add(new LocalOptimizer());
 		steps.add(new HorizontalPlacement());
 	}
 
+	/**
+	 * Sets the number of additional restarts of the crossing minimization. Each
+	 * restart orders the nodes within their ranks starting from a different random
+	 * ordering. The restarts are run in parallel, on up to one thread per restart,
+	 * and the ordering with the fewest edge crossings is kept. The default is 0,
+	 * which only runs the regular crossing minimization.
+	 * <P>
+	 * Restarts are not used for graphs with row constraints and for incremental
+	 * layouts, which keep the previous ordering of the nodes.
+	 *
+	 * @param restarts the number of restarts, must not be negative
+	 * @since 3.18
+	 */
+	public void setCrossingMinimizationRestarts(int restarts) {
+		if (restarts < 0) {
+			throw new IllegalArgumentException("Restarts must not be negative: " + restarts); //$NON-NLS-1$
+		}
+		this.restarts = restarts;
+		if (minCross != null) {
+			minCross.setRestarts(restarts);
+		}
+	}
+
+	/**
+	 * Returns the number of additional restarts of the crossing minimization.
+	 *
+	 * @return the number of restarts
+	 * @since 3.18
+	 */
+	public int getCrossingMinimizationRestarts() {
+		return restarts;
+	}
+
+	/**
+	 * Sets the wall-clock time after which the crossing minimization, including
+	 * all restarts, stops and keeps the best ordering found so far. The default
+	 * is 0, which means that there is no limit.
+	 *
+	 * @param timeLimit the time limit in milliseconds, must not be negative
+	 * @since 3.18
+	 */
+	public void setCrossingMinimizationTimeLimit(long timeLimit) {
+		if (timeLimit < 0) {
+			throw new IllegalArgumentException("Time limit must not be negative: " + timeLimit); //$NON-NLS-1$
+		}
+		this.timeLimit = timeLimit;
+		if (minCross != null) {
+			minCross.setTimeLimit(timeLimit);
+		}
+	}
+
+	/**
+	 * Returns the time limit of the crossing minimization.
+	 *
+	 * @return the time limit in milliseconds, or 0 if there is no limit
+	 * @since 3.18
+	 */
+	public long getCrossingMinimizationTimeLimit() {
+		return timeLimit;
+	}
+
 	/**
 	 * Lays out the given graph
 	 *
@@ -104,8 +168,60 @@ public class DirectedGraphLayout {
 		if (graph.nodes.isEmpty()) {
 			return;
 		}
-		steps.iterator().forEachRemaining(visitor -> visitor.visit(graph));
-		steps.descendingIterator().forEachRemaining(visitor -> visitor.revisit(graph));
+		visit(graph, steps);
+	}
+
+	/**
+	 * Lays out the given graph again after it has been changed. The graph must be
+	 * the result of a previous layout, and the changes since then must be
+	 * described by the given delta, which is applied to the graph before it is laid
+	 * out.
+	 * <P>
+	 * The ranks and the order of the nodes within their ranks are taken from the
+	 * previous layout. Nodes are only moved to another rank if the changes
+	 * require it, and the crossing minimization is only repeated for the rows
+	 * around the changed nodes and edges. A full layout is performed if the graph
+	 * has not been laid out before, or if it is a {@link CompoundDirectedGraph}.
+	 *
+	 * @param graph the graph of the previous layout
+	 * @param delta the changes since the previous layout
+	 * @since 3.18
+	 */
+	public void visit(DirectedGraph graph, DirectedGraphDelta delta) {
+		if (graph.ranks.size() == 0 || graph instanceof CompoundDirectedGraph) {
+			delta.applyTo(graph);
+			visit(graph);
+			return;
+		}
+		WarmStart warmStart = new WarmStart(graph, delta);
+		if (graph.nodes.isEmpty()) {
+			return;
+		}
+		MinCross localMinCross = new MinCross();
+		localMinCross.setRows(warmStart.rows);
+		localMinCross.setTimeLimit(timeLimit);
+		LocalOptimizer localOptimizer = new LocalOptimizer();
+		localOptimizer.setRows(warmStart.rows);
+
+		Deque<GraphVisitor> incrementalSteps = new ArrayDeque<>();
+		incrementalSteps.add(new TransposeMetrics());
+		incrementalSteps.add(new BreakCycles());
+		incrementalSteps.add(new RouteEdges());
+		incrementalSteps.add(new WarmStartRankSolver(warmStart::getPreviousRank));
+		incrementalSteps.add(new TightSpanningTreeSolver());
+		incrementalSteps.add(new RankAssignmentSolver());
+		incrementalSteps.add(new PopulateRanks());
+		incrementalSteps.add(new WarmStartOrdering(warmStart));
+		incrementalSteps.add(new VerticalPlacement());
+		incrementalSteps.add(localMinCross);
+		incrementalSteps.add(localOptimizer);
+		incrementalSteps.add(new HorizontalPlacement(warmStart));
+		visit(graph, incrementalSteps);
+	}
+
+	private static void visit(DirectedGraph graph, Deque<GraphVisitor> visitors) {
+		visitors.iterator().forEachRemaining(visitor -> visitor.visit(graph));
+		visitors.descendingIterator().forEachRemaining(visitor -> visitor.revisit(graph));
 	}
 
 }
@@ -138,6 +138,19 @@ class HorizontalPlacement extends SpanningTreeVisitor {
 	DirectedGraph prime;
 	Node graphRight;
 	Node graphLeft;
+	private WarmStart warmStart;
+
+	HorizontalPlacement() {
+	}
+
+	/**
+	 * Starts the placement from the positions of the nodes in a previous layout.
+	 *
+	 * @since 3.18
+	 */
+	HorizontalPlacement(WarmStart warmStart) {
+		this.warmStart = warmStart;
+	}
 
 	/**
 	 * Inset the corresponding parts for the given 2 nodes along an edge E. The
@@ -338,6 +351,25 @@ class HorizontalPlacement extends SpanningTreeVisitor {
 		allClusters.forEach(NodeCluster::initValues);
 	}
 
+	/**
+	 * Returns the position of a node of the auxiliary graph in the previous layout.
+	 * The node for an edge is placed just left of both of its ends, so that its
+	 * edges are as tight as possible.
+	 */
+	private int getPreviousPosition(Node node) {
+		if (node.data instanceof NodePair) {
+			int position = Integer.MAX_VALUE;
+			for (Edge e : node.outgoing) {
+				position = Math.min(position, getPreviousPosition(e.target) - e.delta);
+			}
+			return position;
+		}
+		if (node.data instanceof Node n) {
+			return warmStart.getPreviousPosition(n);
+		}
+		return -1;
+	}
+
 	Node get(Node key) {
 		return map.get(key);
 	}
@@ -391,7 +423,11 @@ class HorizontalPlacement extends SpanningTreeVisitor {
 			prime.edges.add(new Edge(graphLeft, graphRight, g.tensorSize, g.tensorStrength));
 		}
 		buildGPrime();
-		new InitialRankSolver().visit(prime);
+		if (warmStart == null) {
+			new InitialRankSolver().visit(prime);
+		} else {
+			new WarmStartRankSolver(this::getPreviousPosition).visit(prime);
+		}
 		new TightSpanningTreeSolver().visit(prime);
 
 		RankAssignmentSolver solver = new RankAssignmentSolver();
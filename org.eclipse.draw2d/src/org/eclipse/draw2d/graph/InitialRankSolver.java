@@ -108,7 +108,7 @@ class InitialRankSolver extends GraphVisitor {
 		}
 	}
 
-	private static void assignMinimumRank(Node node) {
+	void assignMinimumRank(Node node) {
 		int rank = 0;
 		for (Edge e : node.incoming) {
 			rank = Math.max(rank, e.getDelta() + e.source.rank);
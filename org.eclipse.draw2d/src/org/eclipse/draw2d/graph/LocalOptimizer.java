@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.draw2d.graph;
 
+import java.util.BitSet;
+
 /**
  * This graph visitor examines all adjacent pairs of nodes and determines if
  * swapping the two nodes provides improved graph aesthetics.
@@ -21,6 +23,19 @@ package org.eclipse.draw2d.graph;
  */
 class LocalOptimizer extends GraphVisitor {
 
+	private BitSet rows;
+
+	/**
+	 * Restricts the optimization to the given rows. The rows may be changed until
+	 * this visitor is run.
+	 *
+	 * @param rows the rows to optimize, or <code>null</code> to optimize all rows
+	 * @since 3.18
+	 */
+	void setRows(BitSet rows) {
+		this.rows = rows;
+	}
+
 	@SuppressWarnings("static-method")
 	boolean shouldSwap(Node current, Node next) {
 		if (GraphUtilities.isConstrained(current, next)) {
@@ -93,7 +108,11 @@ class LocalOptimizer extends GraphVisitor {
 		boolean flag;
 		do {
 			flag = false;
-			for (Rank rank : g.ranks) {
+			for (int row = 0; row < g.ranks.size(); row++) {
+				if (rows != null && !rows.get(row)) {
+					continue;
+				}
+				Rank rank = g.ranks.getRank(row);
 				for (int n = 0; n < rank.count() - 1; n++) {
 					Node currentNode = rank.get(n);
 					Node nextNode = rank.get(n + 1);
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.draw2d.graph;
 
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Sweeps up and down the ranks rearranging them so as to reduce edge crossings.
  *
@@ -24,6 +27,10 @@ class MinCross extends GraphVisitor {
 
 	private DirectedGraph g;
 	private RankSorter sorter = new RankSorter();
+	private BitSet rows;
+	private int restarts;
+	private long timeLimit;
+	long deadline = Long.MAX_VALUE;
 
 	public MinCross() {
 	}
@@ -39,10 +46,62 @@ class MinCross extends GraphVisitor {
 		this.sorter = sorter;
 	}
 
+	/**
+	 * Restricts the sweeps to the given rows. All other rows keep their current
+	 * order. The rows may be changed until this visitor is run.
+	 *
+	 * @param rows the rows to sort, or <code>null</code> to sort all rows
+	 * @since 3.18
+	 */
+	void setRows(BitSet rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Sets the number of restarts which are run in parallel to the regular sweeps.
+	 * Restarts are only used if all rows are sorted.
+	 *
+	 * @param restarts the number of restarts, or 0
+	 * @since 3.18
+	 */
+	void setRestarts(int restarts) {
+		this.restarts = restarts;
+	}
+
+	/**
+	 * Sets the time after which the sweeps and restarts stop.
+	 *
+	 * @param timeLimit the time limit in milliseconds, or 0 for no limit
+	 * @since 3.18
+	 */
+	void setTimeLimit(long timeLimit) {
+		this.timeLimit = timeLimit;
+	}
+
+	/**
+	 * Returns whether the given deadline has passed.
+	 *
+	 * @param deadline a value of {@link System#nanoTime()}, or
+	 *                 {@link Long#MAX_VALUE} if there is no deadline
+	 */
+	static boolean isExpired(long deadline) {
+		return deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0;
+	}
+
+	private boolean isSorted(int row) {
+		return rows == null || rows.get(row);
+	}
+
 	void solve() {
 		Rank rank;
 		for (int loop = 0; loop < MAX; loop++) {
+			if (isExpired(deadline)) {
+				break;
+			}
 			for (int row = 1; row < g.ranks.size(); row++) {
+				if (!isSorted(row)) {
+					continue;
+				}
 				rank = g.ranks.getRank(row);
 				sorter.sortRankIncoming(g, rank, row, (double) loop / MAX);
 			}
@@ -50,6 +109,9 @@ class MinCross extends GraphVisitor {
 				continue;
 			}
 			for (int row = g.ranks.size() - 2; row >= 0; row--) {
+				if (!isSorted(row)) {
+					continue;
+				}
 				rank = g.ranks.getRank(row);
 				sorter.sortRankOutgoing(g, rank, row, (double) loop / MAX);
 			}
@@ -61,6 +123,19 @@ class MinCross extends GraphVisitor {
 	 */
 	@Override
 	public void visit(DirectedGraph g) {
+		deadline = timeLimit > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeLimit) : Long.MAX_VALUE;
+		MinCrossRestarts parallel = null;
+		if (restarts > 0 && rows == null && MinCrossRestarts.canRestart(g)) {
+			parallel = new MinCrossRestarts(g, restarts, deadline);
+			parallel.start();
+		}
+		sort(g);
+		if (parallel != null) {
+			parallel.finish(g);
+		}
+	}
+
+	void sort(DirectedGraph g) {
 		sorter.init(g);
 		this.g = g;
 		solve();
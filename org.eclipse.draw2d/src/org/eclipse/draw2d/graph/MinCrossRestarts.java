@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs independent restarts of the crossing minimization in parallel to the
+ * regular {@link MinCross} sweeps. Each restart sorts its own copy of the ranks,
+ * starting from a random ordering of the nodes and with a different random seed
+ * for the {@link RankSorter}. Afterwards, the ordering with the fewest crossings
+ * is applied to the graph.
+ * <P>
+ * The result only depends on the number of restarts, not on the number of
+ * threads, unless the time limit is reached.
+ *
+ * @since 3.18
+ */
+class MinCrossRestarts {
+
+	private final Node[] nodes;
+	private final int[][] ranks;
+	private final int[][] lower;
+	private final int restarts;
+	private final long deadline;
+	private ForkJoinPool pool;
+	private final List<Future<Ordering>> orderings = new ArrayList<>();
+
+	private static final class Ordering {
+		final int[][] ranks;
+		final long crossings;
+
+		Ordering(int[][] ranks, long crossings) {
+			this.ranks = ranks;
+			this.crossings = crossings;
+		}
+	}
+
+	/**
+	 * Takes a copy of the ranks of the given graph. Only edges between adjacent
+	 * ranks are considered.
+	 *
+	 * @param g        the graph
+	 * @param restarts the number of restarts
+	 * @param deadline the value of {@link System#nanoTime()} at which all restarts
+	 *                 stop, or {@link Long#MAX_VALUE}
+	 */
+	MinCrossRestarts(DirectedGraph g, int restarts, long deadline) {
+		this.restarts = restarts;
+		this.deadline = deadline;
+		Map<Node, Integer> ids = new IdentityHashMap<>();
+		List<Node> all = new ArrayList<>();
+		ranks = new int[g.ranks.size()][];
+		for (int row = 0; row < ranks.length; row++) {
+			Rank rank = g.ranks.getRank(row);
+			ranks[row] = new int[rank.size()];
+			for (int i = 0; i < rank.size(); i++) {
+				ranks[row][i] = all.size();
+				ids.put(rank.get(i), Integer.valueOf(all.size()));
+				all.add(rank.get(i));
+			}
+		}
+		nodes = all.toArray(new Node[all.size()]);
+		lower = new int[nodes.length][];
+		for (int i = 0; i < nodes.length; i++) {
+			Node node = nodes[i];
+			lower[i] = node.outgoing.stream().map(e -> e.target).filter(target -> target.rank == node.rank + 1)
+					.map(ids::get).filter(id -> id != null).mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	/**
+	 * Returns whether the restarts can be used for the given graph. Restarts are
+	 * not supported for nested subgraphs or row constraints, which restrict the
+	 * possible orderings.
+	 *
+	 * @param g the graph
+	 * @return <code>true</code> if the ranks may be ordered freely
+	 */
+	static boolean canRestart(DirectedGraph g) {
+		for (Rank rank : g.ranks) {
+			for (Node node : rank) {
+				if (node.getParent() != null || node.getRowConstraint() != -1) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Starts the restarts on a new thread pool with one thread per restart, up to
+	 * the number of available processors.
+	 */
+	void start() {
+		pool = new ForkJoinPool(Math.min(restarts, Runtime.getRuntime().availableProcessors()));
+		for (int i = 0; i < restarts; i++) {
+			long seed = i;
+			orderings.add(pool.submit(() -> solve(new Random(seed))));
+		}
+	}
+
+	/**
+	 * Waits for all restarts and applies the best of their orderings to the graph,
+	 * if it has fewer crossings than the current ordering of the graph.
+	 *
+	 * @param g the graph
+	 */
+	void finish(DirectedGraph g) {
+		Ordering best = null;
+		try {
+			for (Future<Ordering> future : orderings) {
+				Ordering ordering = future.get();
+				if (best == null || ordering.crossings < best.crossings) {
+					best = ordering;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+
+		Map<Node, Integer> ids = new IdentityHashMap<>();
+		for (int i = 0; i < nodes.length; i++) {
+			ids.put(nodes[i], Integer.valueOf(i));
+		}
+		int[][] current = new int[ranks.length][];
+		for (int row = 0; row < ranks.length; row++) {
+			current[row] = g.ranks.getRank(row).stream().mapToInt(node -> ids.get(node).intValue()).toArray();
+		}
+		if (best == null || best.crossings >= countCrossings(current)) {
+			return;
+		}
+		for (int row = 0; row < best.ranks.length; row++) {
+			Rank rank = g.ranks.getRank(row);
+			rank.clear();
+			for (int id : best.ranks[row]) {
+				rank.add(nodes[id]);
+			}
+			rank.assignIndices();
+		}
+	}
+
+	/**
+	 * Sorts a copy of the graph, which only contains the ranks and the edges
+	 * between them, using a random initial ordering.
+	 */
+	private Ordering solve(Random random) {
+		DirectedGraph copy = new DirectedGraph();
+		Node[] copies = new Node[nodes.length];
+		for (int i = 0; i < nodes.length; i++) {
+			copies[i] = new Node(Integer.valueOf(i));
+		}
+		for (int row = 0; row < ranks.length; row++) {
+			Rank rank = copy.ranks.getRank(row);
+			for (int id : ranks[row]) {
+				copies[id].rank = row;
+				rank.add(copies[id]);
+			}
+			for (int i = rank.size() - 1; i > 0; i--) {
+				rank.set(i, rank.set(random.nextInt(i + 1), rank.get(i)));
+			}
+		}
+		for (int i = 0; i < nodes.length; i++) {
+			for (int target : lower[i]) {
+				copy.edges.add(new Edge(copies[i], copies[target]));
+			}
+		}
+
+		RankSorter sorter = new RankSorter();
+		sorter.flipflop = new Random(random.nextLong());
+		MinCross minCross = new MinCross(sorter);
+		minCross.deadline = deadline;
+		minCross.sort(copy);
+
+		int[][] order = new int[ranks.length][];
+		for (int row = 0; row < ranks.length; row++) {
+			order[row] = copy.ranks.getRank(row).stream().mapToInt(node -> ((Integer) node.data).intValue())
+					.toArray();
+		}
+		return new Ordering(order, countCrossings(order));
+	}
+
+	/**
+	 * Counts the crossings between all pairs of adjacent rows, using an
+	 * accumulator tree over the positions of the lower row.
+	 */
+	private long countCrossings(int[][] order) {
+		int[] position = new int[nodes.length];
+		for (int[] row : order) {
+			for (int i = 0; i < row.length; i++) {
+				position[row[i]] = i;
+			}
+		}
+		long crossings = 0;
+		for (int row = 0; row < order.length - 1; row++) {
+			int size = order[row + 1].length;
+			if (size == 0) {
+				continue;
+			}
+			int first = 1;
+			while (first < size) {
+				first <<= 1;
+			}
+			int[] tree = new int[2 * first - 1];
+			first--;
+			for (int id : order[row]) {
+				int[] targets = new int[lower[id].length];
+				for (int i = 0; i < targets.length; i++) {
+					targets[i] = position[lower[id][i]];
+				}
+				Arrays.sort(targets);
+				for (int target : targets) {
+					int index = target + first;
+					tree[index]++;
+					while (index > 0) {
+						if (index % 2 == 1) {
+							crossings += tree[index + 1];
+						}
+						index = (index - 1) / 2;
+						tree[index]++;
+					}
+				}
+			}
+		}
+		return crossings;
+	}
+
+}
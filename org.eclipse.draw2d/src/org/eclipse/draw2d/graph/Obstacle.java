@@ -28,6 +28,8 @@ import org.eclipse.draw2d.geometry.Rectangle;
 class Obstacle extends Rectangle {
 
 	boolean exclude;
+	/** The position of this obstacle in the {@link ObstacleIndex}. */
+	int order;
 	Vertex topLeft;
 	Vertex topRight;
 	Vertex bottomLeft;
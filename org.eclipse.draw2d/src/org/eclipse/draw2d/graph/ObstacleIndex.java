@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.internal.UniformGrid;
+
+/**
+ * A {@link UniformGrid} over the bounds of the obstacles of a
+ * {@link ShortestPathRouter}. It is used to find the obstacles near a segment
+ * without testing the segment against all obstacles.
+ *
+ * All queries return the obstacles in the order in which they have been added,
+ * so that the router finds the same obstacle first as when iterating over all
+ * obstacles.
+ *
+ * This class is for internal use only.
+ *
+ * @since 3.18
+ */
+class ObstacleIndex {
+
+	/**
+	 * The edge length of a grid cell.
+	 */
+	static final int CELL_SIZE = 128;
+
+	/**
+	 * Obstacles covering more cells than this, or no cell at all, are not stored
+	 * in the grid.
+	 */
+	private static final int MAX_CELLS_PER_OBSTACLE = 64;
+
+	private static final Comparator<Obstacle> ORDER = (o1, o2) -> Integer.compare(o1.order, o2.order);
+
+	private final UniformGrid<Obstacle> grid = new UniformGrid<>(CELL_SIZE, MAX_CELLS_PER_OBSTACLE);
+	private int nextOrder;
+
+	/**
+	 * Adds the given obstacle after all other obstacles.
+	 *
+	 * @param obs the obstacle
+	 */
+	void add(Obstacle obs) {
+		obs.order = nextOrder++;
+		grid.add(obs, obs.x, obs.y, obs.right() - 1, obs.bottom() - 1);
+	}
+
+	/**
+	 * Removes the given obstacle.
+	 *
+	 * @param obs the obstacle
+	 */
+	void remove(Obstacle obs) {
+		// obstacles with equal bounds are equal, the grid removes them by identity
+		grid.remove(obs, obs.x, obs.y, obs.right() - 1, obs.bottom() - 1);
+	}
+
+	/**
+	 * Returns the obstacles whose bounds intersect the given area. Both corners
+	 * are inclusive.
+	 *
+	 * @param x1 the left edge of the area
+	 * @param y1 the top edge of the area
+	 * @param x2 the right edge of the area
+	 * @param y2 the bottom edge of the area
+	 * @return the obstacles intersecting the area, in the order they have been
+	 *         added
+	 */
+	List<Obstacle> getObstacles(int x1, int y1, int x2, int y2) {
+		List<Obstacle> hits = new ArrayList<>();
+		grid.visit(x1, y1, x2, y2, filter(x1, y1, x2, y2, hits::add));
+		return sort(hits);
+	}
+
+	/**
+	 * Returns the obstacles which may come closer than <code>margin</code> to the
+	 * segment between the given points.
+	 *
+	 * @param p1     the start of the segment
+	 * @param p2     the end of the segment
+	 * @param margin the distance around the segment to search
+	 * @return the obstacles near the segment, in the order they have been added
+	 */
+	List<Obstacle> getObstacles(Point p1, Point p2, int margin) {
+		List<Obstacle> hits = new ArrayList<>();
+		visit(p1, p2, margin, hits::add);
+		return sort(hits);
+	}
+
+	/**
+	 * Returns the first obstacle near the segment between the given points which
+	 * satisfies the given condition. This is the same obstacle which would be
+	 * found first in {@link #getObstacles(Point, Point, int)}, but the condition is
+	 * only tested on obstacles added before the current candidate.
+	 *
+	 * @param p1        the start of the segment
+	 * @param p2        the end of the segment
+	 * @param condition the condition
+	 * @return the first obstacle satisfying the condition, or <code>null</code>
+	 */
+	Obstacle getFirstObstacle(Point p1, Point p2, Predicate<Obstacle> condition) {
+		Obstacle[] first = new Obstacle[1];
+		visit(p1, p2, 0, obs -> {
+			if ((first[0] == null || obs.order < first[0].order) && condition.test(obs)) {
+				first[0] = obs;
+			}
+		});
+		return first[0];
+	}
+
+	/**
+	 * Visits the obstacles near the given segment. Only the grid cells along the
+	 * segment are visited, so that long diagonal segments do not visit most of the
+	 * grid. Obstacles spanning several cells may be visited more than once.
+	 */
+	private void visit(Point p1, Point p2, int margin, Consumer<Obstacle> visitor) {
+		int x1 = Math.min(p1.x, p2.x);
+		int x2 = Math.max(p1.x, p2.x);
+		int y1 = Math.min(p1.y, p2.y);
+		int y2 = Math.max(p1.y, p2.y);
+		Consumer<Obstacle> filter = filter(x1 - margin, y1 - margin, x2 + margin, y2 + margin, visitor);
+		for (int i = grid.cell(x1 - margin); i <= grid.cell(x2 + margin); i++) {
+			// the part of the segment whose margin reaches into this column, including
+			// the steep parts between the last pixel of a column and the next column
+			int left = Math.max(i * CELL_SIZE - margin - 1, x1);
+			int right = Math.min((i + 1) * CELL_SIZE + margin, x2);
+			double top = y1;
+			double bottom = y2;
+			if (p1.x != p2.x) {
+				double slope = (double) (p2.y - p1.y) / (p2.x - p1.x);
+				double yLeft = p1.y + slope * (left - p1.x);
+				double yRight = p1.y + slope * (right - p1.x);
+				top = Math.min(yLeft, yRight);
+				bottom = Math.max(yLeft, yRight);
+			}
+			grid.visitColumn(i, grid.cell((int) Math.floor(top) - margin),
+					grid.cell((int) Math.ceil(bottom) + margin), filter);
+		}
+		grid.visitOversized(filter);
+	}
+
+	/**
+	 * Returns a visitor which only passes the obstacles intersecting the given
+	 * area to the given visitor.
+	 */
+	private static Consumer<Obstacle> filter(int x1, int y1, int x2, int y2, Consumer<Obstacle> visitor) {
+		return obs -> {
+			if (intersects(obs, x1, y1, x2, y2)) {
+				visitor.accept(obs);
+			}
+		};
+	}
+
+	private static List<Obstacle> sort(List<Obstacle> hits) {
+		if (hits.size() < 2) {
+			return hits;
+		}
+		// obstacles spanning several cells have been visited more than once
+		hits.sort(ORDER);
+		int size = 1;
+		for (int i = 1; i < hits.size(); i++) {
+			Obstacle obs = hits.get(i);
+			if (obs != hits.get(size - 1)) {
+				hits.set(size++, obs);
+			}
+		}
+		return hits.subList(0, size);
+	}
+
+	private static boolean intersects(Obstacle obs, int x1, int y1, int x2, int y2) {
+		// the diagonals of an empty obstacle end before its origin
+		return Math.min(obs.x, obs.right() - 1) <= x2 && Math.max(obs.x, obs.right() - 1) >= x1
+				&& Math.min(obs.y, obs.bottom() - 1) <= y2 && Math.max(obs.y, obs.bottom() - 1) >= y1;
+	}
+
+}
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
 
 import org.eclipse.draw2d.PositionConstants;
@@ -34,6 +35,27 @@ import org.eclipse.draw2d.geometry.PointList;
  */
 public class Path {
 
+	/**
+	 * A tentative cost of a vertex in the priority queue used by
+	 * {@link Path#labelGraph()}. The cost of a vertex may decrease after it has
+	 * been queued, in which case it is queued again and the outdated entry is
+	 * skipped once the vertex has become permanent.
+	 */
+	private static final class Label implements Comparable<Label> {
+		final Vertex vertex;
+		final double cost;
+
+		Label(Vertex vertex) {
+			this.vertex = vertex;
+			this.cost = vertex.cost;
+		}
+
+		@Override
+		public int compareTo(Label other) {
+			return Double.compare(cost, other.cost);
+		}
+	}
+
 	/**
 	 * A Stack of segments.
 	 */
@@ -263,28 +285,24 @@ public class Path {
 	 * @param segment      the segment
 	 * @param exclude1     an obstacle to exclude from the search
 	 * @param exclude2     another obstacle to exclude from the search
-	 * @param allObstacles the list of all obstacles
+	 * @param allObstacles the index of all obstacles
 	 */
-	private void addSegment(Segment segment, Obstacle exclude1, Obstacle exclude2, List<Obstacle> allObstacles) {
+	private void addSegment(Segment segment, Obstacle exclude1, Obstacle exclude2, ObstacleIndex allObstacles) {
 		if (threshold != 0 && (segment.end.getDistance(end) + segment.end.getDistance(start) > threshold
 				|| segment.start.getDistance(end) + segment.start.getDistance(start) > threshold)) {
 			return;
 		}
 
-		for (Obstacle obs : allObstacles) {
-
-			if (obs == exclude1 || obs == exclude2 || obs.exclude) {
-				continue;
-			}
-
-			if (segment.intersects(obs.x, obs.y, obs.right() - 1, obs.bottom() - 1)
-					|| segment.intersects(obs.x, obs.bottom() - 1, obs.right() - 1, obs.y)
-					|| obs.containsProper(segment.start) || obs.containsProper(segment.end)) {
-				if (!visibleObstacles.contains(obs)) {
-					addObstacle(obs);
-				}
-				return;
+		Obstacle obs = allObstacles.getFirstObstacle(segment.start, segment.end,
+				o -> o != exclude1 && o != exclude2 && !o.exclude
+						&& (segment.intersects(o.x, o.y, o.right() - 1, o.bottom() - 1)
+								|| segment.intersects(o.x, o.bottom() - 1, o.right() - 1, o.y)
+								|| o.containsProper(segment.start) || o.containsProper(segment.end)));
+		if (obs != null) {
+			if (!visibleObstacles.contains(obs)) {
+				addObstacle(obs);
 			}
+			return;
 		}
 
 		linkVertices(segment);
@@ -485,9 +503,9 @@ public class Path {
 	/**
 	 * Begins the creation of the visibility graph with the first segment
 	 *
-	 * @param allObstacles list of all obstacles
+	 * @param allObstacles the index of all obstacles
 	 */
-	private void createVisibilityGraph(List<Obstacle> allObstacles) {
+	private void createVisibilityGraph(ObstacleIndex allObstacles) {
 		stack.push(null);
 		stack.push(null);
 		stack.push(new Segment(start, end));
@@ -545,10 +563,10 @@ public class Path {
 	 * Creates the visibility graph and returns whether or not a shortest path could
 	 * be determined.
 	 *
-	 * @param allObstacles the list of all obstacles
+	 * @param allObstacles the index of all obstacles
 	 * @return true if a shortest path was found
 	 */
-	boolean generateShortestPath(List<Obstacle> allObstacles) {
+	boolean generateShortestPath(ObstacleIndex allObstacles) {
 		createVisibilityGraph(allObstacles);
 
 		if (visibleVertices.isEmpty()) {
@@ -569,6 +587,22 @@ public class Path {
 		return bendpoints;
 	}
 
+	/**
+	 * Returns the obstacle vertices this path bends around in its current
+	 * solution. Before the solution has been offset, these are the vertices of the
+	 * shortest path.
+	 *
+	 * @return the vertices between the start and end of this path
+	 */
+	List<Vertex> getBendVertices() {
+		List<Segment> route = grownSegments.isEmpty() ? segments : grownSegments;
+		List<Vertex> vertices = new ArrayList<>(route.size());
+		for (int i = 0; i < route.size() - 1; i++) {
+			vertices.add(route.get(i).end);
+		}
+		return vertices;
+	}
+
 	/**
 	 * Returns the end point for this path
 	 *
@@ -646,51 +680,43 @@ public class Path {
 	}
 
 	/**
-	 * Labels the visibility graph to assist in finding the shortest path
+	 * Labels the visibility graph to assist in finding the shortest path. The
+	 * vertex with the smallest cost is taken from a priority queue, and the
+	 * labelling stops as soon as the end of this path has become permanent.
 	 *
 	 * @return false if there was a gap in the visibility graph
 	 */
 	private boolean labelGraph() {
-		int numPermanentNodes = 1;
+		if (start.neighbors == null) {
+			return false;
+		}
+		PriorityQueue<Label> queue = new PriorityQueue<>();
 		Vertex vertex = start;
-		Vertex neighborVertex = null;
-		vertex.isPermanent = true;
 		double newCost;
-		while (numPermanentNodes != visibleVertices.size()) {
-			List<Vertex> neighbors = vertex.neighbors;
-			if (neighbors == null) {
-				return false;
+		while (true) {
+			vertex.isPermanent = true;
+			if (vertex == end) {
+				return true;
 			}
 			// label neighbors if they have a new shortest path
-			for (Vertex neighbor : neighbors) {
-				neighborVertex = neighbor;
-				if (!neighborVertex.isPermanent) {
-					newCost = vertex.cost + vertex.getDistance(neighborVertex);
-					if (neighborVertex.label == null) {
-						neighborVertex.label = vertex;
-						neighborVertex.cost = newCost;
-					} else if (neighborVertex.cost > newCost) {
-						neighborVertex.label = vertex;
-						neighborVertex.cost = newCost;
+			for (Vertex neighbor : vertex.neighbors) {
+				if (!neighbor.isPermanent) {
+					newCost = vertex.cost + vertex.getDistance(neighbor);
+					if (neighbor.label == null || neighbor.cost > newCost) {
+						neighbor.label = vertex;
+						neighbor.cost = newCost;
+						queue.add(new Label(neighbor));
 					}
 				}
 			}
 			// find the next none-permanent, labeled vertex with smallest cost
-			double smallestCost = 0;
-			Vertex tempVertex = null;
-			for (Vertex visibleVertex : visibleVertices) {
-				tempVertex = visibleVertex;
-				if (!tempVertex.isPermanent && tempVertex.label != null
-						&& (tempVertex.cost < smallestCost || smallestCost == 0)) {
-					smallestCost = tempVertex.cost;
-					vertex = tempVertex;
+			do {
+				if (queue.isEmpty()) {
+					return true;
 				}
-			}
-			// set the new vertex to permanent.
-			vertex.isPermanent = true;
-			numPermanentNodes++;
+				vertex = queue.poll().vertex;
+			} while (vertex.isPermanent);
 		}
-		return true;
 	}
 
 	/**
@@ -741,40 +767,30 @@ public class Path {
 	}
 
 	/**
-	 * Refreshes the exclude field on the obstacles in the list. Excludes all
-	 * obstacles that contain the start or end point for this path.
+	 * Refreshes the exclude field on the obstacles in the index. Excludes all
+	 * obstacles that contain the start or end point for this path. The obstacles
+	 * excluded for the previously refreshed path must have been reset by the
+	 * caller.
 	 *
-	 * @param allObstacles list of all obstacles
+	 * @param allObstacles the index of all obstacles
 	 */
-	void refreshExcludedObstacles(List<Obstacle> allObstacles) {
+	void refreshExcludedObstacles(ObstacleIndex allObstacles) {
 		excludedObstacles.clear();
-
-		for (Obstacle o : allObstacles) {
-			o.exclude = false;
-
-			if (o.contains(start)) {
-				if (o.containsProper(start)) {
-					o.exclude = true;
-				} else {
-					/*
-					 * $TODO Check for corners. If the path begins exactly at the corner of an
-					 * obstacle, the exclude should also be true.
-					 *
-					 * Or, change segment intersection so that two segments that share an endpoint
-					 * do not intersect.
-					 */
-				}
-			}
-
-			if (o.contains(end)) {
-				if (o.containsProper(end)) {
-					o.exclude = true;
-				} else {
-					// check for corners. See above statement.
-				}
-			}
-
-			if (o.exclude && !excludedObstacles.contains(o)) {
+		excludeObstaclesAt(start, allObstacles);
+		excludeObstaclesAt(end, allObstacles);
+	}
+
+	private void excludeObstaclesAt(Point p, ObstacleIndex allObstacles) {
+		for (Obstacle o : allObstacles.getObstacles(p.x, p.y, p.x, p.y)) {
+			/*
+			 * $TODO Check for corners. If the path begins exactly at the corner of an
+			 * obstacle, the exclude should also be true.
+			 *
+			 * Or, change segment intersection so that two segments that share an endpoint
+			 * do not intersect.
+			 */
+			if (o.containsProper(p) && !o.exclude) {
+				o.exclude = true;
 				excludedObstacles.add(o);
 			}
 		}
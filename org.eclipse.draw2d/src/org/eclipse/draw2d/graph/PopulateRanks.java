@@ -78,7 +78,9 @@ class PopulateRanks extends GraphVisitor {
 				prev = cur;
 			}
 		}
-		changes.forEach(RevertableChange::revert);
+		while (!changes.isEmpty()) {
+			changes.pop().revert();
+		}
 	}
 
 }
@@ -14,10 +14,15 @@ package org.eclipse.draw2d.graph;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.geometry.Point;
@@ -67,14 +72,38 @@ public class ShortestPathRouter {
 	private static final int NUM_GROW_PASSES = 2;
 
 	private int spacing = 4;
+	private int parallelism = 1;
+	private ForkJoinPool pool;
+	private boolean incremental;
+	private boolean fullSolveRequired = true;
 	private boolean growPassChangedObstacles;
+	/**
+	 * The largest distance an obstacle vertex has been grown by in the current
+	 * grow pass.
+	 */
+	private int maxGrowth;
 	private List<Path> orderedPaths;
+	/**
+	 * The working paths bent by the current solve. This is the list of all working
+	 * paths, unless the solve is incremental.
+	 */
+	private List<Path> routedPaths;
+	/**
+	 * The paths bent by the current solve, if the solve is incremental.
+	 */
+	private AffectedPaths affectedPaths;
+	/**
+	 * The vertices of paths which have been removed or rerouted since the last
+	 * solve. The paths still bending around them have to be bent again.
+	 */
+	private final Set<Vertex> staleVertices = Collections.newSetFromMap(new IdentityHashMap<>());
 	private final Map<Path, List<Path>> pathsToChildPaths;
 
 	private PathStack stack;
 	private List<Path> subPaths;
 
 	private final List<Obstacle> userObstacles;
+	private final ObstacleIndex obstacleIndex;
 	private final List<Path> userPaths;
 	private final List<Path> workingPaths;
 
@@ -86,6 +115,7 @@ public class ShortestPathRouter {
 		workingPaths = new ArrayList<>();
 		pathsToChildPaths = new HashMap<>();
 		userObstacles = new ArrayList<>();
+		obstacleIndex = new ObstacleIndex();
 	}
 
 	/**
@@ -120,7 +150,10 @@ public class ShortestPathRouter {
 				Vertex vertex = segment.end;
 
 				if (vertex != null && v < path.grownSegments.size() - 1) {
-					if (vertex.type == Vertex.INNIE) {
+					Point previous = affectedPaths == null ? null : affectedPaths.getPreviousBend(path, vertex);
+					if (previous != null) {
+						path.points.addPoint(previous);
+					} else if (vertex.type == Vertex.INNIE) {
 						vertex.count++;
 						path.points.addPoint(vertex.bend(vertex.count));
 					} else {
@@ -161,7 +194,7 @@ public class ShortestPathRouter {
 
 		int xDist, yDist;
 
-		for (Obstacle obs : userObstacles) {
+		for (Obstacle obs : obstacleIndex.getObstacles(r.x, r.y, r.right() - 1, r.bottom() - 1)) {
 			if (obs != vertex.obs && r.intersects(obs)) {
 				int pos = obs.getPosition(vertex);
 				if (pos == 0) {
@@ -218,12 +251,13 @@ public class ShortestPathRouter {
 
 	/**
 	 * Counts how many paths are on given vertices in order to increment their total
-	 * count.
+	 * count. Paths which are not bent again by an incremental solve are counted
+	 * with the vertices they have been bent around by growing the obstacles.
 	 */
 	private void countVertices() {
 		for (Path path : workingPaths) {
-			for (int v = 0; v < path.segments.size() - 1; v++) {
-				path.segments.get(v).end.totalCount++;
+			for (Vertex vertex : path.getBendVertices()) {
+				vertex.totalCount++;
 			}
 		}
 	}
@@ -280,6 +314,17 @@ public class ShortestPathRouter {
 		return v1;
 	}
 
+	/**
+	 * Returns the number of threads used to generate the shortest paths.
+	 *
+	 * @return the number of threads
+	 * @see #setParallelism(int)
+	 * @since 3.18
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
 	/**
 	 * Returns the spacing maintained between paths.
 	 *
@@ -301,18 +346,24 @@ public class ShortestPathRouter {
 	private Path getSubpathForSplit(Path path, Segment segment) {
 		Path newPath = path.getSubPath(segment);
 		workingPaths.add(newPath);
+		if (affectedPaths != null) {
+			routedPaths.add(newPath);
+			affectedPaths.addSubPath(path, newPath);
+		}
 		subPaths.add(newPath);
 		return newPath;
 	}
 
 	/**
 	 * Grows all obstacles in in routing and tests for new intersections
+	 *
+	 * @param paths the paths to test
 	 */
-	private void growObstacles() {
+	private void growObstacles(List<Path> paths) {
 		growPassChangedObstacles = false;
 		for (int i = 0; i < NUM_GROW_PASSES; i++) {
 			if (i == 0 || growPassChangedObstacles) {
-				growObstaclesPass();
+				growObstaclesPass(paths);
 			}
 		}
 	}
@@ -320,15 +371,22 @@ public class ShortestPathRouter {
 	/**
 	 * Performs a single pass of the grow obstacles step, this can be repeated as
 	 * desired. Grows obstacles, then tests paths against the grown obstacles.
+	 *
+	 * @param paths the paths to test
 	 */
-	private void growObstaclesPass() {
+	private void growObstaclesPass(List<Path> paths) {
 		// grow obstacles
+		maxGrowth = 0;
 		for (Obstacle userObstacle : userObstacles) {
 			userObstacle.growVertices();
+			updateMaxGrowth(userObstacle.topLeft);
+			updateMaxGrowth(userObstacle.topRight);
+			updateMaxGrowth(userObstacle.bottomLeft);
+			updateMaxGrowth(userObstacle.bottomRight);
 		}
 
 		// go through paths and test segments
-		for (Path path : workingPaths) {
+		for (Path path : paths) {
 
 			for (Obstacle element : path.excludedObstacles) {
 				element.exclude = true;
@@ -365,6 +423,7 @@ public class ShortestPathRouter {
 	 */
 	private boolean internalAddObstacle(Obstacle obs) {
 		userObstacles.add(obs);
+		obstacleIndex.add(obs);
 		return testAndDirtyPaths(obs);
 	}
 
@@ -386,6 +445,7 @@ public class ShortestPathRouter {
 		}
 
 		userObstacles.remove(index);
+		obstacleIndex.remove(obs);
 
 		boolean result = false;
 		result |= dirtyPathsOn(obs.bottomLeft);
@@ -460,7 +520,7 @@ public class ShortestPathRouter {
 	 */
 	private void labelPaths() {
 		Path path = null;
-		for (Path workingPath : workingPaths) {
+		for (Path workingPath : routedPaths) {
 			path = workingPath;
 			stack.push(path);
 		}
@@ -474,7 +534,7 @@ public class ShortestPathRouter {
 		}
 
 		// revert is marked so we can use it again in ordering.
-		for (Path workingPath : workingPaths) {
+		for (Path workingPath : routedPaths) {
 			path = workingPath;
 			path.isMarked = false;
 		}
@@ -551,7 +611,7 @@ public class ShortestPathRouter {
 	 * Orders all paths in the graph.
 	 */
 	private void orderPaths() {
-		for (Path path : workingPaths) {
+		for (Path path : routedPaths) {
 			orderPath(path);
 		}
 	}
@@ -591,6 +651,9 @@ public class ShortestPathRouter {
 
 		orderedPaths.removeAll(subPaths);
 		workingPaths.removeAll(subPaths);
+		if (affectedPaths != null) {
+			routedPaths.removeAll(subPaths);
+		}
 		subPaths = null;
 	}
 
@@ -615,13 +678,26 @@ public class ShortestPathRouter {
 		userPaths.remove(path);
 		List<Path> children = pathsToChildPaths.get(path);
 		if (children == null) {
+			releasePath(path);
 			workingPaths.remove(path);
 		} else {
+			children.forEach(this::releasePath);
 			workingPaths.removeAll(children);
 		}
 		return true;
 	}
 
+	/**
+	 * Remembers the vertices of a working path whose solution is discarded, so
+	 * that the paths sharing these vertices are bent again by an incremental
+	 * solve.
+	 *
+	 * @param path the working path
+	 */
+	private void releasePath(Path path) {
+		staleVertices.addAll(path.getBendVertices());
+	}
+
 	/**
 	 * Resets exclude field on all obstacles
 	 */
@@ -645,6 +721,72 @@ public class ShortestPathRouter {
 		}
 	}
 
+	/**
+	 * Resets the vertices which have been visited while solving the given path.
+	 *
+	 * @param path the path
+	 */
+	private static void resetVertices(Path path) {
+		for (Vertex vertex : path.visibleVertices) {
+			vertex.fullReset();
+		}
+		path.start.fullReset();
+		path.end.fullReset();
+	}
+
+	/**
+	 * Returns whether {@link #solve()} only bends the paths affected by the changes
+	 * since the last solve.
+	 *
+	 * @return <code>true</code> if solving is incremental
+	 * @see #setIncremental(boolean)
+	 * @since 3.18
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Sets whether {@link #solve()} only bends the paths affected by the changes
+	 * since the last solve. The default value is <code>false</code>.
+	 * <P>
+	 * Only dirty paths are rerouted in either case. A full solve then offsets all
+	 * paths again, while an incremental solve only offsets the rerouted paths,
+	 * the paths which shared a corner with their previous or new routes, and the
+	 * paths sharing a corner with those. The solution of all other paths is kept.
+	 * An incremental solve may therefore differ from a full solve where a moved
+	 * obstacle or a rerouted path would only have pushed an unrelated path
+	 * slightly aside. The first solve, and the first solve after a change of the
+	 * spacing, is always a full solve.
+	 *
+	 * @param incremental <code>true</code> to solve incrementally
+	 * @since 3.18
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Sets the number of threads used to generate the shortest paths of the dirty
+	 * paths. A value of <code>1</code> (the default) generates them on the calling
+	 * thread. Otherwise, the paths are divided into groups whose search regions do
+	 * not intersect, and the groups are routed concurrently. The resulting paths
+	 * are the same for all values. The threads are released at the end of
+	 * {@link #solve()}.
+	 *
+	 * @param parallelism the number of threads, must be positive
+	 * @since 3.18
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive: " + parallelism); //$NON-NLS-1$
+		}
+		if (this.parallelism != parallelism) {
+			shutdownPool();
+		}
+		this.parallelism = parallelism;
+	}
+
 	/**
 	 * Sets the default spacing between paths. The spacing is the minimum distance
 	 * that path should be offset from other paths or obstacles. The default value
@@ -655,6 +797,9 @@ public class ShortestPathRouter {
 	 * @since 3.2
 	 */
 	public void setSpacing(int spacing) {
+		if (this.spacing != spacing) {
+			fullSolveRequired = true;
+		}
 		this.spacing = spacing;
 	}
 
@@ -665,12 +810,37 @@ public class ShortestPathRouter {
 	 * @return returns the list of paths which were updated.
 	 */
 	public List<Path> solve() {
+		boolean incrementalSolve = incremental && !fullSolveRequired;
+		fullSolveRequired = false;
+
+		List<Path> solvedPaths = new ArrayList<>();
+		solveDirtyPaths(incrementalSolve, solvedPaths);
 
-		solveDirtyPaths();
+		if (incrementalSolve) {
+			affectedPaths = new AffectedPaths(workingPaths);
+			solvedPaths.forEach(affectedPaths::addReroutedPath);
+			staleVertices.forEach(affectedPaths::touch);
+			routedPaths = affectedPaths.getPaths();
+		} else {
+			routedPaths = workingPaths;
+		}
+		staleVertices.clear();
 
 		countVertices();
 		checkVertexIntersections();
-		growObstacles();
+		growObstacles(routedPaths);
+		// growing may bend a routed path around a vertex of another path
+		List<Path> grownPaths = routedPaths;
+		while (affectedPaths != null && touchGrownVertices(grownPaths)) {
+			List<Path> previousPaths = routedPaths;
+			routedPaths = affectedPaths.getPaths();
+			grownPaths = new ArrayList<>(routedPaths);
+			grownPaths.removeAll(previousPaths);
+			resetVertices();
+			countVertices();
+			checkVertexIntersections();
+			growObstacles(grownPaths);
+		}
 
 		subPaths = new ArrayList<>();
 		stack = new PathStack();
@@ -688,16 +858,56 @@ public class ShortestPathRouter {
 		recombineChildrenPaths();
 		cleanup();
 
-		return Collections.unmodifiableList(userPaths);
+		List<Path> result;
+		if (affectedPaths != null) {
+			result = new ArrayList<>();
+			for (Path path : userPaths) {
+				List<Path> children = pathsToChildPaths.get(path);
+				if (children == null ? affectedPaths.contains(path)
+						: children.stream().anyMatch(affectedPaths::contains)) {
+					result.add(path);
+				}
+			}
+			result = Collections.unmodifiableList(result);
+		} else {
+			result = Collections.unmodifiableList(userPaths);
+		}
+		routedPaths = null;
+		affectedPaths = null;
+		return result;
+	}
+
+	/**
+	 * Touches the vertices which growing the obstacles has newly inserted into the
+	 * given paths, since these paths have no previous bend point there. The paths
+	 * added by touching these vertices are grown in turn, while the paths which
+	 * have already been grown keep their grown segments.
+	 *
+	 * @param paths the paths which have just been grown
+	 * @return <code>true</code> if paths have been added to the affected paths
+	 */
+	private boolean touchGrownVertices(List<Path> paths) {
+		boolean changed = false;
+		for (Path path : paths) {
+			for (Vertex vertex : path.getBendVertices()) {
+				if (!affectedPaths.isTouched(vertex) && affectedPaths.getPreviousBend(path, vertex) == null) {
+					changed |= affectedPaths.touch(vertex);
+				}
+			}
+		}
+		return changed;
 	}
 
 	/**
 	 * Solves paths that are dirty.
 	 *
+	 * @param incrementalSolve whether the solution of clean paths is kept
+	 * @param solvedPaths      the list to add the solved paths to
 	 * @return number of dirty paths
 	 */
-	private int solveDirtyPaths() {
+	private int solveDirtyPaths(boolean incrementalSolve, List<Path> solvedPaths) {
 		int numSolved = 0;
+		List<Path> dirtyPaths = new ArrayList<>();
 
 		for (Path path : userPaths) {
 			if (!path.isDirty) {
@@ -722,37 +932,219 @@ public class ShortestPathRouter {
 			refreshChildrenEndpoints(path, children);
 		}
 
+		List<Obstacle> excludedObstacles = Collections.emptyList();
 		for (Path path : workingPaths) {
-			path.refreshExcludedObstacles(userObstacles);
+			for (Obstacle obs : excludedObstacles) {
+				obs.exclude = false;
+			}
+			path.refreshExcludedObstacles(obstacleIndex);
+			excludedObstacles = path.excludedObstacles;
 			if (!path.isDirty) {
-				path.resetPartial();
+				if (!incrementalSolve) {
+					path.resetPartial();
+				}
 				continue;
 			}
 
 			numSolved++;
+			solvedPaths.add(path);
+			releasePath(path);
 			path.fullReset();
 
-			boolean pathFoundCheck = path.generateShortestPath(userObstacles);
-			if (!pathFoundCheck || path.end.cost > path.threshold) {
-				// path not found, or path found was too long
-				resetVertices();
-				path.fullReset();
-				path.threshold = 0;
-				pathFoundCheck = path.generateShortestPath(userObstacles);
+			if (parallelism > 1) {
+				// the exclusions are set again when the path is routed
+				dirtyPaths.add(path);
+				continue;
 			}
 
-			resetVertices();
+			if (!generateShortestPath(path)) {
+				retryShortestPath(path);
+			}
 		}
 
 		resetObstacleExclusions();
-
-		if (numSolved == 0) {
-			resetVertices();
+		if (dirtyPaths.size() > 1) {
+			try {
+				generateShortestPathsInParallel(dirtyPaths);
+			} finally {
+				shutdownPool();
+			}
+		} else {
+			for (Path path : dirtyPaths) {
+				path.excludedObstacles.forEach(obs -> obs.exclude = true);
+				if (!generateShortestPath(path)) {
+					retryShortestPath(path);
+				}
+				path.excludedObstacles.forEach(obs -> obs.exclude = false);
+			}
 		}
+		resetVertices();
 
 		return numSolved;
 	}
 
+	/**
+	 * Generates the shortest path within the search oval of the given path. The
+	 * obstacles containing the start or end point of the path must be excluded.
+	 *
+	 * @param path the path
+	 * @return <code>false</code> if the path has to be generated again without the
+	 *         search oval
+	 */
+	private boolean generateShortestPath(Path path) {
+		boolean pathFound = path.generateShortestPath(obstacleIndex);
+		// only the vertices of this path's visibility graph have been changed
+		resetVertices(path);
+		// path not found, or path found was too long
+		return pathFound && path.end.cost <= path.threshold;
+	}
+
+	/**
+	 * Generates the shortest path of the given path again without limiting the
+	 * search to an oval. The obstacles containing the start or end point of the
+	 * path must be excluded.
+	 *
+	 * @param path the path
+	 */
+	private void retryShortestPath(Path path) {
+		path.fullReset();
+		path.threshold = 0;
+		path.generateShortestPath(obstacleIndex);
+		resetVertices(path);
+	}
+
+	/**
+	 * Generates the shortest paths of independent groups of paths in parallel. The
+	 * search of a path only visits the obstacles and vertices within its search
+	 * oval, and changes the exclusion of the obstacles containing its start or end
+	 * point. Paths whose search regions do not intersect therefore do not share
+	 * any state and may be routed concurrently, while the paths in each group are
+	 * routed one after another. Paths which are not found within their search oval
+	 * are searched without limitation afterwards, one after another.
+	 *
+	 * @param paths the dirty paths
+	 */
+	private void generateShortestPathsInParallel(List<Path> paths) {
+		List<Path> unlimitedPaths = new ArrayList<>();
+		List<List<Path>> groups = groupIndependentPaths(paths, unlimitedPaths);
+		List<List<Path>> retries = new ArrayList<>(groups.size());
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(groups.size());
+		for (List<Path> group : groups) {
+			List<Path> groupRetries = new ArrayList<>();
+			retries.add(groupRetries);
+			tasks.add(ForkJoinTask.adapt(() -> {
+				for (Path path : group) {
+					path.excludedObstacles.forEach(obs -> obs.exclude = true);
+					if (!generateShortestPath(path)) {
+						groupRetries.add(path);
+					}
+					path.excludedObstacles.forEach(obs -> obs.exclude = false);
+				}
+			}));
+		}
+		getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+		retries.forEach(unlimitedPaths::addAll);
+		for (Path path : unlimitedPaths) {
+			path.excludedObstacles.forEach(obs -> obs.exclude = true);
+			retryShortestPath(path);
+			path.excludedObstacles.forEach(obs -> obs.exclude = false);
+		}
+	}
+
+	/**
+	 * Groups the given paths such that the search regions of paths in different
+	 * groups do not intersect. The paths keep their order within each group.
+	 *
+	 * @param paths          the paths to group
+	 * @param unlimitedPaths the list to add the paths without a search oval to
+	 * @return the groups of paths
+	 */
+	private static List<List<Path>> groupIndependentPaths(List<Path> paths, List<Path> unlimitedPaths) {
+		List<Path> limitedPaths = new ArrayList<>(paths.size());
+		List<Rectangle> regions = new ArrayList<>(paths.size());
+		for (Path path : paths) {
+			if (path.threshold == 0) {
+				unlimitedPaths.add(path);
+			} else {
+				limitedPaths.add(path);
+				regions.add(getSearchRegion(path));
+			}
+		}
+
+		// union-find over the paths, sweeping over the regions from left to right
+		int[] parents = new int[limitedPaths.size()];
+		List<Integer> sorted = new ArrayList<>(parents.length);
+		for (int i = 0; i < parents.length; i++) {
+			parents[i] = i;
+			sorted.add(Integer.valueOf(i));
+		}
+		sorted.sort(Comparator.comparingInt(i -> regions.get(i).x));
+		for (int i = 0; i < sorted.size(); i++) {
+			Rectangle region = regions.get(sorted.get(i));
+			for (int j = i + 1; j < sorted.size(); j++) {
+				Rectangle other = regions.get(sorted.get(j));
+				if (other.x >= region.right()) {
+					break;
+				}
+				if (region.intersects(other)) {
+					parents[find(parents, sorted.get(i))] = find(parents, sorted.get(j));
+				}
+			}
+		}
+
+		Map<Integer, List<Path>> groups = new HashMap<>();
+		List<List<Path>> result = new ArrayList<>();
+		for (int i = 0; i < parents.length; i++) {
+			List<Path> group = groups.computeIfAbsent(Integer.valueOf(find(parents, i)), root -> new ArrayList<>());
+			if (group.isEmpty()) {
+				result.add(group);
+			}
+			group.add(limitedPaths.get(i));
+		}
+		return result;
+	}
+
+	private static int find(int[] parents, int i) {
+		while (parents[i] != i) {
+			parents[i] = parents[parents[i]];
+			i = parents[i];
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the bounds of all obstacles and vertices the search of the given path
+	 * may visit. These are the bounds of its search oval, which contains all points
+	 * whose distances to the start and end point add up to at most the threshold,
+	 * and the obstacles containing the start or end point.
+	 *
+	 * @param path the path
+	 * @return the search region
+	 */
+	private static Rectangle getSearchRegion(Path path) {
+		int radius = (int) Math.ceil(path.threshold / 2) + 1;
+		int x = (path.start.x + path.end.x) / 2;
+		int y = (path.start.y + path.end.y) / 2;
+		Rectangle region = new Rectangle(x - radius, y - radius, 2 * radius + 1, 2 * radius + 1);
+		path.excludedObstacles.forEach(region::union);
+		return region;
+	}
+
+	private ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = new ForkJoinPool(parallelism);
+		}
+		return pool;
+	}
+
+	private void shutdownPool() {
+		if (pool != null) {
+			pool.shutdown();
+			pool = null;
+		}
+	}
+
 	/**
 	 * @since 3.0
 	 * @param path
@@ -785,6 +1177,7 @@ public class ShortestPathRouter {
 	private List<Path> regenerateChildPaths(Path path, List<Path> children, int currentSize, int newSize) {
 		// Path used to be simple but now is compound, children is EMPTY.
 		if (currentSize == 1) {
+			releasePath(path);
 			workingPaths.remove(path);
 			currentSize = 0;
 			children = new ArrayList<>(newSize);
@@ -792,6 +1185,7 @@ public class ShortestPathRouter {
 		} else
 		// Path is becoming simple but was compound. children becomes empty.
 		if (newSize == 1) {
+			children.forEach(this::releasePath);
 			workingPaths.removeAll(children);
 			workingPaths.add(path);
 			pathsToChildPaths.remove(path);
@@ -808,6 +1202,7 @@ public class ShortestPathRouter {
 
 		while (currentSize > newSize) {
 			Path child = children.remove(children.size() - 1);
+			releasePath(child);
 			workingPaths.remove(child);
 			currentSize--;
 		}
@@ -824,7 +1219,9 @@ public class ShortestPathRouter {
 	 * @return 1 if new segments have been inserted
 	 */
 	private int testOffsetSegmentForIntersections(Segment segment, int index, Path path) {
-		for (Obstacle obs : userObstacles) {
+		// the grown corners of an obstacle may lie outside of its bounds
+		int margin = getSpacing() + maxGrowth;
+		for (Obstacle obs : obstacleIndex.getObstacles(segment.start, segment.end, margin)) {
 
 			if (segment.end.obs == obs || segment.start.obs == obs || obs.exclude) {
 				continue;
@@ -874,6 +1271,7 @@ public class ShortestPathRouter {
 				vertex.shrink();
 				checkVertexForIntersections(vertex);
 				vertex.grow();
+				updateMaxGrowth(vertex);
 
 				if (vertex.nearestObstacle != 0) {
 					vertex.updateOffset();
@@ -898,6 +1296,10 @@ public class ShortestPathRouter {
 		return 0;
 	}
 
+	private void updateMaxGrowth(Vertex vertex) {
+		maxGrowth = Math.max(maxGrowth, vertex.getGrowth());
+	}
+
 	/**
 	 * Tests all paths against the given obstacle
 	 *
@@ -130,6 +130,7 @@ class TightSpanningTreeSolver extends SpanningTreeVisitor {
 	}
 
 	void init() {
+		members.clear();
 		graph.edges.resetFlags(true);
 		graph.nodes.resetFlags();
 		for (Node node : graph.nodes) {
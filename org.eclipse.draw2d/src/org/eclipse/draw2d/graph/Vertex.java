@@ -182,6 +182,16 @@ class Vertex extends Point {
 		return obs.getSpacing();
 	}
 
+	/**
+	 * Returns how far this vertex has been moved away from its original position
+	 * by {@link #grow()}.
+	 *
+	 * @return the growth of this vertex
+	 */
+	int getGrowth() {
+		return Math.max(Math.abs(x - origX), Math.abs(y - origY));
+	}
+
 	/**
 	 * Grows this vertex by its offset to its maximum size.
 	 */
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.draw2d.PositionConstants;
+
+/**
+ * The state of a previous layout which is reused by an incremental layout. It
+ * remembers the rank and the position within its rank of every node, as well as
+ * the positions of the bendpoints of long edges, before the delta is applied to
+ * the graph. The rows affected by the delta are collected in {@link #rows} once
+ * the new ranks are known.
+ *
+ * @since 3.18
+ */
+class WarmStart {
+
+	private final Map<Node, Integer> ranks = new IdentityHashMap<>();
+	private final Map<Node, Double> keys = new IdentityHashMap<>();
+	private final Map<Node, Map<Node, double[]>> bends = new IdentityHashMap<>();
+	private final NodeList addedNodes;
+	private final EdgeList addedEdges;
+	private final NodeList touchedNodes = new NodeList();
+	private Map<Node, Double> order;
+
+	/**
+	 * The rows in which the nodes have to be ordered again.
+	 */
+	final BitSet rows = new BitSet();
+
+	/**
+	 * Remembers the previous layout of the given graph and applies the delta to
+	 * it.
+	 *
+	 * @param graph the graph of the previous layout
+	 * @param delta the changes to apply
+	 */
+	WarmStart(DirectedGraph graph, DirectedGraphDelta delta) {
+		boolean south = graph.getDirection() == PositionConstants.SOUTH;
+		for (Node node : graph.nodes) {
+			ranks.put(node, Integer.valueOf(node.rank));
+			keys.put(node, Double.valueOf(getKey(node, south)));
+		}
+		for (Edge edge : graph.edges) {
+			NodeList vNodes = edge.vNodes;
+			if (vNodes == null || vNodes.size() != Math.abs(edge.target.rank - edge.source.rank) - 1) {
+				continue;
+			}
+			Node top = edge.isFeedback() ? edge.target : edge.source;
+			Node bottom = edge.isFeedback() ? edge.source : edge.target;
+			double[] positions = new double[vNodes.size()];
+			for (int i = 0; i < positions.length; i++) {
+				Node vNode = vNodes.get(edge.isFeedback() ? positions.length - 1 - i : i);
+				positions[i] = getKey(vNode, south);
+			}
+			bends.computeIfAbsent(top, n -> new IdentityHashMap<>()).put(bottom, positions);
+		}
+
+		EdgeList removedEdges = delta.getRemovedEdges();
+		for (Edge edge : removedEdges) {
+			touchedNodes.add(edge.source);
+			touchedNodes.add(edge.target);
+		}
+		delta.applyTo(graph);
+		touchedNodes.removeAll(delta.removedNodes);
+		addedNodes = delta.addedNodes;
+		addedEdges = delta.addedEdges;
+		for (Node node : addedNodes) {
+			ranks.remove(node);
+			keys.remove(node);
+		}
+		assignKeys(addedNodes);
+	}
+
+	private static double getKey(Node node, boolean south) {
+		return south ? node.x + node.width / 2.0 : node.y + node.height / 2.0;
+	}
+
+	/**
+	 * New nodes are placed at the average position of their neighbors from the
+	 * previous layout, or at the end of their rank if there are none.
+	 */
+	private void assignKeys(NodeList nodes) {
+		double max = keys.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+		for (Node node : nodes) {
+			double sum = 0;
+			int count = 0;
+			for (Edge e : node.incoming) {
+				Double key = keys.get(e.source);
+				if (key != null) {
+					sum += key.doubleValue();
+					count++;
+				}
+			}
+			for (Edge e : node.outgoing) {
+				Double key = keys.get(e.target);
+				if (key != null) {
+					sum += key.doubleValue();
+					count++;
+				}
+			}
+			keys.put(node, Double.valueOf(count == 0 ? max + 1 : sum / count));
+		}
+	}
+
+	/**
+	 * Returns the rank of the given node in the previous layout, or -1 if the node
+	 * is new.
+	 *
+	 * @param node the node
+	 * @return the previous rank
+	 */
+	int getPreviousRank(Node node) {
+		Integer rank = ranks.get(node);
+		return rank == null ? -1 : rank.intValue();
+	}
+
+	/**
+	 * Sorts the nodes of every rank by their position in the previous layout and
+	 * collects the rows affected by the delta. Must be called once the virtual
+	 * nodes have been created.
+	 *
+	 * @param graph the graph
+	 */
+	void orderRanks(DirectedGraph graph) {
+		order = new IdentityHashMap<>(keys);
+		for (Node node : graph.nodes) {
+			if (!(node instanceof VirtualNode)) {
+				for (Edge e : node.outgoing) {
+					if (e.target instanceof VirtualNode) {
+						assignBendKeys(e, order);
+					}
+				}
+			}
+		}
+		for (Rank rank : graph.ranks) {
+			rank.sort((n1, n2) -> Double.compare(getOrder(order, n1), getOrder(order, n2)));
+			rank.assignIndices();
+		}
+		collectRows(graph);
+	}
+
+	/**
+	 * Returns the position of the left side of the given node or virtual node in
+	 * the previous layout, or -1 if it is not known. Must not be called before the
+	 * ranks have been ordered.
+	 *
+	 * @param node the node
+	 * @return the previous position
+	 */
+	int getPreviousPosition(Node node) {
+		Double key = order.get(node);
+		return key == null ? -1 : (int) Math.round(key.doubleValue() - node.width / 2.0);
+	}
+
+	private static double getOrder(Map<Node, Double> order, Node node) {
+		Double key = order.get(node);
+		return key == null ? Double.MAX_VALUE : key.doubleValue();
+	}
+
+	/**
+	 * Assigns the positions to the virtual nodes of a long edge. They are taken
+	 * from the bendpoints of the previous layout if the edge spans the same number
+	 * of rows as before, and are interpolated between both ends otherwise.
+	 */
+	private void assignBendKeys(Edge first, Map<Node, Double> order) {
+		NodeList chain = new NodeList();
+		Node top = first.source;
+		Node node = first.target;
+		while (node instanceof VirtualNode) {
+			chain.add(node);
+			node = node.outgoing.get(0).target;
+		}
+		Node bottom = node;
+		double[] positions = null;
+		Map<Node, double[]> fromTop = bends.get(top);
+		if (fromTop != null) {
+			positions = fromTop.get(bottom);
+		}
+		if (positions != null && positions.length == chain.size()) {
+			for (int i = 0; i < positions.length; i++) {
+				order.put(chain.get(i), Double.valueOf(positions[i]));
+			}
+			return;
+		}
+		double start = getOrder(order, top);
+		double end = getOrder(order, bottom);
+		for (int i = 0; i < chain.size(); i++) {
+			order.put(chain.get(i), Double.valueOf(start + (end - start) * (i + 1) / (chain.size() + 1)));
+		}
+	}
+
+	/**
+	 * A node is changed if it is new, or if its rank moved relative to the rest of
+	 * the graph. The rows of changed nodes, of the edges connected to them, of
+	 * added edges and of the nodes which lost an edge are marked, together with
+	 * their neighboring rows.
+	 */
+	private void collectRows(DirectedGraph graph) {
+		Map<Integer, Integer> shifts = new HashMap<>();
+		for (Node node : graph.nodes) {
+			Integer previous = ranks.get(node);
+			if (previous != null) {
+				shifts.merge(Integer.valueOf(node.rank - previous.intValue()), Integer.valueOf(1), Integer::sum);
+			}
+		}
+		int shift = shifts.entrySet().stream().max(Map.Entry.comparingByValue()).map(Map.Entry::getKey)
+				.orElse(Integer.valueOf(0)).intValue();
+
+		BitSet changed = new BitSet();
+		for (Node node : graph.nodes) {
+			if (node instanceof VirtualNode) {
+				continue;
+			}
+			Integer previous = ranks.get(node);
+			if (previous == null || node.rank - previous.intValue() != shift) {
+				markEdges(node, changed);
+			}
+		}
+		for (Edge edge : addedEdges) {
+			changed.set(Math.min(edge.source.rank, edge.target.rank), Math.max(edge.source.rank, edge.target.rank) + 1);
+		}
+		for (Node node : touchedNodes) {
+			changed.set(node.rank);
+		}
+
+		rows.clear();
+		for (int row = changed.nextSetBit(0); row >= 0; row = changed.nextSetBit(row + 1)) {
+			rows.set(Math.max(0, row - 1), Math.min(graph.ranks.size(), row + 2));
+		}
+	}
+
+	private static void markEdges(Node node, BitSet changed) {
+		changed.set(node.rank);
+		for (Edge e : node.incoming) {
+			Node source = e.source;
+			while (source instanceof VirtualNode) {
+				changed.set(source.rank);
+				source = source.incoming.get(0).source;
+			}
+			changed.set(source.rank);
+		}
+		for (Edge e : node.outgoing) {
+			Node target = e.target;
+			while (target instanceof VirtualNode) {
+				changed.set(target.rank);
+				target = target.outgoing.get(0).target;
+			}
+			changed.set(target.rank);
+		}
+	}
+
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+/**
+ * Orders the nodes of every rank as in a previous layout, so that the crossing
+ * minimization only has to be repeated for the rows affected by the changes.
+ *
+ * @since 3.18
+ */
+class WarmStartOrdering extends GraphVisitor {
+
+	private final WarmStart warmStart;
+
+	WarmStartOrdering(WarmStart warmStart) {
+		this.warmStart = warmStart;
+	}
+
+	@Override
+	public void visit(DirectedGraph g) {
+		warmStart.orderRanks(g);
+	}
+
+}
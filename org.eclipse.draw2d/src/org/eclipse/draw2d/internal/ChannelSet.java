@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.internal;
+
+import java.util.Arrays;
+
+/**
+ * Set of occupied channels, i.e. the rows or columns used by orthogonal
+ * connections. Adjacent connections are kept two pixels apart, so the nearest
+ * free channel is searched among the channels with the same parity.
+ *
+ * The channels of each parity are stored as sorted runs of consecutive
+ * channels in primitive arrays. Finding the first free channel beyond a given
+ * one therefore takes a single binary search, no matter how many channels in
+ * between are occupied.
+ */
+public final class ChannelSet {
+
+	/**
+	 * Sorted, disjoint and non-adjacent runs of indices, where the index of a
+	 * channel is the channel divided by two.
+	 */
+	private static final class Runs {
+		private int[] starts = new int[8];
+		private int[] ends = new int[8];
+		private int size;
+
+		/**
+		 * @return the position of the last run starting at or before the index, or
+		 *         <code>-1</code>
+		 */
+		private int find(int index) {
+			int low = 0;
+			int high = size - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (starts[mid] <= index) {
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return high;
+		}
+
+		boolean contains(int index) {
+			int i = find(index);
+			return i >= 0 && ends[i] >= index;
+		}
+
+		/**
+		 * Adds all indices between <code>from</code> and <code>to</code>, inclusive.
+		 */
+		void add(int from, int to) {
+			// the runs overlapping or adjacent to the new run are merged with it
+			int first = find(from - 1);
+			if (first < 0 || ends[first] < from - 1) {
+				first++;
+			}
+			int last = find(to + 1);
+			if (first > last) {
+				insert(first, from, to);
+				return;
+			}
+			starts[first] = Math.min(starts[first], from);
+			ends[first] = Math.max(ends[last], to);
+			delete(first + 1, last - first);
+		}
+
+		boolean remove(int index) {
+			int i = find(index);
+			if (i < 0 || ends[i] < index) {
+				return false;
+			}
+			if (starts[i] == ends[i]) {
+				delete(i, 1);
+			} else if (starts[i] == index) {
+				starts[i]++;
+			} else if (ends[i] == index) {
+				ends[i]--;
+			} else {
+				insert(i + 1, index + 1, ends[i]);
+				ends[i] = index - 1;
+			}
+			return true;
+		}
+
+		/**
+		 * @return the first index at or beyond the given one, in the given
+		 *         direction, which is not in any run
+		 */
+		int getFree(int index, boolean ascending) {
+			int i = find(index);
+			if (i < 0 || ends[i] < index) {
+				return index;
+			}
+			return ascending ? ends[i] + 1 : starts[i] - 1;
+		}
+
+		private void insert(int i, int start, int end) {
+			if (size == starts.length) {
+				starts = Arrays.copyOf(starts, size * 2);
+				ends = Arrays.copyOf(ends, size * 2);
+			}
+			System.arraycopy(starts, i, starts, i + 1, size - i);
+			System.arraycopy(ends, i, ends, i + 1, size - i);
+			starts[i] = start;
+			ends[i] = end;
+			size++;
+		}
+
+		private void delete(int i, int count) {
+			System.arraycopy(starts, i + count, starts, i, size - i - count);
+			System.arraycopy(ends, i + count, ends, i, size - i - count);
+			size -= count;
+		}
+	}
+
+	private final Runs even = new Runs();
+	private final Runs odd = new Runs();
+
+	private Runs runs(int channel) {
+		return (channel & 1) == 0 ? even : odd;
+	}
+
+	/**
+	 * Occupies the given channel.
+	 *
+	 * @param channel the channel
+	 * @return <code>true</code> if the channel has been free
+	 */
+	public boolean add(int channel) {
+		Runs runs = runs(channel);
+		int index = channel >> 1;
+		if (runs.contains(index)) {
+			return false;
+		}
+		runs.add(index, index);
+		return true;
+	}
+
+	/**
+	 * Occupies all channels between the given ones, inclusive.
+	 *
+	 * @param from the first channel
+	 * @param to   the last channel
+	 */
+	public void add(int from, int to) {
+		// the first and last channel of each parity within the range
+		if ((from & 1) == 0) {
+			addRange(even, from, to & ~1);
+			addRange(odd, from + 1, (to - 1) | 1);
+		} else {
+			addRange(odd, from, (to - 1) | 1);
+			addRange(even, from + 1, to & ~1);
+		}
+	}
+
+	private static void addRange(Runs runs, int from, int to) {
+		if (from <= to) {
+			runs.add(from >> 1, to >> 1);
+		}
+	}
+
+	/**
+	 * Frees the given channel.
+	 *
+	 * @param channel the channel
+	 * @return <code>true</code> if the channel has been occupied
+	 */
+	public boolean remove(int channel) {
+		return runs(channel).remove(channel >> 1);
+	}
+
+	/**
+	 * @param channel the channel
+	 * @return <code>true</code> if the given channel is occupied
+	 */
+	public boolean contains(int channel) {
+		return runs(channel).contains(channel >> 1);
+	}
+
+	/**
+	 * Returns the first free channel at or beyond the given channel, in steps of
+	 * two in the given direction.
+	 *
+	 * @param channel   the channel to start at
+	 * @param ascending <code>true</code> to search the larger channels
+	 * @return the free channel with the same parity as the given one
+	 */
+	public int getFree(int channel, boolean ascending) {
+		int index = runs(channel).getFree(channel >> 1, ascending);
+		return (index << 1) | (channel & 1);
+	}
+
+	/**
+	 * Frees all channels.
+	 */
+	public void clear() {
+		even.size = 0;
+		odd.size = 0;
+	}
+
+}
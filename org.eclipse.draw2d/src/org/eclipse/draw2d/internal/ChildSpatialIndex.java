@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Polyline;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A {@link UniformGrid} over the bounds of the children of a figure, used to
+ * find the children at a given location without visiting all of them.
+ * Polylines are indexed with their bounds expanded by their tolerance, since
+ * they contain points outside of their bounds.
+ *
+ * The index listens to the children for bounds changes. Moved children are only
+ * marked and re-indexed lazily on the next query, so that moving many children
+ * at once remains cheap. Changes to the order of the children, other than
+ * appending them, cause the index to be rebuilt on the next query.
+ */
+public final class ChildSpatialIndex implements FigureListener {
+
+	/**
+	 * The default edge length of a grid cell.
+	 */
+	public static final int DEFAULT_CELL_SIZE = 256;
+
+	/**
+	 * Children covering more cells than this are not stored in the grid.
+	 */
+	private static final int MAX_CELLS_PER_CHILD = 64;
+
+	private static final class Entry {
+		final IFigure figure;
+		/** The z-order of the figure. Larger values are painted later. */
+		int order;
+		/** The hit bounds the figure is currently indexed with. */
+		Rectangle bounds;
+		boolean pending;
+		/** The last query this entry has been collected by. */
+		int query;
+
+		Entry(IFigure figure) {
+			this.figure = figure;
+		}
+	}
+
+	private final IFigure container;
+	private final UniformGrid<Entry> grid;
+	private final Map<IFigure, Entry> entries = new IdentityHashMap<>();
+	private final List<Entry> pending = new ArrayList<>();
+	private boolean rebuild = true;
+	private int nextOrder;
+	private int query;
+	private long visitedCount;
+	private long paintedCount;
+
+	/**
+	 * Creates a new index over the current children of the given figure. The
+	 * figure is expected to notify this index about all added and removed
+	 * children.
+	 *
+	 * @param container the figure whose children are indexed
+	 * @param cellSize  the edge length of a grid cell
+	 */
+	public ChildSpatialIndex(IFigure container, int cellSize) {
+		this.container = container;
+		this.grid = new UniformGrid<>(cellSize, MAX_CELLS_PER_CHILD);
+		for (IFigure child : container.getChildren()) {
+			entries.put(child, new Entry(child));
+			child.addFigureListener(this);
+		}
+	}
+
+	/**
+	 * Stops listening to the children of the indexed figure.
+	 */
+	public void dispose() {
+		entries.keySet().forEach(child -> child.removeFigureListener(this));
+		entries.clear();
+		grid.clear();
+		pending.clear();
+	}
+
+	/**
+	 * Must be called after a child has been added to the indexed figure.
+	 *
+	 * @param child the new child
+	 * @param index the index the child was added at, -1 for the end
+	 */
+	public void childAdded(IFigure child, int index) {
+		Entry entry = new Entry(child);
+		entries.put(child, entry);
+		child.addFigureListener(this);
+		if (index == -1 || index == container.getChildren().size() - 1) {
+			entry.order = nextOrder++;
+			markPending(entry);
+		} else {
+			rebuild = true;
+		}
+	}
+
+	/**
+	 * Must be called after a child has been removed from the indexed figure.
+	 *
+	 * @param child the removed child
+	 */
+	public void childRemoved(IFigure child) {
+		child.removeFigureListener(this);
+		Entry entry = entries.remove(child);
+		if (entry != null && !rebuild) {
+			unindex(entry);
+			if (entry.pending) {
+				pending.remove(entry);
+			}
+		}
+	}
+
+	@Override
+	public void figureMoved(IFigure source) {
+		Entry entry = entries.get(source);
+		if (entry != null) {
+			markPending(entry);
+		}
+	}
+
+	private void markPending(Entry entry) {
+		if (!entry.pending && !rebuild) {
+			entry.pending = true;
+			pending.add(entry);
+		}
+	}
+
+	/**
+	 * Returns all children whose hit bounds contain the given location, ordered
+	 * from the top-most to the bottom-most child. The location is relative to the
+	 * coordinate system of the children.
+	 *
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @return the children at the given location
+	 */
+	public List<IFigure> getChildrenAt(int x, int y) {
+		update();
+		List<Entry> hits = new ArrayList<>();
+		grid.visit(x, y, x, y, entry -> {
+			if (entry.bounds.contains(x, y)) {
+				hits.add(entry);
+			}
+		});
+		hits.sort((e1, e2) -> Integer.compare(e2.order, e1.order));
+		List<IFigure> result = new ArrayList<>(hits.size());
+		hits.forEach(entry -> result.add(entry.figure));
+		return result;
+	}
+
+	/**
+	 * Returns all children whose hit bounds intersect the given area, in the order
+	 * in which they are painted. The area is relative to the coordinate system of
+	 * the children.
+	 *
+	 * @param area the area, e.g. the current clip
+	 * @return the children intersecting the area
+	 */
+	public List<IFigure> getChildrenIntersecting(Rectangle area) {
+		update();
+		if (area.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<Entry> hits = new ArrayList<>();
+		long areaCells = (grid.cell(area.right() - 1) - grid.cell(area.x) + 1L)
+				* (grid.cell(area.bottom() - 1) - grid.cell(area.y) + 1L);
+		if (areaCells > entries.size()) {
+			// the area covers more cells than there are children, visiting the children
+			// in their painting order avoids sorting them
+			for (IFigure child : container.getChildren()) {
+				Entry entry = entries.get(child);
+				if (entry.bounds.intersects(area)) {
+					hits.add(entry);
+				}
+			}
+		} else {
+			int current = ++query;
+			grid.visit(area.x, area.y, area.right() - 1, area.bottom() - 1, entry -> {
+				if (entry.query != current && entry.bounds.intersects(area)) {
+					entry.query = current;
+					hits.add(entry);
+				}
+			});
+			hits.sort((e1, e2) -> Integer.compare(e1.order, e2.order));
+		}
+		List<IFigure> result = new ArrayList<>(hits.size());
+		hits.forEach(entry -> result.add(entry.figure));
+		return result;
+	}
+
+	/**
+	 * Adds the given numbers to the paint counters.
+	 *
+	 * @param visited the number of children visited during painting
+	 * @param painted the number of children actually painted
+	 */
+	public void countPainted(int visited, int painted) {
+		visitedCount += visited;
+		paintedCount += painted;
+	}
+
+	/**
+	 * @return the total number of children visited during painting
+	 */
+	public long getVisitedCount() {
+		return visitedCount;
+	}
+
+	/**
+	 * @return the total number of children painted
+	 */
+	public long getPaintedCount() {
+		return paintedCount;
+	}
+
+	/**
+	 * Resets the paint counters to 0.
+	 */
+	public void resetCounters() {
+		visitedCount = 0;
+		paintedCount = 0;
+	}
+
+	private void update() {
+		// re-indexing most children is more expensive than a rebuild
+		if (rebuild || pending.size() > entries.size() / 2) {
+			grid.clear();
+			pending.clear();
+			int order = 0;
+			for (IFigure child : container.getChildren()) {
+				Entry entry = entries.get(child);
+				entry.order = order++;
+				entry.pending = false;
+				index(entry);
+			}
+			nextOrder = order;
+			rebuild = false;
+			return;
+		}
+		for (Entry entry : pending) {
+			unindex(entry);
+			index(entry);
+			entry.pending = false;
+		}
+		pending.clear();
+	}
+
+	private void index(Entry entry) {
+		entry.bounds = getHitBounds(entry.figure);
+		if (entry.bounds.isEmpty()) {
+			return;
+		}
+		Rectangle r = entry.bounds;
+		grid.add(entry, r.x, r.y, r.right() - 1, r.bottom() - 1);
+	}
+
+	private static Rectangle getHitBounds(IFigure figure) {
+		Rectangle bounds = figure.getBounds().getCopy();
+		if (figure instanceof Polyline polyline) {
+			int tolerance = (int) Math.max(polyline.getLineWidthFloat() / 2.0f, polyline.getTolerance());
+			bounds.expand(tolerance, tolerance);
+		}
+		return bounds;
+	}
+
+	private void unindex(Entry entry) {
+		if (entry.bounds == null || entry.bounds.isEmpty()) {
+			return;
+		}
+		Rectangle r = entry.bounds;
+		grid.remove(entry, r.x, r.y, r.right() - 1, r.bottom() - 1);
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.internal;
+
+import org.eclipse.draw2d.geometry.Geometry;
+import org.eclipse.draw2d.geometry.PointList;
+
+/**
+ * Bounding box hierarchy over the segments of a polyline. Consecutive segments
+ * are grouped into blocks, which form the leaves of a complete binary tree.
+ * Each node stores the bounding box of all segments below it, so that a hit
+ * test only descends into the nodes close to the location.
+ *
+ * The index is a snapshot of the points at the time it has been created. It
+ * has to be recreated whenever the points are changed.
+ */
+public final class SegmentIndex {
+
+	/**
+	 * The number of segments in each leaf of the tree.
+	 */
+	private static final int BLOCK_SIZE = 8;
+
+	private final PointList points;
+	private final int size;
+	private final int leafCount;
+	private final int[] minX;
+	private final int[] minY;
+	private final int[] maxX;
+	private final int[] maxY;
+
+	/**
+	 * Creates the index of the segments of the given points.
+	 *
+	 * @param points the points of the polyline
+	 */
+	public SegmentIndex(PointList points) {
+		this.points = points;
+		this.size = points.size();
+		int blocks = Math.max(1, (size - 2) / BLOCK_SIZE + 1);
+		int leaves = 1;
+		while (leaves < blocks) {
+			leaves *= 2;
+		}
+		leafCount = leaves;
+		// the tree is stored as an implicit heap, the root at index 1
+		minX = new int[2 * leaves];
+		minY = new int[2 * leaves];
+		maxX = new int[2 * leaves];
+		maxY = new int[2 * leaves];
+		for (int leaf = 0; leaf < leaves; leaf++) {
+			int node = leaves + leaf;
+			minX[node] = minY[node] = Integer.MAX_VALUE;
+			maxX[node] = maxY[node] = Integer.MIN_VALUE;
+			int last = Math.min(size - 1, (leaf + 1) * BLOCK_SIZE);
+			for (int i = leaf * BLOCK_SIZE; i <= last; i++) {
+				minX[node] = Math.min(minX[node], points.getX(i));
+				minY[node] = Math.min(minY[node], points.getY(i));
+				maxX[node] = Math.max(maxX[node], points.getX(i));
+				maxY[node] = Math.max(maxY[node], points.getY(i));
+			}
+		}
+		for (int node = leaves - 1; node > 0; node--) {
+			minX[node] = Math.min(minX[2 * node], minX[2 * node + 1]);
+			minY[node] = Math.min(minY[2 * node], minY[2 * node + 1]);
+			maxX[node] = Math.max(maxX[2 * node], maxX[2 * node + 1]);
+			maxY[node] = Math.max(maxY[2 * node], maxY[2 * node + 1]);
+		}
+	}
+
+	/**
+	 * Returns whether this index has been created for the given points. Changes
+	 * made to the points without changing their number are not detected.
+	 *
+	 * @param points the points
+	 * @return <code>true</code> if the index may be used for the points
+	 */
+	public boolean isIndexOf(PointList points) {
+		return this.points == points && size == points.size();
+	}
+
+	/**
+	 * Returns the same result as
+	 * {@link Geometry#polylineContainsPoint(PointList, int, int, int)}, while only
+	 * testing the segments whose bounding box contains the given location.
+	 *
+	 * @param x         the x coordinate of the location
+	 * @param y         the y coordinate of the location
+	 * @param tolerance the allowed distance between the location and a segment
+	 * @return <code>true</code> if the location is on the polyline
+	 */
+	public boolean containsPoint(int x, int y, int tolerance) {
+		return size > 1 && containsPoint(1, x, y, tolerance);
+	}
+
+	private boolean containsPoint(int node, int x, int y, int tolerance) {
+		if (x < minX[node] - tolerance || x > maxX[node] + tolerance || y < minY[node] - tolerance
+				|| y > maxY[node] + tolerance) {
+			return false;
+		}
+		if (node < leafCount) {
+			return containsPoint(2 * node, x, y, tolerance) || containsPoint(2 * node + 1, x, y, tolerance);
+		}
+		int first = (node - leafCount) * BLOCK_SIZE;
+		int last = Math.min(size - 1, first + BLOCK_SIZE);
+		for (int i = first; i < last; i++) {
+			if (Geometry.segmentContainsPoint(points.getX(i), points.getY(i), points.getX(i + 1),
+					points.getY(i + 1), x, y, tolerance)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * Least recently used cache of the extents of measured strings, keyed by the
+ * font, the string and whether tabs and line delimiters have been expanded.
+ * Fonts are compared by identity, so that a font created with the handle of a
+ * disposed font never sees the extents of the latter.
+ *
+ * The cache is confined to the thread given on construction, which is expected
+ * to be the UI thread. Measurements on any other thread bypass the cache.
+ */
+public final class TextExtentCache {
+
+	/**
+	 * The default maximum number of cached extents.
+	 */
+	public static final int DEFAULT_SIZE = 1024;
+
+	private static final class Key {
+		private final Font font;
+		private final String string;
+		private final boolean expand;
+		private final int hash;
+
+		Key(Font font, String string, boolean expand) {
+			this.font = font;
+			this.string = string;
+			this.expand = expand;
+			int h = System.identityHashCode(font) * 31 + string.hashCode();
+			hash = expand ? h * 31 + 1 : h;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return font == other.font && expand == other.expand && string.equals(other.string);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private final Thread owner;
+	private final Map<Key, Point> extents;
+	private int maximumSize;
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates a new cache holding up to the given number of extents.
+	 *
+	 * @param owner       the only thread which may use the cache
+	 * @param maximumSize the maximum number of extents, 0 to disable the cache
+	 */
+	public TextExtentCache(Thread owner, int maximumSize) {
+		this.owner = owner;
+		extents = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Point> eldest) {
+				return size() > TextExtentCache.this.maximumSize;
+			}
+		};
+		setMaximumSize(maximumSize);
+	}
+
+	/**
+	 * Returns the extent of the given string. If it is not cached yet, the extent
+	 * is measured via the given function and added to the cache.
+	 *
+	 * @param font    the font
+	 * @param string  the string
+	 * @param expand  whether tabs and line delimiters are expanded
+	 * @param measure the function measuring the string in the font
+	 * @return a new point holding the extent
+	 */
+	public Point getExtent(Font font, String string, boolean expand, BiFunction<String, Font, Point> measure) {
+		if (maximumSize == 0 || Thread.currentThread() != owner) {
+			return measure.apply(string, font);
+		}
+		if (font != null && font.isDisposed()) {
+			invalidate(font);
+			return measure.apply(string, font);
+		}
+		Key key = new Key(font, string, expand);
+		Point extent = extents.get(key);
+		if (extent == null) {
+			misses++;
+			extent = measure.apply(string, font);
+			extents.put(key, new Point(extent.x, extent.y));
+			return extent;
+		}
+		hits++;
+		return new Point(extent.x, extent.y);
+	}
+
+	/**
+	 * Removes the extents measured in the given font.
+	 *
+	 * @param font the font, or <code>null</code> to remove all extents
+	 */
+	public void invalidate(Font font) {
+		if (Thread.currentThread() != owner) {
+			return;
+		}
+		if (font == null) {
+			extents.clear();
+		} else {
+			extents.keySet().removeIf(key -> key.font == font);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of cached extents. If more extents are cached, the
+	 * least recently used ones are removed.
+	 *
+	 * @param maximumSize the maximum number of extents, 0 to disable the cache
+	 */
+	public void setMaximumSize(int maximumSize) {
+		if (maximumSize < 0) {
+			throw new IllegalArgumentException("Cache size must not be negative: " + maximumSize); //$NON-NLS-1$
+		}
+		this.maximumSize = maximumSize;
+		Iterator<Key> iterator = extents.keySet().iterator();
+		for (int i = extents.size(); i > maximumSize; i--) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * @return the maximum number of cached extents
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return the number of measurements answered from the cache
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of measurements which have not been cached
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Resets the number of hits and misses to 0.
+	 */
+	public void resetStatistics() {
+		hits = 0;
+		misses = 0;
+	}
+
+}
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Uniform grid of square cells, used to find the elements close to an area
+ * without visiting all of them. Each element is stored in all cells covered by
+ * its bounds. Elements covering too many cells, or no cell at all, are kept in
+ * a separate list, which is always visited.
+ *
+ * The grid does not know the bounds of its elements. They are passed as
+ * inclusive pixel coordinates when an element is added or removed, and must be
+ * the same for both. Visits may pass an element more than once, if it covers
+ * several of the visited cells, and may pass elements which are merely close
+ * to the visited area. Callers are expected to test the actual bounds.
+ *
+ * @param <T> the type of the elements
+ */
+public final class UniformGrid<T> {
+
+	private final int cellSize;
+	private final int maxCellsPerElement;
+	private final Map<Long, List<T>> cells = new HashMap<>();
+	private final List<T> oversized = new ArrayList<>();
+
+	/**
+	 * Creates a new, empty grid.
+	 *
+	 * @param cellSize           the edge length of a cell
+	 * @param maxCellsPerElement elements covering more cells than this are kept
+	 *                           in the list of oversized elements
+	 */
+	public UniformGrid(int cellSize, int maxCellsPerElement) {
+		if (cellSize <= 0) {
+			throw new IllegalArgumentException("Cell size must be positive: " + cellSize); //$NON-NLS-1$
+		}
+		this.cellSize = cellSize;
+		this.maxCellsPerElement = maxCellsPerElement;
+	}
+
+	/**
+	 * @return the edge length of a cell
+	 */
+	public int getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Returns the index of the column or row containing the given coordinate.
+	 *
+	 * @param coordinate the x or y coordinate
+	 * @return the index of the cell
+	 */
+	public int cell(int coordinate) {
+		return Math.floorDiv(coordinate, cellSize);
+	}
+
+	/**
+	 * Adds the given element to all cells covered by the given area.
+	 *
+	 * @param element the element
+	 * @param x1      the left edge of the element
+	 * @param y1      the top edge of the element
+	 * @param x2      the right edge of the element, inclusive
+	 * @param y2      the bottom edge of the element, inclusive
+	 */
+	public void add(T element, int x1, int y1, int x2, int y2) {
+		if (isOversized(x1, y1, x2, y2)) {
+			oversized.add(element);
+			return;
+		}
+		for (int i = cell(x1); i <= cell(x2); i++) {
+			for (int j = cell(y1); j <= cell(y2); j++) {
+				cells.computeIfAbsent(key(i, j), key -> new ArrayList<>(4)).add(element);
+			}
+		}
+	}
+
+	/**
+	 * Removes the given element, which must have been added with the same area.
+	 * Elements are compared by identity.
+	 *
+	 * @param element the element
+	 * @param x1      the left edge of the element
+	 * @param y1      the top edge of the element
+	 * @param x2      the right edge of the element, inclusive
+	 * @param y2      the bottom edge of the element, inclusive
+	 */
+	public void remove(T element, int x1, int y1, int x2, int y2) {
+		if (isOversized(x1, y1, x2, y2)) {
+			oversized.removeIf(e -> e == element);
+			return;
+		}
+		for (int i = cell(x1); i <= cell(x2); i++) {
+			for (int j = cell(y1); j <= cell(y2); j++) {
+				Long key = key(i, j);
+				List<T> cell = cells.get(key);
+				if (cell != null && cell.removeIf(e -> e == element) && cell.isEmpty()) {
+					cells.remove(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all elements.
+	 */
+	public void clear() {
+		cells.clear();
+		oversized.clear();
+	}
+
+	/**
+	 * Visits the elements in the cells covered by the given area and all
+	 * oversized elements. If the area covers more cells than are occupied, the
+	 * occupied cells are visited instead.
+	 *
+	 * @param x1      the left edge of the area
+	 * @param y1      the top edge of the area
+	 * @param x2      the right edge of the area, inclusive
+	 * @param y2      the bottom edge of the area, inclusive
+	 * @param visitor the visitor
+	 */
+	public void visit(int x1, int y1, int x2, int y2, Consumer<? super T> visitor) {
+		int column1 = cell(x1);
+		int column2 = cell(x2);
+		int row1 = cell(y1);
+		int row2 = cell(y2);
+		if ((long) (column2 - column1 + 1) * (row2 - row1 + 1) > cells.size()) {
+			cells.values().forEach(cell -> cell.forEach(visitor));
+		} else {
+			for (int i = column1; i <= column2; i++) {
+				visitColumn(i, row1, row2, visitor);
+			}
+		}
+		visitOversized(visitor);
+	}
+
+	/**
+	 * Visits the elements in the given rows of a single column. Oversized
+	 * elements are not visited.
+	 *
+	 * @param column  the index of the column
+	 * @param row1    the index of the first row
+	 * @param row2    the index of the last row, inclusive
+	 * @param visitor the visitor
+	 */
+	public void visitColumn(int column, int row1, int row2, Consumer<? super T> visitor) {
+		for (int j = row1; j <= row2; j++) {
+			List<T> cell = cells.get(key(column, j));
+			if (cell != null) {
+				cell.forEach(visitor);
+			}
+		}
+	}
+
+	/**
+	 * Visits the elements covering too many cells, or no cell at all.
+	 *
+	 * @param visitor the visitor
+	 */
+	public void visitOversized(Consumer<? super T> visitor) {
+		oversized.forEach(visitor);
+	}
+
+	private boolean isOversized(int x1, int y1, int x2, int y2) {
+		if (x2 < x1 || y2 < y1) {
+			return true;
+		}
+		long columns = cell(x2) - cell(x1) + 1L;
+		long rows = cell(y2) - cell(y1) + 1L;
+		return columns * rows > maxCellsPerElement;
+	}
+
+	private static Long key(int column, int row) {
+		// Long.hashCode() is column ^ row, which collides along diagonals; the row is
+		// scrambled by an odd factor, which keeps the keys unique
+		return Long.valueOf(((long) column << 32) | ((row * 0x9E3779B1) & 0xffffffffL));
+	}
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.draw2d.text;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
 
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.Graphics;
@@ -78,6 +79,20 @@ public class BlockFlow extends FlowFigure {
 		return new BlockFlowLayout(this);
 	}
 
+	/**
+	 * Places this block with the given estimated height without laying out its
+	 * contents. The block is considered valid, until it is laid out by its parent
+	 * again.
+	 *
+	 * @param height the estimated height
+	 */
+	void estimate(int height) {
+		if (getLayoutManager() instanceof BlockFlowLayout layout) {
+			layout.estimateBlock(height);
+		}
+		setValid(true);
+	}
+
 	/**
 	 * Returns the BlockBox associated with this.
 	 *
@@ -194,6 +209,10 @@ public class BlockFlow extends FlowFigure {
 		return margin;
 	}
 
+	boolean isLaidOut() {
+		return isValid();
+	}
+
 	/**
 	 * @see org.eclipse.draw2d.Figure#paintBorder(org.eclipse.draw2d.Graphics)
 	 */
@@ -248,6 +267,20 @@ public class BlockFlow extends FlowFigure {
 		}
 	}
 
+	/**
+	 * Sets the font and lays out all nested blocks again, as they inherit the font
+	 * of this block.
+	 *
+	 * @see org.eclipse.draw2d.Figure#setFont(Font)
+	 */
+	@Override
+	public void setFont(Font f) {
+		if (getLocalFont() != f && getLayoutManager() instanceof BlockFlowLayout layout) {
+			layout.blockAndChildrenChanged();
+		}
+		super.setFont(f);
+	}
+
 	/**
 	 * Sets the horitontal aligment of the block. Valid values are:
 	 * <UL>
@@ -272,6 +305,9 @@ public class BlockFlow extends FlowFigure {
 			return;
 		}
 		alignment = value;
+		if (getLayoutManager() instanceof BlockFlowLayout layout) {
+			layout.blockAndChildrenChanged();
+		}
 		revalidate();
 	}
 
@@ -295,6 +331,9 @@ public class BlockFlow extends FlowFigure {
 			return;
 		}
 		this.orientation = orientation;
+		if (getLayoutManager() instanceof BlockFlowLayout layout) {
+			layout.blockAndChildrenChanged();
+		}
 		revalidateBidi(this);
 	}
 
@@ -16,7 +16,6 @@ import java.util.List;
 
 import org.eclipse.swt.SWT;
 
-import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.geometry.Insets;
@@ -34,6 +33,11 @@ public class BlockFlowLayout extends FlowContainerLayout {
 
 	BlockBox blockBox;
 	boolean blockInvalid = false;
+	/**
+	 * Whether all child blocks have to be laid out again, even if they have not
+	 * changed themselves.
+	 */
+	private boolean childrenInvalid = true;
 	private boolean continueOnSameLine = false;
 	private CompositeBox previousLine = null;
 
@@ -113,6 +117,26 @@ public class BlockFlowLayout extends FlowContainerLayout {
 		blockInvalid = true;
 	}
 
+	/**
+	 * Marks the contents of this block and of all nested blocks as changed. This
+	 * is required whenever a property inherited by the nested blocks changes, such
+	 * as the font or the alignment.
+	 */
+	void blockAndChildrenChanged() {
+		blockInvalid = true;
+		childrenInvalid = true;
+	}
+
+	/**
+	 * Returns whether the block box of the previous layout can be added to the
+	 * context as is. This is the case if neither the contents of the block nor its
+	 * available width have changed.
+	 */
+	boolean isBlockBoxReusable() {
+		return !blockInvalid && !childrenInvalid && blockBox != null
+				&& getRecommendedWidth() == blockBox.getRecommendedWidth();
+	}
+
 	/**
 	 * @see FlowContainerLayout#cleanup()
 	 */
@@ -173,10 +197,6 @@ public class BlockFlowLayout extends FlowContainerLayout {
 		endBlock();
 	}
 
-	boolean forceChildInvalidation(Figure f) {
-		return blockInvalid;
-	}
-
 	/**
 	 * Returns the BlockFlow associated with this BlockFlowLayout
 	 *
@@ -216,6 +236,94 @@ public class BlockFlowLayout extends FlowContainerLayout {
 		}
 	}
 
+	private int getRecommendedWidth() {
+		int recommended = getContextWidth();
+		if (recommended == Integer.MAX_VALUE) {
+			recommended = -1;
+		}
+		BlockFlow bf = getBlockFlow();
+		if (recommended > 0) {
+			int borderCorrection = bf.getInsets().getWidth() + bf.getLeftMargin() + bf.getRightMargin();
+			recommended = Math.max(0, recommended - borderCorrection);
+		}
+		return recommended;
+	}
+
+	/**
+	 * Lays out the children which have changed. A nested block which has neither
+	 * changed nor been given a different width keeps the lines of its previous
+	 * layout, and only its block box is placed below the previous line again.
+	 * Since blocks use local coordinates, the contents of a moved block do not
+	 * need to be laid out again.
+	 *
+	 * @see FlowContainerLayout#layoutChildren()
+	 */
+	@Override
+	protected void layoutChildren() {
+		getFlowFigure().getChildren().forEach(this::layoutChild);
+		childrenLaidOut();
+	}
+
+	/**
+	 * Lays out the given child, unless it is a block whose previous layout can be
+	 * reused.
+	 */
+	void layoutChild(IFigure child) {
+		if (isReusable(child)) {
+			addLine(((BlockFlow) child).getBlockBox());
+			return;
+		}
+		if (childrenInvalid && child instanceof BlockFlow block
+				&& block.getLayoutManager() instanceof BlockFlowLayout layout) {
+			layout.blockAndChildrenChanged();
+		}
+		child.invalidate();
+		child.validate();
+	}
+
+	/**
+	 * Returns whether the given child is a block which does not need to be laid
+	 * out again.
+	 */
+	boolean isReusable(IFigure child) {
+		return !childrenInvalid && child instanceof BlockFlow block && block.isLaidOut()
+				&& block.getLayoutManager() instanceof BlockFlowLayout layout && layout.isBlockBoxReusable();
+	}
+
+	/**
+	 * Called once all children have been laid out or reused.
+	 */
+	void childrenLaidOut() {
+		childrenInvalid = false;
+	}
+
+	/**
+	 * Returns the top of the next line, not taking its margin into account.
+	 */
+	int getNextLineTop() {
+		if (previousLine == null) {
+			return 0;
+		}
+		return previousLine.getBaseline() + previousLine.getDescent();
+	}
+
+	/**
+	 * Adds the block box with the given height to the context, instead of laying
+	 * out the contents of the block. The block is laid out completely once it is
+	 * validated again.
+	 *
+	 * @param height the estimated height of the block, including its insets
+	 */
+	void estimateBlock(int height) {
+		blockAndChildrenChanged();
+		blockBox = getBlockFlow().getBlockBox();
+		int recommended = getRecommendedWidth();
+		blockBox.setRecommendedWidth(recommended);
+		blockBox.setWidth(Math.max(0, recommended) + getBlockFlow().getInsets().getWidth());
+		blockBox.height = height;
+		getContext().addLine(blockBox);
+	}
+
 	/**
 	 * @see FlowContainerLayout#preLayout()
 	 */
@@ -239,16 +347,7 @@ public class BlockFlowLayout extends FlowContainerLayout {
 	 * sets up the single block that contains all of the lines.
 	 */
 	protected void setupBlock() {
-		int recommended = getContextWidth();
-		if (recommended == Integer.MAX_VALUE) {
-			recommended = -1;
-		}
-		BlockFlow bf = getBlockFlow();
-		if (recommended > 0) {
-			int borderCorrection = bf.getInsets().getWidth() + bf.getLeftMargin() + bf.getRightMargin();
-			recommended = Math.max(0, recommended - borderCorrection);
-		}
-
+		int recommended = getRecommendedWidth();
 		if (recommended != blockBox.recommendedWidth) {
 			blockInvalid = true;
 			blockBox.setRecommendedWidth(recommended);
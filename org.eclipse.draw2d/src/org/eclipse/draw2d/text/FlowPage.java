@@ -12,6 +12,10 @@
  *******************************************************************************/
 package org.eclipse.draw2d.text;
 
+import java.beans.PropertyChangeListener;
+
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.ViewportUtilities;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 
@@ -24,6 +28,11 @@ import org.eclipse.draw2d.geometry.Rectangle;
  * {@link org.eclipse.draw2d.IFigure#getPreferredSize(int, int)}.
  *
  * <P>
+ * A page holding a large number of blocks may be
+ * {@link #setVirtualized(boolean) virtualized}, so that only the blocks near
+ * the visible area of the enclosing {@link Viewport} are laid out.
+ *
+ * <P>
  * WARNING: This class is not intended to be subclassed by clients.
  */
 public class FlowPage extends BlockFlow {
@@ -32,6 +41,17 @@ public class FlowPage extends BlockFlow {
 	private int recommendedWidth;
 	private int pageSizeCacheKeys[] = new int[3];
 	private Dimension pageSizeCacheValues[] = new Dimension[3];
+	private boolean virtualized;
+	private Viewport viewport;
+	private final PropertyChangeListener scrollListener = event -> {
+		if (!virtualized) {
+			return;
+		}
+		Rectangle area = getVisibleArea();
+		if (area != null && ((PageFlowLayout) getLayoutManager()).isEstimated(area)) {
+			revalidate();
+		}
+	};
 
 	/**
 	 * @see org.eclipse.draw2d.Figure#addNotify()
@@ -40,6 +60,7 @@ public class FlowPage extends BlockFlow {
 	public void addNotify() {
 		super.addNotify();
 		setValid(false);
+		hookViewport();
 	}
 
 	/**
@@ -98,6 +119,49 @@ public class FlowPage extends BlockFlow {
 		return pageSizeCacheValues[0];
 	}
 
+	/**
+	 * Returns the area of this page which is visible in the enclosing viewport.
+	 *
+	 * @return the visible area relative to this page, or <code>null</code> if the
+	 *         page is not contained in a viewport
+	 */
+	Rectangle getVisibleArea() {
+		Viewport vp = ViewportUtilities.getNearestEnclosingViewport(this);
+		if (vp == null) {
+			return null;
+		}
+		Rectangle area = vp.getClientArea();
+		vp.translateToParent(area);
+		vp.translateToAbsolute(area);
+		translateToRelative(area);
+		return area;
+	}
+
+	private void hookViewport() {
+		viewport = ViewportUtilities.getNearestEnclosingViewport(this);
+		if (viewport != null) {
+			viewport.getVerticalRangeModel().addPropertyChangeListener(scrollListener);
+		}
+	}
+
+	private void unhookViewport() {
+		if (viewport != null) {
+			viewport.getVerticalRangeModel().removePropertyChangeListener(scrollListener);
+			viewport = null;
+		}
+	}
+
+	/**
+	 * Returns whether only the blocks near the visible area are laid out.
+	 *
+	 * @return <code>true</code> if this page is virtualized
+	 * @see #setVirtualized(boolean)
+	 * @since 3.18
+	 */
+	public boolean isVirtualized() {
+		return virtualized;
+	}
+
 	int getPageWidth() {
 		return recommendedWidth;
 	}
@@ -120,6 +184,7 @@ public class FlowPage extends BlockFlow {
 	 */
 	@Override
 	public void removeNotify() {
+		unhookViewport();
 		super.removeNotify();
 		setValid(true);
 	}
@@ -141,6 +206,29 @@ public class FlowPage extends BlockFlow {
 		}
 	}
 
+	/**
+	 * Sets whether only the blocks near the visible area of the enclosing
+	 * {@link Viewport} are laid out. The height of all other blocks is estimated
+	 * from the blocks laid out so far, which keeps the layout of documents with
+	 * many blocks fast. Blocks are laid out once they are scrolled into view,
+	 * refining the preferred size of the page. Blocks which have only been
+	 * estimated have no valid fragments, so clients navigating a virtualized
+	 * page must not rely on the layout of blocks far from the visible area.
+	 * <p>
+	 * A page which is not contained in a viewport is always laid out
+	 * completely. The default is <code>false</code>.
+	 *
+	 * @param virtualized <code>true</code> to lay out only the visible blocks
+	 * @since 3.18
+	 */
+	public void setVirtualized(boolean virtualized) {
+		if (this.virtualized == virtualized) {
+			return;
+		}
+		this.virtualized = virtualized;
+		revalidate();
+	}
+
 	private void setPageWidth(int width) {
 		if (recommendedWidth == width) {
 			return;
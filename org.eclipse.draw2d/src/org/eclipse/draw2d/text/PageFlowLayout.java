@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.draw2d.text;
 
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
 /**
  * A block layout which requires no FlowContext to perform its layout. This
  * class is used by {@link FlowPage}.
@@ -20,6 +23,10 @@ package org.eclipse.draw2d.text;
  */
 public class PageFlowLayout extends BlockFlowLayout {
 
+	private boolean estimated;
+	private int preciseTop;
+	private int preciseBottom;
+
 	/**
 	 * Creates a new PageFlowLayout with the given FlowPage
 	 *
@@ -37,4 +44,56 @@ public class PageFlowLayout extends BlockFlowLayout {
 		return ((FlowPage) getFlowFigure()).getPageWidth();
 	}
 
+	/**
+	 * Returns whether the given area of the page contains blocks whose height has
+	 * only been estimated.
+	 *
+	 * @param area the visible area of the page
+	 * @return <code>true</code> if the page has to be laid out again
+	 */
+	boolean isEstimated(Rectangle area) {
+		return estimated && (area.y < preciseTop || area.bottom() > preciseBottom);
+	}
+
+	/**
+	 * Lays out only the blocks near the visible area if the page is virtualized.
+	 * The blocks within one visible height above and below the visible area are
+	 * laid out, whereas the height of the other blocks is estimated from the
+	 * average height of the blocks laid out so far. Blocks which have been laid
+	 * out before keep their exact height.
+	 *
+	 * @see BlockFlowLayout#layoutChildren()
+	 */
+	@Override
+	protected void layoutChildren() {
+		FlowPage page = (FlowPage) getFlowFigure();
+		Rectangle area = page.isVirtualized() ? page.getVisibleArea() : null;
+		estimated = false;
+		if (area == null) {
+			super.layoutChildren();
+			return;
+		}
+		preciseTop = area.y - area.height;
+		preciseBottom = area.bottom() + area.height;
+		int measuredHeight = 0;
+		int measuredBlocks = 0;
+		for (IFigure child : page.getChildren()) {
+			if (child instanceof BlockFlow block && measuredBlocks > 0 && !isReusable(child)) {
+				int top = getNextLineTop();
+				int height = measuredHeight / measuredBlocks;
+				if (top > preciseBottom || top + height < preciseTop) {
+					block.estimate(height);
+					estimated = true;
+					continue;
+				}
+			}
+			layoutChild(child);
+			if (child instanceof BlockFlow block) {
+				measuredHeight += block.getBlockBox().getHeight();
+				measuredBlocks++;
+			}
+		}
+		childrenLaidOut();
+	}
+
 }
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.gef.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.FreeformLayout;
+import org.eclipse.draw2d.IFigure;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.GraphicalViewer;
+import org.eclipse.gef.editparts.AbstractConnectionEditPart;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.gef.ui.parts.GraphicalViewerImpl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class EditPartViewerBatchTest {
+
+	private static class Node {
+		final List<Object> sourceConnections = new ArrayList<>();
+		final List<Object> targetConnections = new ArrayList<>();
+	}
+
+	/**
+	 * Records the refreshes actually performed by the edit parts.
+	 */
+	private final List<String> log = new ArrayList<>();
+
+	private class DiagramEditPart extends AbstractGraphicalEditPart {
+		@Override
+		protected IFigure createFigure() {
+			IFigure figure = new FreeformLayer();
+			figure.setLayoutManager(new FreeformLayout());
+			return figure;
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// do nothing
+		}
+
+		@Override
+		protected List<?> getModelChildren() {
+			log.add("children"); //$NON-NLS-1$
+			return (List<?>) getModel();
+		}
+
+		void modelChildrenChanged() {
+			refreshChildren();
+		}
+	}
+
+	private class NodeEditPart extends AbstractGraphicalEditPart {
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// do nothing
+		}
+
+		@Override
+		protected List<?> getModelSourceConnections() {
+			log.add("source " + getName()); //$NON-NLS-1$
+			return ((Node) getModel()).sourceConnections;
+		}
+
+		@Override
+		protected List<?> getModelTargetConnections() {
+			log.add("target " + getName()); //$NON-NLS-1$
+			return ((Node) getModel()).targetConnections;
+		}
+
+		@Override
+		protected void refreshVisuals() {
+			log.add("visuals " + getName()); //$NON-NLS-1$
+		}
+
+		String getName() {
+			return String.valueOf(nodes.indexOf(getModel()));
+		}
+
+		void modelConnectionsChanged() {
+			refreshSourceConnections();
+			refreshTargetConnections();
+		}
+	}
+
+	private static class ConnectionEditPart extends AbstractConnectionEditPart {
+		@Override
+		protected void createEditPolicies() {
+			// do nothing
+		}
+	}
+
+	private GraphicalViewer viewer;
+	private List<Node> nodes;
+
+	@Before
+	public void setUp() {
+		viewer = PlatformUI.getWorkbench().getDisplay().syncCall(GraphicalViewerImpl::new);
+		viewer.setEditPartFactory((context, model) -> {
+			EditPart editPart;
+			if (model instanceof Node) {
+				editPart = new NodeEditPart();
+			} else if (model instanceof List) {
+				editPart = new DiagramEditPart();
+			} else {
+				editPart = new ConnectionEditPart();
+			}
+			editPart.setModel(model);
+			return editPart;
+		});
+		nodes = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			nodes.add(new Node());
+		}
+		viewer.setContents(nodes);
+		log.clear();
+	}
+
+	private DiagramEditPart getDiagram() {
+		return (DiagramEditPart) viewer.getContents();
+	}
+
+	private NodeEditPart getNode(int index) {
+		return (NodeEditPart) viewer.getEditPartForModel(nodes.get(index));
+	}
+
+	/**
+	 * Repeated refreshes while batching must be performed once at the end of the
+	 * batch.
+	 */
+	@Test
+	public void testCoalesce() {
+		viewer.beginBatch();
+		assertTrue(viewer.isBatching());
+		for (int i = 0; i < 100; i++) {
+			Node node = new Node();
+			Object connection = new Object();
+			nodes.get(0).sourceConnections.add(connection);
+			node.targetConnections.add(connection);
+			nodes.add(node);
+			getDiagram().modelChildrenChanged();
+			getNode(0).modelConnectionsChanged();
+		}
+		assertTrue(log.isEmpty());
+		assertEquals(3, getDiagram().getChildren().size());
+		viewer.endBatch();
+
+		assertFalse(viewer.isBatching());
+		assertEquals(103, getDiagram().getChildren().size());
+		assertEquals(100, getNode(0).getSourceConnections().size());
+		assertEquals(1, log.stream().filter("children"::equals).count()); //$NON-NLS-1$
+		assertEquals(1, log.stream().filter("source 0"::equals).count()); //$NON-NLS-1$
+		assertEquals(1, log.stream().filter("target 0"::equals).count()); //$NON-NLS-1$
+		assertFalse(log.contains("visuals 0")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Deferred refreshes are performed parent before child, and refreshes of
+	 * removed edit parts are dropped.
+	 */
+	@Test
+	public void testOrder() {
+		viewer.beginBatch();
+		NodeEditPart removed = getNode(1);
+		getNode(2).refresh();
+		removed.refresh();
+		viewer.beginBatch();
+		nodes.remove(1);
+		getDiagram().modelChildrenChanged();
+		viewer.endBatch();
+		assertTrue(viewer.isBatching());
+		assertTrue(log.isEmpty());
+		viewer.endBatch();
+
+		assertNull(removed.getParent());
+		// the third node is now the second one
+		assertEquals(List.of("children", "visuals 1", "source 1", "target 1"), log); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Refreshes are performed immediately if the viewer isn't batching.
+	 */
+	@Test
+	public void testNoBatch() {
+		getNode(0).modelConnectionsChanged();
+		getNode(0).modelConnectionsChanged();
+		assertEquals(List.of("source 0", "target 0", "source 0", "target 0"), log); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
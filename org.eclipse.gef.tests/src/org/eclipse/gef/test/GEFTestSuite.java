@@ -30,6 +30,9 @@ import org.junit.runners.Suite;
 	CommandStackTest.class,
 	RulerLayoutTests.class,
 	GraphicalViewerTest.class,
+	MarqueeSelectionToolTest.class,
+	SnapToGeometryTest.class,
+	EditPartViewerBatchTest.class,
 	SWTBotTestSuite.class
 })
 public class GEFTestSuite {
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.gef.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.FreeformLayout;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartViewer;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.GraphicalViewer;
+import org.eclipse.gef.editparts.AbstractConnectionEditPart;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.gef.tools.MarqueeSelectionTool;
+import org.eclipse.gef.ui.parts.GraphicalViewerImpl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class MarqueeSelectionToolTest {
+
+	private static final int[] BEHAVIORS = { MarqueeSelectionTool.BEHAVIOR_NODES_CONTAINED,
+			MarqueeSelectionTool.BEHAVIOR_NODES_TOUCHED, MarqueeSelectionTool.BEHAVIOR_CONNECTIONS_CONTAINED,
+			MarqueeSelectionTool.BEHAVIOR_CONNECTIONS_TOUCHED,
+			MarqueeSelectionTool.BEHAVIOR_NODES_CONTAINED_AND_RELATED_CONNECTIONS,
+			MarqueeSelectionTool.BEHAVIOR_NODES_TOUCHED_AND_RELATED_CONNECTIONS };
+
+	private static class Node {
+		final Rectangle bounds;
+		final List<Connection> sourceConnections = new ArrayList<>();
+		final List<Connection> targetConnections = new ArrayList<>();
+
+		Node(Rectangle bounds) {
+			this.bounds = bounds;
+		}
+	}
+
+	private static class Connection {
+	}
+
+	private static class DiagramEditPart extends AbstractGraphicalEditPart {
+		@Override
+		protected IFigure createFigure() {
+			IFigure figure = new FreeformLayer();
+			figure.setLayoutManager(new FreeformLayout());
+			return figure;
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// do nothing
+		}
+
+		@Override
+		protected List<?> getModelChildren() {
+			return (List<?>) getModel();
+		}
+	}
+
+	private static class NodeEditPart extends AbstractGraphicalEditPart {
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// do nothing
+		}
+
+		@Override
+		protected List<?> getModelSourceConnections() {
+			return ((Node) getModel()).sourceConnections;
+		}
+
+		@Override
+		protected List<?> getModelTargetConnections() {
+			return ((Node) getModel()).targetConnections;
+		}
+
+		@Override
+		protected void refreshVisuals() {
+			((GraphicalEditPart) getParent()).setLayoutConstraint(this, getFigure(), ((Node) getModel()).bounds);
+		}
+	}
+
+	private static class ConnectionEditPart extends AbstractConnectionEditPart {
+		@Override
+		protected void createEditPolicies() {
+			// do nothing
+		}
+	}
+
+	/**
+	 * Marquee tool whose marquee rectangle is set directly.
+	 */
+	private static class TestMarqueeSelectionTool extends MarqueeSelectionTool {
+		private final EditPartViewer viewer;
+		Rectangle marquee;
+
+		TestMarqueeSelectionTool(EditPartViewer viewer, int behavior, boolean incremental) {
+			this.viewer = viewer;
+			setMarqueeBehavior(behavior);
+			setIncremental(incremental);
+		}
+
+		@Override
+		protected Rectangle getCurrentMarqueeSelectionRectangle() {
+			return marquee;
+		}
+
+		@Override
+		protected EditPartViewer getCurrentViewer() {
+			return viewer;
+		}
+
+		@Override
+		protected boolean isMarqueeSelectable(GraphicalEditPart editPart) {
+			return editPart.isSelectable();
+		}
+
+		Collection<? extends GraphicalEditPart> getMarqueeSelectedEditParts() {
+			return calculateMarqueeSelectedEditParts();
+		}
+	}
+
+	private GraphicalViewer viewer;
+
+	@Before
+	public void setUp() {
+		viewer = PlatformUI.getWorkbench().getDisplay().syncCall(GraphicalViewerImpl::new);
+		viewer.setEditPartFactory((context, model) -> {
+			EditPart editPart;
+			if (model instanceof Node) {
+				editPart = new NodeEditPart();
+			} else if (model instanceof Connection) {
+				editPart = new ConnectionEditPart();
+			} else {
+				editPart = new DiagramEditPart();
+			}
+			editPart.setModel(model);
+			return editPart;
+		});
+
+		Random random = new Random(42);
+		List<Node> nodes = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			nodes.add(new Node(new Rectangle(random.nextInt(2000), random.nextInt(2000), random.nextInt(60),
+					random.nextInt(60))));
+		}
+		for (int i = 0; i < 300; i++) {
+			Connection connection = new Connection();
+			nodes.get(random.nextInt(nodes.size())).sourceConnections.add(connection);
+			nodes.get(random.nextInt(nodes.size())).targetConnections.add(connection);
+		}
+		viewer.setContents(nodes);
+		((GraphicalEditPart) viewer.getRootEditPart()).getFigure().validate();
+	}
+
+	/**
+	 * The incremental mode must select the same edit parts as examining all edit
+	 * parts, while the marquee rectangle is dragged.
+	 */
+	@Test
+	public void testIncremental() {
+		for (int behavior : BEHAVIORS) {
+			TestMarqueeSelectionTool incremental = new TestMarqueeSelectionTool(viewer, behavior, true);
+			TestMarqueeSelectionTool complete = new TestMarqueeSelectionTool(viewer, behavior, false);
+			Random random = new Random(behavior);
+			int x = 500;
+			int y = 500;
+			boolean selected = false;
+			for (int i = 0; i < 100; i++) {
+				if (i % 25 == 0) {
+					x = random.nextInt(1500);
+					y = random.nextInt(1500);
+				}
+				incremental.marquee = complete.marquee = new Rectangle(x, y, random.nextInt(1000),
+						random.nextInt(1000));
+				Collection<? extends GraphicalEditPart> expected = complete.getMarqueeSelectedEditParts();
+				assertEquals(new HashSet<>(expected), new HashSet<>(incremental.getMarqueeSelectedEditParts()));
+				selected |= !expected.isEmpty();
+			}
+			assertTrue(selected);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.gef.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.SnapToGeometry;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+
+import org.junit.Test;
+
+public class SnapToGeometryTest {
+
+	private static class TestGraphicalEditPart extends AbstractGraphicalEditPart {
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// do nothing
+		}
+	}
+
+	/**
+	 * Exposes the corrections for the indexed rows and columns, and for copies of
+	 * them, which are tested entry by entry.
+	 */
+	private static class TestSnapToGeometry extends SnapToGeometry {
+		TestSnapToGeometry(List<? extends GraphicalEditPart> parts) {
+			super(null);
+			populateRowsAndCols(parts);
+		}
+
+		void assertCorrectionsEqual(boolean vert, double value, int side) {
+			Entry[] entries = vert ? cols : rows;
+			Map<String, Object> expectedData = new HashMap<>();
+			Map<String, Object> actualData = new HashMap<>();
+			double expected = getCorrectionFor(entries.clone(), expectedData, vert, value, side);
+			double actual = getCorrectionFor(entries, actualData, vert, value, side);
+			assertEquals(expected, actual, 0);
+			assertEquals(expectedData, actualData);
+		}
+	}
+
+	/**
+	 * The binary search over the sorted rows and columns must yield the same
+	 * corrections and anchors as testing all entries.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testCorrections() {
+		Random random = new Random(42);
+		List<GraphicalEditPart> parts = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			GraphicalEditPart part = new TestGraphicalEditPart();
+			part.getFigure().setBounds(
+					new Rectangle(random.nextInt(500), random.nextInt(500), random.nextInt(50), random.nextInt(50)));
+			parts.add(part);
+		}
+		TestSnapToGeometry helper = new TestSnapToGeometry(parts);
+		for (int i = 0; i < 5000; i++) {
+			double value = random.nextInt(6000) / 10.0 - 50;
+			helper.assertCorrectionsEqual(random.nextBoolean(), value, random.nextInt(3) - 1);
+		}
+	}
+}
@@ -147,6 +147,18 @@ public interface EditPartViewer extends org.eclipse.jface.viewers.ISelectionProv
 	 */
 	void appendSelection(EditPart editpart);
 
+	/**
+	 * Starts a batch of model changes. Until the batch is ended by
+	 * {@link #endBatch()}, refreshes of edit parts in this viewer may be deferred
+	 * by {@link #deferRefresh(EditPart, Runnable)}. Batches may be nested, only
+	 * ending the outermost batch performs the deferred refreshes. Clients should
+	 * end the batch in a <code>finally</code> block.
+	 *
+	 * @since 3.20
+	 */
+	default void beginBatch() {
+	}
+
 	/**
 	 * Optionally creates the default {@link org.eclipse.swt.widgets.Control
 	 * Control} using the default style. The Control can also be created externally
@@ -158,6 +170,22 @@ public interface EditPartViewer extends org.eclipse.jface.viewers.ISelectionProv
 	 */
 	Control createControl(Composite composite);
 
+	/**
+	 * Defers a refresh of the given edit part until the end of the current batch.
+	 * Only the first refresh deferred for an edit part is kept, so each edit part
+	 * is refreshed at most once. The deferred refreshes of parents are performed
+	 * before those of their children. If this viewer isn't batching, the refresh is
+	 * performed immediately.
+	 *
+	 * @param editpart the edit part to refresh
+	 * @param refresh  the refresh of the edit part
+	 * @see #beginBatch()
+	 * @since 3.20
+	 */
+	default void deferRefresh(EditPart editpart, Runnable refresh) {
+		refresh.run();
+	}
+
 	/**
 	 * Removes the specified <code>EditPart</code> from the current selection. If
 	 * the selection becomes empty, the viewer's {@link #getContents() contents}
@@ -178,6 +206,15 @@ public interface EditPartViewer extends org.eclipse.jface.viewers.ISelectionProv
 	 */
 	void deselectAll();
 
+	/**
+	 * Ends a batch started by {@link #beginBatch()}. Ending the outermost batch
+	 * performs all deferred refreshes.
+	 *
+	 * @since 3.20
+	 */
+	default void endBatch() {
+	}
+
 	/**
 	 * Returns <code>null</code> or the <code>EditPart</code> associated with the
 	 * specified location. The location is relative to the client area of the
@@ -415,6 +452,17 @@ public interface EditPartViewer extends org.eclipse.jface.viewers.ISelectionProv
 	 */
 	Map<IFigure, EditPart> getVisualPartMap();
 
+	/**
+	 * Returns whether a batch has been started by {@link #beginBatch()} and not yet
+	 * ended.
+	 *
+	 * @return <code>true</code> if this viewer is batching
+	 * @since 3.20
+	 */
+	default boolean isBatching() {
+		return false;
+	}
+
 	/**
 	 * Used for accessibility purposes.
 	 *
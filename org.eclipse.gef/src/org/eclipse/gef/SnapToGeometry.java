@@ -13,6 +13,7 @@
 package org.eclipse.gef;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,10 @@ import org.eclipse.gef.requests.GroupRequest;
  * This helper does not keep up with changes made to the container editpart.
  * Clients should instantiate a new helper each time one is requested and not
  * hold on to instances of the helper.
+ * <P>
+ * The rows and columns are sorted once they have been populated, so that the
+ * nearest snap location is found by a binary search instead of testing every
+ * entry.
  *
  * @since 3.0
  * @author Randy Hudson
@@ -133,6 +138,77 @@ public class SnapToGeometry extends SnapToHelper {
 		}
 	}
 
+	/**
+	 * The distinct locations of the entries of either the centers or the edges,
+	 * sorted in ascending order. For each location, the smallest index of an entry
+	 * with that location is kept, so that ties are resolved as when testing the
+	 * entries in their original order.
+	 */
+	private static final class SnapIndex {
+		private final int[] locations;
+		private final int[] order;
+
+		SnapIndex(Entry[] entries, boolean centers) {
+			long[] keys = new long[entries.length];
+			int count = 0;
+			for (int i = 0; i < entries.length; i++) {
+				if ((entries[i].type == 0) == centers) {
+					keys[count++] = ((long) entries[i].location << 32) | i;
+				}
+			}
+			Arrays.sort(keys, 0, count);
+			int[] sortedLocations = new int[count];
+			int[] sortedOrder = new int[count];
+			int size = 0;
+			for (int i = 0; i < count; i++) {
+				int location = (int) (keys[i] >> 32);
+				// the first key of a location has the smallest index
+				if (size == 0 || sortedLocations[size - 1] != location) {
+					sortedLocations[size] = location;
+					sortedOrder[size] = (int) keys[i];
+					size++;
+				}
+			}
+			locations = Arrays.copyOf(sortedLocations, size);
+			order = Arrays.copyOf(sortedOrder, size);
+		}
+
+		/**
+		 * Returns the index of the location closest to the given value, if its
+		 * distance is less than the threshold, or -1.
+		 */
+		int findNearest(double value, double threshold) {
+			int low = 0;
+			int high = locations.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (locations[mid] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			int nearest = -1;
+			double nearestMagnitude = threshold;
+			if (low > 0 && value - locations[low - 1] < nearestMagnitude) {
+				nearest = low - 1;
+				nearestMagnitude = value - locations[low - 1];
+			}
+			if (low < locations.length) {
+				double magnitude = locations[low] - value;
+				if (magnitude < nearestMagnitude
+						|| (nearest != -1 && magnitude == nearestMagnitude && order[low] < order[nearest])) {
+					nearest = low;
+				}
+			}
+			return nearest;
+		}
+
+		int getLocation(int index) {
+			return locations[index];
+		}
+	}
+
 	/**
 	 * The sensitivity of the snapping. Corrections greater than this value will not
 	 * occur.
@@ -159,6 +235,11 @@ public class SnapToGeometry extends SnapToHelper {
 	 */
 	protected GraphicalEditPart container;
 
+	private Entry[] indexedRows;
+	private Entry[] indexedCols;
+	private SnapIndex[] rowIndexes;
+	private SnapIndex[] colIndexes;
+
 	/**
 	 * Constructs a helper that will use the given part as its basis for snapping.
 	 * The part's contents pane will provide the coordinate system and its children
@@ -245,7 +326,9 @@ public class SnapToGeometry extends SnapToHelper {
 
 	/**
 	 * Returns the correction value between +/- {@link #getThreshold()}, or the
-	 * #getThreshold () if no corrections were found.
+	 * #getThreshold () if no corrections were found. If the entries are the
+	 * current {@link #rows} or {@link #cols}, the nearest entry is found by a
+	 * binary search, otherwise all entries are tested.
 	 *
 	 * @param entries      the entries
 	 * @param extendedData the map for setting values
@@ -265,6 +348,17 @@ public class SnapToGeometry extends SnapToHelper {
 			property = vert ? KEY_EAST_ANCHOR : KEY_SOUTH_ANCHOR;
 		}
 
+		SnapIndex index = getSnapIndex(entries, side == 0);
+		if (index != null) {
+			int nearest = index.findNearest(value, getThreshold());
+			if (nearest != -1) {
+				int location = index.getLocation(nearest);
+				result = location - value;
+				extendedData.put(property, Integer.valueOf(location));
+			}
+			return result;
+		}
+
 		for (Entry entry : entries) {
 			double magnitude;
 
@@ -294,6 +388,32 @@ public class SnapToGeometry extends SnapToHelper {
 		return result;
 	}
 
+	/**
+	 * Returns the sorted index of the centers or edges of the given entries, if
+	 * they are the current rows or columns. The index is created when first
+	 * requested after the rows or columns have been populated.
+	 */
+	private SnapIndex getSnapIndex(Entry[] entries, boolean centers) {
+		if (entries == null) {
+			return null;
+		}
+		if (entries == rows) {
+			if (indexedRows != rows) {
+				rowIndexes = new SnapIndex[] { new SnapIndex(rows, false), new SnapIndex(rows, true) };
+				indexedRows = rows;
+			}
+			return rowIndexes[centers ? 1 : 0];
+		}
+		if (entries == cols) {
+			if (indexedCols != cols) {
+				colIndexes = new SnapIndex[] { new SnapIndex(cols, false), new SnapIndex(cols, true) };
+				indexedCols = cols;
+			}
+			return colIndexes[centers ? 1 : 0];
+		}
+		return null;
+	}
+
 	/**
 	 * Returns the rectangular contribution for the given editpart. This is the
 	 * rectangle with which snapping is performed.
@@ -72,8 +72,15 @@ public abstract class AbstractEditPart implements EditPart, RequestConstants, IA
 	 */
 	protected static final int MAX_FLAG = FLAG_FOCUS;
 
+	/**
+	 * The kinds of refreshes which are deferred while the viewer is batching.
+	 */
+	static final int REFRESH = 1;
+	static final int REFRESH_CHILDREN = 2;
+
 	private Object model;
 	private int flags;
+	private int deferredRefreshes;
 	private EditPart parent;
 	private int selected;
 
@@ -737,9 +744,15 @@ public abstract class AbstractEditPart implements EditPart, RequestConstants, IA
 	 * features. It also calls {@link #refreshVisuals()} to update its own displayed
 	 * properties. Subclasses should extend this method to handle additional types
 	 * of structural refreshing.
+	 * <P>
+	 * While the viewer is {@link EditPartViewer#isBatching() batching}, the refresh
+	 * is deferred until the end of the batch.
 	 */
 	@Override
 	public void refresh() {
+		if (deferRefresh(REFRESH)) {
+			return;
+		}
 		refreshVisuals();
 		refreshChildren();
 	}
@@ -757,11 +770,17 @@ public abstract class AbstractEditPart implements EditPart, RequestConstants, IA
 	 * models no longer exist are {@link #removeChild(EditPart) removed}. New models
 	 * have their EditParts {@link #createChild(Object) created}.
 	 * <P>
+	 * While the viewer is {@link EditPartViewer#isBatching() batching}, the update
+	 * is deferred until the end of the batch.
+	 * <P>
 	 * This method should <em>not</em> be overridden.
 	 *
 	 * @see #getModelChildren()
 	 */
 	protected void refreshChildren() {
+		if (deferRefresh(REFRESH_CHILDREN)) {
+			return;
+		}
 		Map<Object, EditPart> modelToEditPart = Collections.emptyMap();
 		if (!getChildren().isEmpty()) {
 			modelToEditPart = new HashMap<>(getChildren().size());
@@ -812,6 +831,48 @@ public abstract class AbstractEditPart implements EditPart, RequestConstants, IA
 	protected void refreshVisuals() {
 	}
 
+	/**
+	 * Defers the given kind of refresh until the end of the current batch, if the
+	 * viewer is batching. Several requests are combined into a single refresh.
+	 *
+	 * @param kind the kind of refresh
+	 * @return <code>true</code> if the refresh has been deferred
+	 */
+	boolean deferRefresh(int kind) {
+		EditPartViewer viewer = getViewer();
+		if (viewer == null || !viewer.isBatching()) {
+			return false;
+		}
+		deferredRefreshes |= kind;
+		viewer.deferRefresh(this, this::performDeferredRefreshes);
+		return true;
+	}
+
+	private void performDeferredRefreshes() {
+		int kinds = deferredRefreshes;
+		deferredRefreshes = 0;
+		// the EditPart may have been removed during the batch
+		if (kinds == 0 || getViewer() == null) {
+			return;
+		}
+		if ((kinds & REFRESH) != 0) {
+			refresh();
+		} else {
+			performDeferredRefreshes(kinds);
+		}
+	}
+
+	/**
+	 * Performs the deferred partial refreshes of the given kinds.
+	 *
+	 * @param kinds the kinds of refreshes
+	 */
+	void performDeferredRefreshes(int kinds) {
+		if ((kinds & REFRESH_CHILDREN) != 0) {
+			refreshChildren();
+		}
+	}
+
 	/**
 	 * Registers itself in the viewer's various registries. If your EditPart has a
 	 * 1-to-1 relationship with a visual object and a 1-to-1 relationship with a
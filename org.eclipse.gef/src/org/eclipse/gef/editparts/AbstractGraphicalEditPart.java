@@ -65,6 +65,9 @@ public abstract class AbstractGraphicalEditPart extends AbstractEditPart impleme
 	 */
 	protected List<ConnectionEditPart> targetConnections;
 
+	static final int REFRESH_SOURCE_CONNECTIONS = REFRESH_CHILDREN << 1;
+	static final int REFRESH_TARGET_CONNECTIONS = REFRESH_CHILDREN << 2;
+
 	/**
 	 * A default implementation of {@link AccessibleEditPart}. Subclasses can extend
 	 * this implementation to get base accessibility for free.
@@ -605,6 +608,17 @@ public abstract class AbstractGraphicalEditPart extends AbstractEditPart impleme
 		targetConnections.remove(connection);
 	}
 
+	@Override
+	void performDeferredRefreshes(int kinds) {
+		super.performDeferredRefreshes(kinds);
+		if ((kinds & REFRESH_SOURCE_CONNECTIONS) != 0) {
+			refreshSourceConnections();
+		}
+		if ((kinds & REFRESH_TARGET_CONNECTIONS) != 0) {
+			refreshTargetConnections();
+		}
+	}
+
 	/**
 	 * Extends {@link AbstractEditPart#refresh()} to refresh two additional
 	 * structural features: <i>source</i> and <i>target</i> connections. Subclasses
@@ -633,9 +647,15 @@ public abstract class AbstractGraphicalEditPart extends AbstractEditPart impleme
 	 * have their ConnectionEditParts {@link #createConnection(Object) created}.
 	 * Subclasses should override <code>getModelSourceChildren()</code>.
 	 * <P>
+	 * While the viewer is {@link EditPartViewer#isBatching() batching}, the update
+	 * is deferred until the end of the batch.
+	 * <P>
 	 * This method should <em>not</em> be overridden.
 	 */
 	protected void refreshSourceConnections() {
+		if (deferRefresh(REFRESH_SOURCE_CONNECTIONS)) {
+			return;
+		}
 		int i;
 
 		List<? extends ConnectionEditPart> sourceConns = getSourceConnections();
@@ -685,9 +705,15 @@ public abstract class AbstractGraphicalEditPart extends AbstractEditPart impleme
 	 * have their ConnectionEditParts {@link #createConnection(Object) created}.
 	 * Subclasses should override <code>getModelTargetChildren()</code>.
 	 * <P>
+	 * While the viewer is {@link EditPartViewer#isBatching() batching}, the update
+	 * is deferred until the end of the batch.
+	 * <P>
 	 * This method should <em>not</em> be overridden.
 	 */
 	protected void refreshTargetConnections() {
+		if (deferRefresh(REFRESH_TARGET_CONNECTIONS)) {
+			return;
+		}
 		int i;
 
 		List<? extends ConnectionEditPart> targetConns = getTargetConnections();
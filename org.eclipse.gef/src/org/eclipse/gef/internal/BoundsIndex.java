@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.gef.internal;
+
+import java.util.function.Consumer;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.internal.UniformGrid;
+
+/**
+ * A {@link UniformGrid} over the bounds of a fixed set of elements, used to
+ * find the elements close to an area without visiting all of them.
+ *
+ * The bounds are a snapshot taken when the elements are added. The index has to
+ * be recreated whenever the bounds change.
+ *
+ * @param <T> the type of the indexed elements
+ */
+public final class BoundsIndex<T> {
+
+	/**
+	 * The default edge length of a grid cell.
+	 */
+	public static final int DEFAULT_CELL_SIZE = 128;
+
+	/**
+	 * Elements covering more cells than this are not stored in the grid.
+	 */
+	private static final int MAX_CELLS_PER_ELEMENT = 64;
+
+	private static final class Entry<T> {
+		final T element;
+		final Rectangle bounds;
+		/** The last query this entry has been collected by. */
+		int query;
+
+		Entry(T element, Rectangle bounds) {
+			this.element = element;
+			this.bounds = bounds;
+		}
+	}
+
+	private final UniformGrid<Entry<T>> grid;
+	private int size;
+	private int query;
+
+	/**
+	 * Creates a new, empty index with the given cell size.
+	 *
+	 * @param cellSize the edge length of a grid cell
+	 */
+	public BoundsIndex(int cellSize) {
+		grid = new UniformGrid<>(cellSize, MAX_CELLS_PER_ELEMENT);
+	}
+
+	/**
+	 * Adds the given element with the given bounds.
+	 *
+	 * @param element the element
+	 * @param bounds  the bounds of the element, which are copied
+	 */
+	public void add(T element, Rectangle bounds) {
+		Entry<T> entry = new Entry<>(element, bounds.getCopy());
+		size++;
+		// the bounds are closed, elements touching a cell with their right or bottom
+		// edge are stored in that cell as well
+		grid.add(entry, bounds.x, bounds.y, bounds.x + Math.max(0, bounds.width),
+				bounds.y + Math.max(0, bounds.height));
+	}
+
+	/**
+	 * Passes each element whose bounds touch the given area to the consumer
+	 * exactly once. Bounds sharing only an edge or a corner with the area are
+	 * considered touching as well.
+	 *
+	 * @param area     the area
+	 * @param consumer the consumer of the elements
+	 */
+	public void query(Rectangle area, Consumer<T> consumer) {
+		int current = ++query;
+		grid.visit(area.x, area.y, area.x + Math.max(0, area.width), area.y + Math.max(0, area.height), entry -> {
+			if (entry.query == current) {
+				return;
+			}
+			entry.query = current;
+			Rectangle bounds = entry.bounds;
+			if (bounds.x <= area.x + area.width && area.x <= bounds.x + bounds.width
+					&& bounds.y <= area.y + area.height && area.y <= bounds.y + bounds.height) {
+				consumer.accept(entry.element);
+			}
+		});
+	}
+
+	/**
+	 * @return the number of indexed elements
+	 */
+	public int size() {
+		return size;
+	}
+
+}
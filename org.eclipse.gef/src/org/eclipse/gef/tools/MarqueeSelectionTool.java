@@ -12,9 +12,13 @@
  *******************************************************************************/
 package org.eclipse.gef.tools;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.KeyEvent;
@@ -39,6 +43,7 @@ import org.eclipse.gef.GraphicalViewer;
 import org.eclipse.gef.KeyHandler;
 import org.eclipse.gef.Request;
 import org.eclipse.gef.RequestConstants;
+import org.eclipse.gef.internal.BoundsIndex;
 import org.eclipse.gef.util.EditPartUtilities;
 
 /**
@@ -67,6 +72,11 @@ import org.eclipse.gef.util.EditPartUtilities;
  * key is pressed at the beginning of the drag, the enclosed items will have
  * their selection state inverted.
  *
+ * On diagrams with many edit parts, the tool may be switched to an
+ * {@link #setIncremental(boolean) incremental} mode, in which only the edit
+ * parts near the area by which the marquee rectangle has changed are examined
+ * while dragging.
+ *
  * @author ebordeau
  * @author dlee
  * @author rhudson
@@ -214,6 +224,13 @@ public class MarqueeSelectionTool extends AbstractTool {
 
 	private Collection<? extends GraphicalEditPart> selectedEditParts;
 
+	private boolean incremental;
+	private BoundsIndex<GraphicalEditPart> marqueeIndex;
+	private Rectangle indexedContentArea;
+	private Rectangle previousMarqueeRectangle;
+	private Set<GraphicalEditPart> primarySelectedEditParts;
+	private Set<GraphicalEditPart> marqueeSelectedEditParts;
+
 	private Request targetRequest;
 
 	/**
@@ -258,7 +275,9 @@ public class MarqueeSelectionTool extends AbstractTool {
 	 * {@link #BEHAVIOR_NODES_CONTAINED_AND_RELATED_CONNECTIONS}) afterwards.
 	 *
 	 * Clients may overwrite to customize the calculation of marquee selected edit
-	 * parts.
+	 * parts. In {@link #setIncremental(boolean) incremental} mode, the edit parts
+	 * maintained while dragging are returned instead, and this method is not
+	 * called before the drag ends.
 	 *
 	 * @return A collection containing all GraphicalEditPart that should be regarded
 	 *         as being included in the current marquee selection, i.e. which should
@@ -267,6 +286,10 @@ public class MarqueeSelectionTool extends AbstractTool {
 	 * @since 3.7
 	 */
 	protected Collection<? extends GraphicalEditPart> calculateMarqueeSelectedEditParts() {
+		if (isIncremental()) {
+			updateMarqueeSelectedEditParts(null, null);
+			return new LinkedHashSet<>(this.marqueeSelectedEditParts);
+		}
 		Collection<GraphicalEditPart> marqueeSelectedEditParts = new HashSet<>(
 				calculatePrimaryMarqueeSelectedEditParts());
 		marqueeSelectedEditParts.addAll(calculateSecondaryMarqueeSelectedEditParts(marqueeSelectedEditParts));
@@ -288,6 +311,17 @@ public class MarqueeSelectionTool extends AbstractTool {
 	 * @since 3.7
 	 */
 	private Collection<GraphicalEditPart> calculatePrimaryMarqueeSelectedEditParts() {
+		// process all edit parts and determine which are affected by the current
+		// marquee selection
+		return getMarqueeCandidates().stream().filter(this::isMarqueeSelectable)
+				.filter(this::isPrimaryMarqueeSelectedEditPart).toList();
+	}
+
+	/**
+	 * Returns the nodes and connections which may be directly affected by the
+	 * marquee selection, depending on the current marquee behavior.
+	 */
+	private Collection<GraphicalEditPart> getMarqueeCandidates() {
 		Collection<GraphicalEditPart> editPartsToProcess = new HashSet<>();
 		if (marqueeBehavior != BEHAVIOR_CONNECTIONS_CONTAINED && marqueeBehavior != BEHAVIOR_CONNECTIONS_TOUCHED) {
 			// process nodes
@@ -300,11 +334,7 @@ public class MarqueeSelectionTool extends AbstractTool {
 			editPartsToProcess.addAll(EditPartUtilities
 					.getAllNestedConnectionEditParts((GraphicalEditPart) getCurrentViewer().getRootEditPart()));
 		}
-
-		// process all edit parts and determine which are affected by the current
-		// marquee selection
-		return editPartsToProcess.stream().filter(this::isMarqueeSelectable)
-				.filter(this::isPrimaryMarqueeSelectedEditPart).toList();
+		return editPartsToProcess;
 	}
 
 	/**
@@ -352,6 +382,7 @@ public class MarqueeSelectionTool extends AbstractTool {
 			eraseMarqueeFeedback();
 			eraseTargetFeedback();
 		}
+		resetMarqueeIndex();
 		super.deactivate();
 		setState(STATE_TERMINAL);
 	}
@@ -456,6 +487,7 @@ public class MarqueeSelectionTool extends AbstractTool {
 			} else {
 				setSelectionMode(DEFAULT_MODE);
 			}
+			resetMarqueeIndex();
 		}
 		return true;
 	}
@@ -470,6 +502,7 @@ public class MarqueeSelectionTool extends AbstractTool {
 			eraseMarqueeFeedback();
 			performMarqueeSelect();
 		}
+		resetMarqueeIndex();
 		handleFinished();
 		return true;
 	}
@@ -481,9 +514,16 @@ public class MarqueeSelectionTool extends AbstractTool {
 	protected boolean handleDragInProgress() {
 		if (isInState(STATE_DRAG | STATE_DRAG_IN_PROGRESS)) {
 			showMarqueeFeedback();
-			eraseTargetFeedback();
-			selectedEditParts = calculateMarqueeSelectedEditParts();
-			showTargetFeedback();
+			if (isIncremental()) {
+				updateMarqueeSelectedEditParts(
+						editPart -> editPart.eraseTargetFeedback(getTargetRequest()),
+						editPart -> editPart.showTargetFeedback(getTargetRequest()));
+				selectedEditParts = marqueeSelectedEditParts;
+			} else {
+				eraseTargetFeedback();
+				selectedEditParts = calculateMarqueeSelectedEditParts();
+				showTargetFeedback();
+			}
 		}
 		return true;
 	}
@@ -531,6 +571,18 @@ public class MarqueeSelectionTool extends AbstractTool {
 		return false;
 	}
 
+	/**
+	 * Returns whether the marquee selection is updated incrementally while
+	 * dragging.
+	 *
+	 * @return <code>true</code> if the incremental mode is enabled
+	 * @see #setIncremental(boolean)
+	 * @since 3.20
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
 	/**
 	 * Decides whether the given edit part may potentially be included in the
 	 * current marquee selection.
@@ -724,6 +776,31 @@ public class MarqueeSelectionTool extends AbstractTool {
 		getCurrentViewer().setSelection(new StructuredSelection(editPartsToSelect.toArray()));
 	}
 
+	private void resetMarqueeIndex() {
+		marqueeIndex = null;
+		indexedContentArea = null;
+		previousMarqueeRectangle = null;
+		primarySelectedEditParts = null;
+		marqueeSelectedEditParts = null;
+	}
+
+	/**
+	 * Sets whether the marquee selection is updated incrementally while dragging.
+	 * When the drag starts, the absolute bounds of all edit parts which are
+	 * {@link #isMarqueeSelectable(GraphicalEditPart) selectable} are stored in a
+	 * spatial index. Each subsequent move of the mouse then only examines the
+	 * edit parts close to the area by which the marquee rectangle has changed,
+	 * and only updates the target feedback of the edit parts entering or leaving
+	 * the marquee selection. The index is recreated if the diagram is scrolled or
+	 * zoomed during the drag. The default is <code>false</code>.
+	 *
+	 * @param incremental <code>true</code> to update the selection incrementally
+	 * @since 3.20
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	/**
 	 * Sets the type of parts that this tool will select. This method should only be
 	 * invoked once: when the tool is being initialized.
@@ -779,4 +856,124 @@ public class MarqueeSelectionTool extends AbstractTool {
 		}
 	}
 
+	/**
+	 * Returns the absolute bounds of a fixed area of the content pane of the root
+	 * edit part, which change whenever the diagram is scrolled or zoomed.
+	 */
+	private Rectangle getContentArea() {
+		IFigure contentPane = ((GraphicalEditPart) getCurrentViewer().getRootEditPart()).getContentPane();
+		Rectangle area = new Rectangle(0, 0, 1000, 1000);
+		contentPane.translateToAbsolute(area);
+		return area;
+	}
+
+	/**
+	 * Adds the parts of the first rectangle not covered by the second one as up to
+	 * four rectangles, each expanded by one pixel.
+	 */
+	private static void addDifference(List<Rectangle> regions, Rectangle r, Rectangle covered) {
+		Rectangle overlap = r.getIntersection(covered);
+		if (overlap.isEmpty()) {
+			regions.add(r.getExpanded(1, 1));
+			return;
+		}
+		if (overlap.y > r.y) {
+			regions.add(new Rectangle(r.x, r.y, r.width, overlap.y - r.y).expand(1, 1));
+		}
+		if (overlap.bottom() < r.bottom()) {
+			regions.add(new Rectangle(r.x, overlap.bottom(), r.width, r.bottom() - overlap.bottom()).expand(1, 1));
+		}
+		if (overlap.x > r.x) {
+			regions.add(new Rectangle(r.x, overlap.y, overlap.x - r.x, overlap.height).expand(1, 1));
+		}
+		if (overlap.right() < r.right()) {
+			regions.add(new Rectangle(overlap.right(), overlap.y, r.right() - overlap.right(), overlap.height)
+					.expand(1, 1));
+		}
+	}
+
+	/**
+	 * Updates the marquee selected edit parts for the current marquee selection
+	 * rectangle, only examining the edit parts close to the area by which it
+	 * differs from the previous one. The index of the edit parts is created on
+	 * the first call of a drag, and whenever the diagram has been scrolled or
+	 * zoomed since.
+	 *
+	 * @param removed consumer of the edit parts leaving the marquee selection, or
+	 *                <code>null</code>
+	 * @param added   consumer of the edit parts entering the marquee selection, or
+	 *                <code>null</code>
+	 */
+	private void updateMarqueeSelectedEditParts(Consumer<GraphicalEditPart> removed,
+			Consumer<GraphicalEditPart> added) {
+		Rectangle contentArea = getContentArea();
+		if (marqueeIndex == null || !contentArea.equals(indexedContentArea)) {
+			if (marqueeSelectedEditParts != null && removed != null) {
+				marqueeSelectedEditParts.forEach(removed);
+			}
+			marqueeIndex = new BoundsIndex<>(BoundsIndex.DEFAULT_CELL_SIZE);
+			for (GraphicalEditPart editPart : getMarqueeCandidates()) {
+				if (isMarqueeSelectable(editPart)) {
+					Rectangle bounds = editPart.getFigure().getBounds().getCopy();
+					editPart.getFigure().translateToAbsolute(bounds);
+					marqueeIndex.add(editPart, bounds);
+				}
+			}
+			indexedContentArea = contentArea;
+			previousMarqueeRectangle = null;
+			primarySelectedEditParts = new HashSet<>();
+			marqueeSelectedEditParts = new LinkedHashSet<>();
+		}
+
+		Rectangle marqueeSelectionRectangle = getCurrentMarqueeSelectionRectangle().getCopy();
+		List<Rectangle> regions = new ArrayList<>();
+		if (previousMarqueeRectangle == null) {
+			regions.add(marqueeSelectionRectangle.getExpanded(1, 1));
+		} else if (!previousMarqueeRectangle.equals(marqueeSelectionRectangle)) {
+			addDifference(regions, marqueeSelectionRectangle, previousMarqueeRectangle);
+			addDifference(regions, previousMarqueeRectangle, marqueeSelectionRectangle);
+		}
+		previousMarqueeRectangle = marqueeSelectionRectangle;
+
+		Set<GraphicalEditPart> changed = new LinkedHashSet<>();
+		for (Rectangle region : regions) {
+			marqueeIndex.query(region, editPart -> {
+				if (isPrimaryMarqueeSelectedEditPart(editPart) ? primarySelectedEditParts.add(editPart)
+						: primarySelectedEditParts.remove(editPart)) {
+					changed.add(editPart);
+				}
+			});
+		}
+
+		// the related connections only depend on whether their source and target
+		// are directly affected, so only those of changed nodes are examined again
+		Set<GraphicalEditPart> related = new LinkedHashSet<>();
+		if (marqueeBehavior == BEHAVIOR_NODES_CONTAINED_AND_RELATED_CONNECTIONS
+				|| marqueeBehavior == BEHAVIOR_NODES_TOUCHED_AND_RELATED_CONNECTIONS) {
+			for (GraphicalEditPart editPart : changed) {
+				related.addAll(editPart.getSourceConnections());
+				related.addAll(editPart.getTargetConnections());
+			}
+		}
+
+		for (GraphicalEditPart editPart : changed) {
+			updateMarqueeSelectedEditPart(editPart, primarySelectedEditParts.contains(editPart), removed, added);
+		}
+		for (GraphicalEditPart connection : related) {
+			updateMarqueeSelectedEditPart(connection,
+					isSecondaryMarqueeSelectedEditPart(primarySelectedEditParts, connection), removed, added);
+		}
+	}
+
+	private void updateMarqueeSelectedEditPart(GraphicalEditPart editPart, boolean selected,
+			Consumer<GraphicalEditPart> removed, Consumer<GraphicalEditPart> added) {
+		if (selected) {
+			if (marqueeSelectedEditParts.add(editPart) && added != null) {
+				added.accept(editPart);
+			}
+		} else if (marqueeSelectedEditParts.remove(editPart) && removed != null) {
+			removed.accept(editPart);
+		}
+	}
+
 }
@@ -17,7 +17,9 @@ import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -114,6 +116,9 @@ public abstract class AbstractEditPartViewer implements EditPartViewer {
 	private KeyHandler keyHandler;
 	private PropertyChangeSupport changeSupport;
 
+	private int batchDepth;
+	private Map<EditPart, Runnable> deferredRefreshes = new LinkedHashMap<>();
+
 	/**
 	 * Constructs the viewer and calls {@link #init()}.
 	 */
@@ -199,12 +204,34 @@ public abstract class AbstractEditPartViewer implements EditPartViewer {
 		selectionModel.appendSelection(editpart);
 	}
 
+	/**
+	 * @see EditPartViewer#beginBatch()
+	 * @since 3.20
+	 */
+	@Override
+	public void beginBatch() {
+		batchDepth++;
+	}
+
 	/**
 	 * @see EditPartViewer#createControl(Composite)
 	 */
 	@Override
 	public abstract Control createControl(Composite parent);
 
+	/**
+	 * @see EditPartViewer#deferRefresh(EditPart, Runnable)
+	 * @since 3.20
+	 */
+	@Override
+	public void deferRefresh(EditPart editpart, Runnable refresh) {
+		if (batchDepth == 0) {
+			refresh.run();
+		} else {
+			deferredRefreshes.putIfAbsent(editpart, refresh);
+		}
+	}
+
 	/**
 	 * @see EditPartViewer#deselect(EditPart)
 	 */
@@ -221,6 +248,31 @@ public abstract class AbstractEditPartViewer implements EditPartViewer {
 		selectionModel.deselectAll();
 	}
 
+	/**
+	 * @see EditPartViewer#endBatch()
+	 * @since 3.20
+	 */
+	@Override
+	public void endBatch() {
+		Assert.isTrue(batchDepth > 0, "No batch has been started"); //$NON-NLS-1$
+		if (--batchDepth == 0 && !deferredRefreshes.isEmpty()) {
+			Map<EditPart, Runnable> refreshes = deferredRefreshes;
+			deferredRefreshes = new LinkedHashMap<>();
+			List<EditPart> editparts = new ArrayList<>(refreshes.keySet());
+			// stable, edit parts of the same depth keep the order of their requests
+			editparts.sort(Comparator.comparingInt(AbstractEditPartViewer::getDepth));
+			editparts.forEach(editpart -> refreshes.get(editpart).run());
+		}
+	}
+
+	private static int getDepth(EditPart editpart) {
+		int depth = 0;
+		for (EditPart parent = editpart.getParent(); parent != null; parent = parent.getParent()) {
+			depth++;
+		}
+		return depth;
+	}
+
 	/**
 	 * Called if and when the <code>Control</code> is disposed. Subclasses may
 	 * extend this method to perform additional cleanup.
@@ -459,6 +511,15 @@ public abstract class AbstractEditPartViewer implements EditPartViewer {
 		return mapVisualToEditPart;
 	}
 
+	/**
+	 * @see EditPartViewer#isBatching()
+	 * @since 3.20
+	 */
+	@Override
+	public boolean isBatching() {
+		return batchDepth > 0;
+	}
+
 	/**
 	 * Called once the control has been set.
 	 *
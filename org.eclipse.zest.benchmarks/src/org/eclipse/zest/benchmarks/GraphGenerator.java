@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.benchmarks;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.zest.benchmarks.HeadlessLayoutContext.Node;
+
+/**
+ * Generators for synthetic graphs. All generators are deterministic for a given
+ * seed. The bounds of the generated context grow with the square root of the
+ * number of nodes, so that the available area per node stays the same.
+ */
+public enum GraphGenerator {
+
+	/**
+	 * A random graph with twice as many connections as nodes. The graph may
+	 * consist of several components.
+	 */
+	RANDOM {
+		@Override
+		void connect(HeadlessLayoutContext context, Random random) {
+			int n = context.countNodes();
+			if (n < 2) {
+				return;
+			}
+			Set<Long> existing = new HashSet<>();
+			int connections = 2 * n;
+			while (existing.size() < connections) {
+				int source = random.nextInt(n);
+				int target = random.nextInt(n);
+				if (source != target && existing.add(Long.valueOf((long) source * n + target))) {
+					context.addConnection(context.getNode(source), context.getNode(target));
+				}
+			}
+		}
+	},
+
+	/**
+	 * A scale-free graph created by preferential attachment (Barabási-Albert),
+	 * in which every new node is connected to two existing nodes.
+	 */
+	SCALE_FREE {
+		@Override
+		void connect(HeadlessLayoutContext context, Random random) {
+			int n = context.countNodes();
+			// every connection adds both ends, so that a node is picked with a
+			// probability proportional to its degree
+			int[] ends = new int[4 * n];
+			int size = 0;
+			for (int i = 1; i < n; i++) {
+				int first = -1;
+				for (int j = 0; j < Math.min(2, i); j++) {
+					int target;
+					do {
+						target = size == 0 ? 0 : ends[random.nextInt(size)];
+					} while (target == first);
+					first = target;
+					context.addConnection(context.getNode(i), context.getNode(target));
+					ends[size++] = i;
+					ends[size++] = target;
+				}
+			}
+		}
+	},
+
+	/**
+	 * A random recursive tree, in which the parent of every node is chosen
+	 * uniformly from the nodes created before it.
+	 */
+	TREE {
+		@Override
+		void connect(HeadlessLayoutContext context, Random random) {
+			for (int i = 1; i < context.countNodes(); i++) {
+				context.addConnection(context.getNode(random.nextInt(i)), context.getNode(i));
+			}
+		}
+	},
+
+	/**
+	 * A layered, directed acyclic graph. Every node is connected to one to three
+	 * nodes of the next two layers.
+	 */
+	DAG {
+		@Override
+		void connect(HeadlessLayoutContext context, Random random) {
+			int n = context.countNodes();
+			int width = Math.max(1, (int) Math.sqrt(n));
+			for (int i = 0; i < n - width; i++) {
+				int layerStart = (i / width + 1) * width;
+				int candidates = Math.min(2 * width, n - layerStart);
+				int connections = 1 + random.nextInt(3);
+				Set<Integer> targets = new HashSet<>();
+				for (int j = 0; j < connections; j++) {
+					int target = layerStart + random.nextInt(candidates);
+					if (targets.add(Integer.valueOf(target))) {
+						context.addConnection(context.getNode(i), context.getNode(target));
+					}
+				}
+			}
+		}
+	},
+
+	/**
+	 * A square lattice, in which every node is connected to its right and bottom
+	 * neighbor.
+	 */
+	GRID {
+		@Override
+		void connect(HeadlessLayoutContext context, Random random) {
+			int n = context.countNodes();
+			int columns = Math.max(1, (int) Math.ceil(Math.sqrt(n)));
+			for (int i = 0; i < n; i++) {
+				if ((i + 1) % columns != 0 && i + 1 < n) {
+					context.addConnection(context.getNode(i), context.getNode(i + 1));
+				}
+				if (i + columns < n) {
+					context.addConnection(context.getNode(i), context.getNode(i + columns));
+				}
+			}
+		}
+	};
+
+	private static final double AREA_PER_NODE = 100 * 80;
+
+	/**
+	 * Creates a new graph with the given number of nodes.
+	 *
+	 * @param nodes the number of nodes
+	 * @param seed  the seed of the random number generator
+	 * @return a context containing the new graph
+	 */
+	public HeadlessLayoutContext generate(int nodes, long seed) {
+		Random random = new Random(seed);
+		HeadlessLayoutContext context = new HeadlessLayoutContext();
+		for (int i = 0; i < nodes; i++) {
+			Node node = context.addNode(40 + random.nextInt(41), 20 + random.nextInt(11));
+			node.setLocation(0, 0);
+		}
+		connect(context, random);
+		double side = Math.sqrt(nodes * AREA_PER_NODE);
+		context.setBounds(0, 0, side, side * 0.75);
+		return context;
+	}
+
+	abstract void connect(HeadlessLayoutContext context, Random random);
+
+}
@@ -0,0 +1,568 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Item;
+
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentDimension;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentPoint;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentRectangle;
+import org.eclipse.zest.layouts.interfaces.ConnectionLayout;
+import org.eclipse.zest.layouts.interfaces.ContextListener;
+import org.eclipse.zest.layouts.interfaces.EntityLayout;
+import org.eclipse.zest.layouts.interfaces.ExpandCollapseManager;
+import org.eclipse.zest.layouts.interfaces.GraphStructureListener;
+import org.eclipse.zest.layouts.interfaces.LayoutContext;
+import org.eclipse.zest.layouts.interfaces.LayoutListener;
+import org.eclipse.zest.layouts.interfaces.NodeLayout;
+import org.eclipse.zest.layouts.interfaces.PruningListener;
+import org.eclipse.zest.layouts.interfaces.SubgraphLayout;
+
+/**
+ * A {@link LayoutContext} which is not backed by any widget, so that layout
+ * algorithms can be run without a display. The graph is built via
+ * {@link #addNode(double, double)} and {@link #addConnection(Node, Node)}.
+ *
+ * The graph structure never changes while an algorithm is running, hence no
+ * events are fired. Subgraphs are supported, as they are created by some
+ * algorithms to collapse nodes which don't fit into the bounds.
+ */
+public class HeadlessLayoutContext implements LayoutContext {
+
+	private final List<Node> nodes = new ArrayList<>();
+	private final List<Connection> connections = new ArrayList<>();
+	private final List<Subgraph> subgraphs = new ArrayList<>();
+	private final DisplayIndependentRectangle bounds = new DisplayIndependentRectangle();
+	private LayoutAlgorithm mainAlgorithm;
+	private ExpandCollapseManager expandCollapseManager;
+
+	/**
+	 * Adds a new node of the given size, located at the origin.
+	 *
+	 * @param width  the width of the node
+	 * @param height the height of the node
+	 * @return the new node
+	 */
+	public Node addNode(double width, double height) {
+		Node node = new Node(nodes.size(), width, height);
+		nodes.add(node);
+		return node;
+	}
+
+	/**
+	 * Adds a new directed connection between the given nodes.
+	 *
+	 * @param source the source node
+	 * @param target the target node
+	 * @return the new connection
+	 */
+	public Connection addConnection(Node source, Node target) {
+		Connection connection = new Connection(source, target);
+		connections.add(connection);
+		source.outgoing.add(connection);
+		target.incoming.add(connection);
+		return connection;
+	}
+
+	/**
+	 * Sets the area the graph should be laid out in.
+	 */
+	public void setBounds(double x, double y, double width, double height) {
+		bounds.x = x;
+		bounds.y = y;
+		bounds.width = width;
+		bounds.height = height;
+	}
+
+	/**
+	 * @return the number of nodes
+	 */
+	public int countNodes() {
+		return nodes.size();
+	}
+
+	/**
+	 * @return the number of connections
+	 */
+	public int countConnections() {
+		return connections.size();
+	}
+
+	/**
+	 * Returns the node with the given index, in the order the nodes have been
+	 * added.
+	 */
+	public Node getNode(int index) {
+		return nodes.get(index);
+	}
+
+	@Override
+	public Node[] getNodes() {
+		return nodes.toArray(new Node[nodes.size()]);
+	}
+
+	@Override
+	public EntityLayout[] getEntities() {
+		List<EntityLayout> entities = new ArrayList<>(nodes.size());
+		for (Node node : nodes) {
+			if (!node.isPruned()) {
+				entities.add(node);
+			}
+		}
+		for (Subgraph subgraph : subgraphs) {
+			if (subgraph.isGraphEntity()) {
+				entities.add(subgraph);
+			}
+		}
+		return entities.toArray(new EntityLayout[entities.size()]);
+	}
+
+	@Override
+	public Connection[] getConnections() {
+		return connections.toArray(new Connection[connections.size()]);
+	}
+
+	@Override
+	public ConnectionLayout[] getConnections(EntityLayout source, EntityLayout target) {
+		List<ConnectionLayout> result = new ArrayList<>();
+		if (source instanceof Node node) {
+			for (Connection connection : node.outgoing) {
+				if (connection.target == target) {
+					result.add(connection);
+				}
+			}
+			for (Connection connection : node.incoming) {
+				if (connection.source == target) {
+					result.add(connection);
+				}
+			}
+		}
+		return result.toArray(new ConnectionLayout[result.size()]);
+	}
+
+	@Override
+	public DisplayIndependentRectangle getBounds() {
+		return new DisplayIndependentRectangle(bounds);
+	}
+
+	@Override
+	public boolean isBoundsExpandable() {
+		return false;
+	}
+
+	@Override
+	public SubgraphLayout[] getSubgraphs() {
+		return subgraphs.toArray(new SubgraphLayout[subgraphs.size()]);
+	}
+
+	@Override
+	public SubgraphLayout createSubgraph(NodeLayout[] nodes) {
+		Subgraph subgraph = new Subgraph();
+		subgraph.addNodes(nodes);
+		subgraphs.add(subgraph);
+		return subgraph;
+	}
+
+	@Override
+	public boolean isPruningEnabled() {
+		return true;
+	}
+
+	@Override
+	public boolean isBackgroundLayoutEnabled() {
+		return false;
+	}
+
+	@Override
+	public void setMainLayoutAlgorithm(LayoutAlgorithm algorithm) {
+		mainAlgorithm = algorithm;
+	}
+
+	@Override
+	public LayoutAlgorithm getMainLayoutAlgorithm() {
+		return mainAlgorithm;
+	}
+
+	@Override
+	public void setExpandCollapseManager(ExpandCollapseManager expandCollapseManager) {
+		this.expandCollapseManager = expandCollapseManager;
+	}
+
+	@Override
+	public ExpandCollapseManager getExpandCollapseManager() {
+		return expandCollapseManager;
+	}
+
+	@Override
+	public void addLayoutListener(LayoutListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void removeLayoutListener(LayoutListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void addGraphStructureListener(GraphStructureListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void removeGraphStructureListener(GraphStructureListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void addContextListener(ContextListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void removeContextListener(ContextListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void addPruningListener(PruningListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void removePruningListener(PruningListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void flushChanges(boolean animationHint) {
+		// there is nothing to update
+	}
+
+	/**
+	 * A node of a {@link HeadlessLayoutContext}. The location is the center of
+	 * the node, like for the nodes of a Zest graph.
+	 */
+	public static final class Node implements NodeLayout {
+
+		private final int index;
+		private final List<Connection> incoming = new ArrayList<>(2);
+		private final List<Connection> outgoing = new ArrayList<>(2);
+		private double x;
+		private double y;
+		private double width;
+		private double height;
+		private boolean minimized;
+		private Subgraph subgraph;
+
+		Node(int index, double width, double height) {
+			this.index = index;
+			this.width = width;
+			this.height = height;
+		}
+
+		/**
+		 * @return the position of this node in its context
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		@Override
+		public DisplayIndependentPoint getLocation() {
+			return new DisplayIndependentPoint(x, y);
+		}
+
+		@Override
+		public void setLocation(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public DisplayIndependentDimension getSize() {
+			return new DisplayIndependentDimension(width, height);
+		}
+
+		@Override
+		public void setSize(double width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public double getPreferredAspectRatio() {
+			return 0;
+		}
+
+		@Override
+		public boolean isResizable() {
+			return false;
+		}
+
+		@Override
+		public boolean isMovable() {
+			return true;
+		}
+
+		@Override
+		public EntityLayout[] getSuccessingEntities() {
+			return getSuccessingNodes();
+		}
+
+		@Override
+		public EntityLayout[] getPredecessingEntities() {
+			return getPredecessingNodes();
+		}
+
+		@Override
+		public Item[] getItems() {
+			return new Item[0];
+		}
+
+		@Override
+		public boolean isPrunable() {
+			return true;
+		}
+
+		@Override
+		public boolean isPruned() {
+			return subgraph != null;
+		}
+
+		@Override
+		public SubgraphLayout getSubgraph() {
+			return subgraph;
+		}
+
+		@Override
+		public void prune(SubgraphLayout subgraph) {
+			if (subgraph != null) {
+				subgraph.addNodes(new NodeLayout[] { this });
+			} else if (this.subgraph != null) {
+				this.subgraph.removeNodes(new NodeLayout[] { this });
+			}
+		}
+
+		@Override
+		public Node[] getSuccessingNodes() {
+			Node[] result = new Node[outgoing.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = outgoing.get(i).target;
+			}
+			return result;
+		}
+
+		@Override
+		public Node[] getPredecessingNodes() {
+			Node[] result = new Node[incoming.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = incoming.get(i).source;
+			}
+			return result;
+		}
+
+		@Override
+		public ConnectionLayout[] getIncomingConnections() {
+			return incoming.toArray(new ConnectionLayout[incoming.size()]);
+		}
+
+		@Override
+		public ConnectionLayout[] getOutgoingConnections() {
+			return outgoing.toArray(new ConnectionLayout[outgoing.size()]);
+		}
+
+		@Override
+		public void setMinimized(boolean minimized) {
+			this.minimized = minimized;
+		}
+
+		@Override
+		public boolean isMinimized() {
+			return minimized;
+		}
+
+		double getX() {
+			return x;
+		}
+
+		double getY() {
+			return y;
+		}
+	}
+
+	/**
+	 * A connection of a {@link HeadlessLayoutContext}.
+	 */
+	public static final class Connection implements ConnectionLayout {
+
+		private final Node source;
+		private final Node target;
+		private boolean visible = true;
+
+		Connection(Node source, Node target) {
+			this.source = source;
+			this.target = target;
+		}
+
+		@Override
+		public Node getSource() {
+			return source;
+		}
+
+		@Override
+		public Node getTarget() {
+			return target;
+		}
+
+		@Override
+		public double getWeight() {
+			return 1;
+		}
+
+		@Override
+		public boolean isDirected() {
+			return true;
+		}
+
+		@Override
+		public void setVisible(boolean visible) {
+			this.visible = visible;
+		}
+
+		@Override
+		public boolean isVisible() {
+			return visible;
+		}
+	}
+
+	/**
+	 * A group of pruned nodes. Subgraphs are not entities of the graph, they are
+	 * only used to hide the pruned nodes from the layout algorithms.
+	 */
+	private static final class Subgraph implements SubgraphLayout {
+
+		private final List<Node> nodes = new ArrayList<>();
+		private double x;
+		private double y;
+		private double width;
+		private double height;
+
+		@Override
+		public NodeLayout[] getNodes() {
+			return nodes.toArray(new NodeLayout[nodes.size()]);
+		}
+
+		@Override
+		public int countNodes() {
+			return nodes.size();
+		}
+
+		@Override
+		public void addNodes(NodeLayout[] nodes) {
+			for (NodeLayout node : nodes) {
+				Node headless = (Node) node;
+				if (headless.subgraph != this) {
+					if (headless.subgraph != null) {
+						headless.subgraph.nodes.remove(headless);
+					}
+					headless.subgraph = this;
+					this.nodes.add(headless);
+				}
+			}
+		}
+
+		@Override
+		public void removeNodes(NodeLayout[] nodes) {
+			List<NodeLayout> removed = Arrays.asList(nodes);
+			for (NodeLayout node : removed) {
+				Node headless = (Node) node;
+				if (headless.subgraph == this) {
+					headless.subgraph = null;
+				}
+			}
+			this.nodes.removeAll(removed);
+		}
+
+		@Override
+		public boolean isGraphEntity() {
+			return false;
+		}
+
+		@Override
+		public boolean isDirectionDependant() {
+			return false;
+		}
+
+		@Override
+		public void setDirection(int direction) {
+			// the direction only affects how a subgraph is displayed
+		}
+
+		@Override
+		public DisplayIndependentPoint getLocation() {
+			return new DisplayIndependentPoint(x, y);
+		}
+
+		@Override
+		public void setLocation(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public DisplayIndependentDimension getSize() {
+			return new DisplayIndependentDimension(width, height);
+		}
+
+		@Override
+		public void setSize(double width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public double getPreferredAspectRatio() {
+			return 0;
+		}
+
+		@Override
+		public boolean isResizable() {
+			return false;
+		}
+
+		@Override
+		public boolean isMovable() {
+			return true;
+		}
+
+		@Override
+		public EntityLayout[] getSuccessingEntities() {
+			return new EntityLayout[0];
+		}
+
+		@Override
+		public EntityLayout[] getPredecessingEntities() {
+			return new EntityLayout[0];
+		}
+
+		@Override
+		public Item[] getItems() {
+			return new Item[0];
+		}
+	}
+}
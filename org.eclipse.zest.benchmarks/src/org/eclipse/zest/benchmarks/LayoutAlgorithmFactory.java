@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.benchmarks;
+
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.CompositeLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.DirectedGraphLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.GridLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.HorizontalShiftAlgorithm;
+import org.eclipse.zest.layouts.algorithms.RadialLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpaceTreeLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.TreeLayoutAlgorithm;
+
+/**
+ * The layout algorithms covered by the benchmarks, in their default
+ * configuration unless noted otherwise.
+ */
+public enum LayoutAlgorithmFactory {
+
+	/**
+	 * The spring layout, with a fixed seed for the initial random placement.
+	 */
+	SPRING {
+		@Override
+		public LayoutAlgorithm create() {
+			SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+			algorithm.setRandomSeed(SEED);
+			return algorithm;
+		}
+	},
+
+	TREE {
+		@Override
+		public LayoutAlgorithm create() {
+			return new TreeLayoutAlgorithm();
+		}
+	},
+
+	RADIAL {
+		@Override
+		public LayoutAlgorithm create() {
+			return new RadialLayoutAlgorithm();
+		}
+	},
+
+	SPACE_TREE {
+		@Override
+		public LayoutAlgorithm create() {
+			return new SpaceTreeLayoutAlgorithm();
+		}
+	},
+
+	SUGIYAMA {
+		@Override
+		public LayoutAlgorithm create() {
+			return new SugiyamaLayoutAlgorithm();
+		}
+	},
+
+	GRID {
+		@Override
+		public LayoutAlgorithm create() {
+			return new GridLayoutAlgorithm();
+		}
+	},
+
+	DIRECTED_GRAPH {
+		@Override
+		public LayoutAlgorithm create() {
+			return new DirectedGraphLayoutAlgorithm();
+		}
+	},
+
+	/**
+	 * A grid layout followed by a horizontal shift, which removes the overlaps.
+	 */
+	COMPOSITE {
+		@Override
+		public LayoutAlgorithm create() {
+			return new CompositeLayoutAlgorithm(
+					new LayoutAlgorithm[] { new GridLayoutAlgorithm(), new HorizontalShiftAlgorithm() });
+		}
+	};
+
+	static final long SEED = 42;
+
+	/**
+	 * @return a new instance of the algorithm
+	 */
+	public abstract LayoutAlgorithm create();
+
+}
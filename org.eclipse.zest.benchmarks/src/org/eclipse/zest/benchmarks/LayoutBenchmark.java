@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single, clean layout pass of each algorithm on each kind of
+ * generated graph. Every pass starts from a freshly generated graph with all
+ * nodes at the origin, so the passes are measured individually. The allocation
+ * rate is reported when running with {@code -prof gc}, the quality of the
+ * resulting layouts by {@link QualityReport}.
+ * <p>
+ * By default graphs with up to 10,000 nodes are used. Larger graphs, e.g. with
+ * {@code -p nodes=100000}, should be restricted to the algorithms of interest,
+ * as some algorithms are quadratic in the number of nodes.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LayoutBenchmark {
+
+	static final long SEED = 42;
+
+	@Param
+	public LayoutAlgorithmFactory algorithm;
+
+	@Param
+	public GraphGenerator graph;
+
+	@Param({ "100", "1000", "10000" })
+	public int nodes;
+
+	private HeadlessLayoutContext context;
+	private LayoutAlgorithm layoutAlgorithm;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		context = graph.generate(nodes, SEED);
+		layoutAlgorithm = algorithm.create();
+		layoutAlgorithm.setLayoutContext(context);
+	}
+
+	@Benchmark
+	public HeadlessLayoutContext layout() {
+		layoutAlgorithm.applyLayout(true);
+		return context;
+	}
+
+}
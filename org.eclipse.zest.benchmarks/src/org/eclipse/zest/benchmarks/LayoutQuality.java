@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.benchmarks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.eclipse.zest.benchmarks.HeadlessLayoutContext.Connection;
+import org.eclipse.zest.benchmarks.HeadlessLayoutContext.Node;
+
+/**
+ * Metrics for the quality of a computed layout. Connections are treated as
+ * straight lines between the centers of their nodes.
+ */
+public final class LayoutQuality {
+
+	private LayoutQuality() {
+	}
+
+	/**
+	 * Counts the pairs of connections which cross each other. Connections sharing
+	 * a node are not considered to cross. The connections are swept by their
+	 * horizontal extent, so that only pairs with overlapping extents are tested.
+	 * This is fast for layouts with short connections, but quadratic in the worst
+	 * case.
+	 *
+	 * @param context the laid out graph
+	 * @return the number of crossings
+	 */
+	public static long countCrossings(HeadlessLayoutContext context) {
+		Connection[] connections = context.getConnections();
+		Arrays.sort(connections, Comparator.comparingDouble(LayoutQuality::minX));
+		long crossings = 0;
+		for (int i = 0; i < connections.length; i++) {
+			Connection c1 = connections[i];
+			double maxX = maxX(c1);
+			for (int j = i + 1; j < connections.length && minX(connections[j]) <= maxX; j++) {
+				Connection c2 = connections[j];
+				if (!sharesNode(c1, c2) && intersect(c1, c2)) {
+					crossings++;
+				}
+			}
+		}
+		return crossings;
+	}
+
+	/**
+	 * Computes the normalized stress of the layout, i.e. how well the euclidean
+	 * distances between the nodes reflect their graph theoretical distances. The
+	 * layout is scaled optimally before comparing the distances, so the result is
+	 * independent of the size of the layout. 0 is a perfect layout, 1 is a layout
+	 * in which all nodes are at the same location.
+	 * <p>
+	 * All pairs of nodes would be too expensive for large graphs, so only the
+	 * distances from the given number of randomly chosen pivot nodes to all other
+	 * nodes of their component are considered. Connections are treated as
+	 * undirected.
+	 * </p>
+	 *
+	 * @param context the laid out graph
+	 * @param pivots  the number of pivot nodes
+	 * @param seed    the seed used to choose the pivots
+	 * @return the normalized stress between 0 and 1
+	 */
+	public static double stress(HeadlessLayoutContext context, int pivots, long seed) {
+		int n = context.countNodes();
+		if (n < 2) {
+			return 0;
+		}
+		Random random = new Random(seed);
+		int[] distances = new int[n];
+		int[] queue = new int[n];
+		// weighted sums over all pairs (d = graph distance, x = euclidean distance,
+		// weight 1 / d^2) which yield the stress for the optimal scale in closed form
+		double sumXD = 0;
+		double sumXX = 0;
+		long pairs = 0;
+		for (int p = 0; p < Math.min(pivots, n); p++) {
+			Node pivot = context.getNode(pivots >= n ? p : random.nextInt(n));
+			Arrays.fill(distances, -1);
+			distances[pivot.getIndex()] = 0;
+			queue[0] = pivot.getIndex();
+			int head = 0;
+			int tail = 1;
+			while (head < tail) {
+				Node node = context.getNode(queue[head++]);
+				int distance = distances[node.getIndex()] + 1;
+				for (Node neighbor : node.getSuccessingNodes()) {
+					tail = visit(neighbor, distance, distances, queue, tail);
+				}
+				for (Node neighbor : node.getPredecessingNodes()) {
+					tail = visit(neighbor, distance, distances, queue, tail);
+				}
+			}
+			for (int i = 1; i < tail; i++) {
+				Node node = context.getNode(queue[i]);
+				double d = distances[node.getIndex()];
+				double x = Math.hypot(node.getX() - pivot.getX(), node.getY() - pivot.getY());
+				sumXD += x / d;
+				sumXX += (x * x) / (d * d);
+				pairs++;
+			}
+		}
+		if (pairs == 0) {
+			return 0;
+		}
+		if (sumXX == 0) {
+			return 1;
+		}
+		// sum((s * x - d)^2 / d^2) minimized over the scale s
+		return 1 - (sumXD * sumXD) / (sumXX * pairs);
+	}
+
+	private static int visit(Node node, int distance, int[] distances, int[] queue, int tail) {
+		if (distances[node.getIndex()] == -1) {
+			distances[node.getIndex()] = distance;
+			queue[tail++] = node.getIndex();
+		}
+		return tail;
+	}
+
+	private static double minX(Connection connection) {
+		return Math.min(connection.getSource().getX(), connection.getTarget().getX());
+	}
+
+	private static double maxX(Connection connection) {
+		return Math.max(connection.getSource().getX(), connection.getTarget().getX());
+	}
+
+	private static boolean sharesNode(Connection c1, Connection c2) {
+		return c1.getSource() == c2.getSource() || c1.getSource() == c2.getTarget() || c1.getTarget() == c2.getSource()
+				|| c1.getTarget() == c2.getTarget();
+	}
+
+	private static boolean intersect(Connection c1, Connection c2) {
+		Node a = c1.getSource();
+		Node b = c1.getTarget();
+		Node c = c2.getSource();
+		Node d = c2.getTarget();
+		double d1 = orientation(c, d, a);
+		double d2 = orientation(c, d, b);
+		double d3 = orientation(a, b, c);
+		double d4 = orientation(a, b, d);
+		// only proper crossings, touching or collinear segments are ignored
+		return ((d1 > 0 && d2 < 0) || (d1 < 0 && d2 > 0)) && ((d3 > 0 && d4 < 0) || (d3 < 0 && d4 > 0));
+	}
+
+	private static double orientation(Node p, Node q, Node r) {
+		return (q.getX() - p.getX()) * (r.getY() - p.getY()) - (q.getY() - p.getY()) * (r.getX() - p.getX());
+	}
+
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.benchmarks;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+
+/**
+ * Applies every algorithm once to every kind of generated graph and prints the
+ * time and the quality of the resulting layout as comma separated values: the
+ * number of edge crossings and the normalized stress, see
+ * {@link LayoutQuality}. The graphs are the same as in
+ * {@link LayoutBenchmark}, so the numbers of both can be related. If an
+ * algorithm rejects a graph, the error message is printed instead.
+ * <p>
+ * The arguments are the node counts to use, by default 100, 1000 and 10000.
+ * The algorithms and generators can be restricted via the system properties
+ * {@code algorithms} and {@code graphs}, which take comma separated names,
+ * e.g. {@code -Dalgorithms=SPRING,SUGIYAMA}.
+ * </p>
+ */
+public final class QualityReport {
+
+	private static final int STRESS_PIVOTS = 32;
+
+	private QualityReport() {
+	}
+
+	public static void main(String[] args) {
+		List<Integer> sizes = new ArrayList<>();
+		for (String arg : args) {
+			sizes.add(Integer.valueOf(arg));
+		}
+		if (sizes.isEmpty()) {
+			sizes = List.of(Integer.valueOf(100), Integer.valueOf(1000), Integer.valueOf(10000));
+		}
+		List<LayoutAlgorithmFactory> algorithms = select(LayoutAlgorithmFactory.class, "algorithms"); //$NON-NLS-1$
+		List<GraphGenerator> graphs = select(GraphGenerator.class, "graphs"); //$NON-NLS-1$
+
+		PrintStream out = System.out;
+		out.println("algorithm,graph,nodes,connections,time_ms,crossings,stress,error"); //$NON-NLS-1$
+		for (LayoutAlgorithmFactory algorithm : algorithms) {
+			for (GraphGenerator graph : graphs) {
+				for (Integer size : sizes) {
+					HeadlessLayoutContext context = graph.generate(size.intValue(), LayoutBenchmark.SEED);
+					LayoutAlgorithm layoutAlgorithm = algorithm.create();
+					layoutAlgorithm.setLayoutContext(context);
+					String prefix = String.format(Locale.ROOT, "%s,%s,%d,%d", algorithm, graph, //$NON-NLS-1$
+							Integer.valueOf(context.countNodes()), Integer.valueOf(context.countConnections()));
+					long start = System.nanoTime();
+					try {
+						layoutAlgorithm.applyLayout(true);
+					} catch (RuntimeException e) {
+						// some algorithms don't support every kind of graph
+						out.println(prefix + ",,,," + e.toString().replace(',', ';')); //$NON-NLS-1$
+						continue;
+					}
+					double time = (System.nanoTime() - start) / 1e6;
+					out.println(String.format(Locale.ROOT, "%s,%.1f,%d,%.4f,", prefix, Double.valueOf(time), //$NON-NLS-1$
+							Long.valueOf(LayoutQuality.countCrossings(context)),
+							Double.valueOf(LayoutQuality.stress(context, STRESS_PIVOTS, LayoutBenchmark.SEED))));
+				}
+			}
+		}
+	}
+
+	private static <E extends Enum<E>> List<E> select(Class<E> type, String property) {
+		String value = System.getProperty(property);
+		if (value == null || value.isBlank()) {
+			return List.of(type.getEnumConstants());
+		}
+		List<E> selected = new ArrayList<>();
+		for (String name : value.split(",")) { //$NON-NLS-1$
+			selected.add(Enum.valueOf(type, name.trim().toUpperCase(Locale.ROOT)));
+		}
+		return selected;
+	}
+
+}
@@ -129,6 +129,7 @@ public class Graph extends FigureCanvas implements IContainer2 {
 	private volatile boolean shouldSheduleLayout;
 	private volatile Runnable scheduledLayoutRunnable = null;
 	private volatile boolean scheduledLayoutClean = false;
+	private boolean asynchronousLayout = false;
 	private Dimension preferredSize = null;
 	int style = 0;
 
@@ -446,6 +447,11 @@ public class Graph extends FigureCanvas implements IContainer2 {
 	 */
 	@SuppressWarnings("removal")
 	public void applyLayoutNow() {
+		if (isLayoutRunning()) {
+			// the algorithm is still in use, apply the layout once it has finished
+			internalGetLayoutContext().cancelBackgroundLayout(this::applyLayoutNow);
+			return;
+		}
 		if (getLayoutAlgorithm() instanceof LayoutAlgorithm.Zest1) {
 			applyLayoutInternal(true);
 		} else {
@@ -454,6 +460,54 @@ public class Graph extends FigureCanvas implements IContainer2 {
 		}
 	}
 
+	/**
+	 * Enables or disables asynchronous layout. If enabled, {@link #applyLayout()}
+	 * takes a snapshot of the positions and sizes of all nodes and executes the
+	 * layout algorithm on a background thread, so that the UI stays responsive.
+	 * The result is then applied to the graph in a single batch on the UI thread.
+	 * For the duration of the computation, the layout algorithm is bound to the
+	 * snapshot instead of the graph. Graphs containing subgraphs or using an
+	 * {@link org.eclipse.zest.layouts.interfaces.ExpandCollapseManager} and legacy
+	 * Zest 1.x algorithms are always laid out synchronously.
+	 *
+	 * @param enabled <code>true</code> to compute the layout in the background
+	 * @since 1.14
+	 */
+	public void setAsynchronousLayout(boolean enabled) {
+		asynchronousLayout = enabled;
+		if (!enabled) {
+			cancelLayout();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the layout is computed in the background (see
+	 *         {@link #setAsynchronousLayout(boolean)})
+	 * @since 1.14
+	 */
+	public boolean isAsynchronousLayout() {
+		return asynchronousLayout;
+	}
+
+	/**
+	 * Cancels the layout currently computed in the background. The graph keeps its
+	 * current layout.
+	 *
+	 * @since 1.14
+	 */
+	public void cancelLayout() {
+		internalGetLayoutContext().cancelBackgroundLayout(null);
+	}
+
+	/**
+	 * @return <code>true</code> if a layout is currently computed in the
+	 *         background, whose result has not yet been applied
+	 * @since 1.14
+	 */
+	public boolean isLayoutRunning() {
+		return internalGetLayoutContext().isBackgroundLayoutRunning();
+	}
+
 	/**
 	 * Enables or disables dynamic layout (that is layout algorithm performing
 	 * layout in background or when certain events occur). Dynamic layout should be
@@ -1035,6 +1089,9 @@ public class Graph extends FigureCanvas implements IContainer2 {
 	}
 
 	private void release() {
+		if (layoutContext != null) {
+			layoutContext.cancelBackgroundLayout(null);
+		}
 		while (!nodes.isEmpty()) {
 			GraphNode node = nodes.get(0);
 			if (node != null) {
@@ -1360,7 +1417,24 @@ public class Graph extends FigureCanvas implements IContainer2 {
 						layoutStyle = LayoutStyles.NO_LAYOUT_NODE_RESIZING;
 					}
 
-					if ((nodeStyle & ZestStyles.NODES_NO_LAYOUT_ANIMATION) == 0) {
+					boolean animate = (nodeStyle & ZestStyles.NODES_NO_LAYOUT_ANIMATION) == 0;
+					if (asynchronousLayout && internalGetLayoutContext().canApplyLayoutInBackground()) {
+						internalGetLayoutContext().applyLayoutInBackground(scheduledLayoutClean, () -> {
+							if (animate) {
+								Animation.markBegin();
+							}
+							layoutContext.flushChanges(false);
+							Animation.run(ANIMATION_TIME);
+							getLightweightSystem().getUpdateManager().performUpdate();
+						});
+						synchronized (Graph.this) {
+							scheduledLayoutRunnable = null;
+							scheduledLayoutClean = false;
+						}
+						return;
+					}
+
+					if (animate) {
 						Animation.markBegin();
 					}
 					if (getLayoutAlgorithm() instanceof LayoutAlgorithm.Zest1 zest1) {
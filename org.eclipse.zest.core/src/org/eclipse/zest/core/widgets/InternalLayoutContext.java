@@ -17,6 +17,12 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.zest.layouts.LayoutAlgorithm;
 import org.eclipse.zest.layouts.dataStructures.DisplayIndependentRectangle;
@@ -50,6 +56,19 @@ class InternalLayoutContext implements LayoutContext {
 	private boolean backgorundLayoutEnabled = true;
 	private boolean externalLayoutInvocation = false;
 
+	/**
+	 * Executes the background layouts of this context. The worker thread is
+	 * discarded when idle, so no cleanup is required.
+	 */
+	private final Executor backgroundExecutor = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "Zest Background Layout"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+	private LayoutSnapshot snapshot;
+	private Runnable pendingLayout;
+
 	/**
 	 * @param graph the graph owning this context
 	 */
@@ -342,7 +361,8 @@ class InternalLayoutContext implements LayoutContext {
 	}
 
 	void applyMainAlgorithm() {
-		if (backgorundLayoutEnabled && mainAlgorithm != null) {
+		// the algorithm must not run concurrently to a background layout
+		if (backgorundLayoutEnabled && mainAlgorithm != null && snapshot == null) {
 			mainAlgorithm.applyLayout(true);
 			flushChanges(false);
 		}
@@ -374,6 +394,101 @@ class InternalLayoutContext implements LayoutContext {
 		}
 	}
 
+	/**
+	 * @return <code>true</code> if the layout algorithm can be applied via
+	 *         {@link #applyLayoutInBackground(boolean, Runnable)}
+	 */
+	@SuppressWarnings("removal")
+	boolean canApplyLayoutInBackground() {
+		return layoutAlgorithm != null && !(layoutAlgorithm instanceof LayoutAlgorithm.Zest1) && subgraphs.isEmpty()
+				&& expandCollapseManager == null;
+	}
+
+	/**
+	 * Applies the layout algorithm on a snapshot of the current graph in a
+	 * background thread. For the duration of the layout, the algorithm is bound to
+	 * the snapshot instead of this context. Once finished, the computed layout is
+	 * applied to the graph on the UI thread and <code>onApplied</code> is
+	 * executed. If a background layout is still running, it is cancelled and the
+	 * new layout is started after it has finished. Must be called on the UI
+	 * thread.
+	 *
+	 * @param clean     whether the layout should be applied cleanly
+	 * @param onApplied executed on the UI thread after the changes have been
+	 *                  applied, in order to display them
+	 */
+	void applyLayoutInBackground(boolean clean, Runnable onApplied) {
+		if (snapshot != null) {
+			cancelBackgroundLayout(() -> applyLayoutInBackground(clean, onApplied));
+			return;
+		}
+		LayoutSnapshot current = new LayoutSnapshot(this);
+		LayoutAlgorithm algorithm = layoutAlgorithm;
+		Display display = container.getGraph().getDisplay();
+		algorithm.setLayoutContext(current);
+		snapshot = current;
+		backgroundExecutor.execute(() -> {
+			try {
+				if (!current.isLayoutCancelled()) {
+					algorithm.applyLayout(clean);
+				}
+			} finally {
+				if (!display.isDisposed()) {
+					display.asyncExec(() -> finishBackgroundLayout(current, algorithm, onApplied));
+				}
+			}
+		});
+	}
+
+	private void finishBackgroundLayout(LayoutSnapshot current, LayoutAlgorithm algorithm, Runnable onApplied) {
+		snapshot = null;
+		if (container.getGraph().isDisposed()) {
+			return;
+		}
+		if (algorithm == layoutAlgorithm) {
+			algorithm.setLayoutContext(this);
+		}
+		if (!current.isLayoutCancelled()) {
+			externalLayoutInvocation = true;
+			current.apply();
+			externalLayoutInvocation = false;
+			onApplied.run();
+		}
+		Runnable next = pendingLayout;
+		pendingLayout = null;
+		if (next != null) {
+			next.run();
+		}
+	}
+
+	/**
+	 * Cancels the currently running background layout. Its result is discarded and
+	 * the running algorithm stops once it checks
+	 * {@link LayoutContext#isLayoutCancelled()} on its snapshot, even if another
+	 * algorithm has been set in the meantime. Must be called on the UI thread.
+	 *
+	 * @param next executed on the UI thread once the layout algorithm is no longer
+	 *             in use, may be <code>null</code>
+	 */
+	void cancelBackgroundLayout(Runnable next) {
+		if (snapshot == null) {
+			if (next != null) {
+				next.run();
+			}
+			return;
+		}
+		snapshot.cancel();
+		pendingLayout = next;
+	}
+
+	/**
+	 * @return <code>true</code> if a background layout has been started, whose
+	 *         algorithm has not yet finished
+	 */
+	boolean isBackgroundLayoutRunning() {
+		return snapshot != null;
+	}
+
 	void checkChangesAllowed() {
 		if (!backgorundLayoutEnabled && !externalLayoutInvocation) {
 			throw new RuntimeException("Layout not allowed to perform changes in layout context!"); //$NON-NLS-1$
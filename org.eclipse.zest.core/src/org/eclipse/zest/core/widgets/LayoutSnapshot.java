@@ -0,0 +1,471 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.zest.core.widgets;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.widgets.Item;
+
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentDimension;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentPoint;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentRectangle;
+import org.eclipse.zest.layouts.interfaces.ConnectionLayout;
+import org.eclipse.zest.layouts.interfaces.ContextListener;
+import org.eclipse.zest.layouts.interfaces.EntityLayout;
+import org.eclipse.zest.layouts.interfaces.ExpandCollapseManager;
+import org.eclipse.zest.layouts.interfaces.GraphStructureListener;
+import org.eclipse.zest.layouts.interfaces.LayoutContext;
+import org.eclipse.zest.layouts.interfaces.LayoutListener;
+import org.eclipse.zest.layouts.interfaces.NodeLayout;
+import org.eclipse.zest.layouts.interfaces.PruningListener;
+import org.eclipse.zest.layouts.interfaces.SubgraphLayout;
+
+/**
+ * Copy of the nodes and connections of an {@link InternalLayoutContext}, taken
+ * on the UI thread. A layout algorithm bound to this context may operate on it
+ * from any thread, without accessing a single widget. The computed positions,
+ * sizes and visibilities are written back to the original context in a single
+ * batch via {@link #apply()}.
+ *
+ * The graph structure of a snapshot never changes, hence no events are fired.
+ * Snapshots are only supported for contexts without subgraphs, as pruning
+ * requires modifications of the graph structure.
+ */
+class LayoutSnapshot implements LayoutContext {
+
+	private final DisplayIndependentRectangle bounds;
+	private final boolean boundsExpandable;
+	private final NodeSnapshot[] nodes;
+	private final ConnectionSnapshot[] connections;
+	private volatile boolean cancelled;
+
+	/**
+	 * Creates a snapshot of the current state of the given context. Must be called
+	 * on the UI thread.
+	 */
+	LayoutSnapshot(InternalLayoutContext context) {
+		bounds = context.getBounds();
+		boundsExpandable = context.isBoundsExpandable();
+		NodeLayout[] contextNodes = context.getNodes();
+		ConnectionLayout[] contextConnections = context.getConnections();
+
+		Map<NodeLayout, NodeSnapshot> nodeMap = new HashMap<>();
+		nodes = new NodeSnapshot[contextNodes.length];
+		for (int i = 0; i < contextNodes.length; i++) {
+			nodes[i] = new NodeSnapshot((InternalNodeLayout) contextNodes[i]);
+			nodeMap.put(contextNodes[i], nodes[i]);
+		}
+
+		Map<ConnectionLayout, ConnectionSnapshot> connectionMap = new HashMap<>();
+		List<ConnectionSnapshot> connectionList = new ArrayList<>();
+		for (ConnectionLayout connection : contextConnections) {
+			NodeSnapshot source = nodeMap.get(connection.getSource());
+			NodeSnapshot target = nodeMap.get(connection.getTarget());
+			if (source != null && target != null) {
+				ConnectionSnapshot snapshot = new ConnectionSnapshot(connection, source, target);
+				connectionMap.put(connection, snapshot);
+				connectionList.add(snapshot);
+			}
+		}
+		connections = connectionList.toArray(new ConnectionSnapshot[connectionList.size()]);
+
+		for (NodeSnapshot node : nodes) {
+			node.incoming = toSnapshots(node.original.getIncomingConnections(), connectionMap);
+			node.outgoing = toSnapshots(node.original.getOutgoingConnections(), connectionMap);
+		}
+	}
+
+	private static ConnectionLayout[] toSnapshots(ConnectionLayout[] connections,
+			Map<ConnectionLayout, ConnectionSnapshot> connectionMap) {
+		List<ConnectionLayout> result = new ArrayList<>(connections.length);
+		for (ConnectionLayout connection : connections) {
+			ConnectionSnapshot snapshot = connectionMap.get(connection);
+			if (snapshot != null) {
+				result.add(snapshot);
+			}
+		}
+		return result.toArray(new ConnectionLayout[result.size()]);
+	}
+
+	@Override
+	public DisplayIndependentRectangle getBounds() {
+		return new DisplayIndependentRectangle(bounds);
+	}
+
+	@Override
+	public NodeLayout[] getNodes() {
+		NodeLayout[] result = new NodeLayout[nodes.length];
+		System.arraycopy(nodes, 0, result, 0, nodes.length);
+		return result;
+	}
+
+	@Override
+	public EntityLayout[] getEntities() {
+		EntityLayout[] result = new EntityLayout[nodes.length];
+		System.arraycopy(nodes, 0, result, 0, nodes.length);
+		return result;
+	}
+
+	@Override
+	public ConnectionLayout[] getConnections() {
+		ConnectionLayout[] result = new ConnectionLayout[connections.length];
+		System.arraycopy(connections, 0, result, 0, connections.length);
+		return result;
+	}
+
+	@Override
+	public ConnectionLayout[] getConnections(EntityLayout source, EntityLayout target) {
+		List<ConnectionLayout> result = new ArrayList<>();
+		if (source instanceof NodeSnapshot node) {
+			for (ConnectionLayout connection : node.outgoing) {
+				if ((connection.getSource() == source && connection.getTarget() == target)
+						|| (connection.getTarget() == source && connection.getSource() == target)) {
+					result.add(connection);
+				}
+			}
+		}
+		return result.toArray(new ConnectionLayout[result.size()]);
+	}
+
+	@Override
+	public boolean isBoundsExpandable() {
+		return boundsExpandable;
+	}
+
+	@Override
+	public SubgraphLayout[] getSubgraphs() {
+		return new SubgraphLayout[0];
+	}
+
+	@Override
+	public SubgraphLayout createSubgraph(NodeLayout[] nodes) {
+		throw new UnsupportedOperationException("Subgraphs are not supported in background layouts"); //$NON-NLS-1$
+	}
+
+	@Override
+	public boolean isPruningEnabled() {
+		return false;
+	}
+
+	@Override
+	public boolean isBackgroundLayoutEnabled() {
+		return false;
+	}
+
+	@Override
+	public void setMainLayoutAlgorithm(LayoutAlgorithm algorithm) {
+		// the main algorithm is managed by the original context
+	}
+
+	@Override
+	public LayoutAlgorithm getMainLayoutAlgorithm() {
+		return null;
+	}
+
+	@Override
+	public void setExpandCollapseManager(ExpandCollapseManager expandCollapseManager) {
+		throw new UnsupportedOperationException("Pruning is not supported in background layouts"); //$NON-NLS-1$
+	}
+
+	@Override
+	public ExpandCollapseManager getExpandCollapseManager() {
+		return null;
+	}
+
+	@Override
+	public void addLayoutListener(LayoutListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void removeLayoutListener(LayoutListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void addGraphStructureListener(GraphStructureListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void removeGraphStructureListener(GraphStructureListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void addContextListener(ContextListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void removeContextListener(ContextListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void addPruningListener(PruningListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void removePruningListener(PruningListener listener) {
+		// no events are fired
+	}
+
+	@Override
+	public void flushChanges(boolean animationHint) {
+		// changes are applied in a single batch via apply()
+	}
+
+	void cancel() {
+		cancelled = true;
+	}
+
+	@Override
+	public boolean isLayoutCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Writes all changes done by the layout algorithm back to the original layout
+	 * elements. Must be called on the UI thread.
+	 */
+	void apply() {
+		for (NodeSnapshot node : nodes) {
+			node.apply();
+		}
+		for (ConnectionSnapshot connection : connections) {
+			connection.apply();
+		}
+	}
+
+	private static class NodeSnapshot implements NodeLayout {
+		private final InternalNodeLayout original;
+		private final Item[] items;
+		private final boolean movable;
+		private final boolean resizable;
+		private final double preferredAspectRatio;
+		private final DisplayIndependentPoint location;
+		private final DisplayIndependentDimension size;
+		private boolean minimized;
+		private boolean locationChanged;
+		private boolean sizeChanged;
+		private boolean minimizedChanged;
+		private ConnectionLayout[] incoming;
+		private ConnectionLayout[] outgoing;
+
+		NodeSnapshot(InternalNodeLayout original) {
+			this.original = original;
+			this.items = original.getItems();
+			this.movable = original.isMovable();
+			this.resizable = original.isResizable();
+			this.preferredAspectRatio = original.getPreferredAspectRatio();
+			this.location = original.getLocation();
+			this.size = original.getSize();
+			this.minimized = original.isMinimized();
+		}
+
+		@Override
+		public DisplayIndependentPoint getLocation() {
+			return new DisplayIndependentPoint(location);
+		}
+
+		@Override
+		public void setLocation(double x, double y) {
+			location.x = x;
+			location.y = y;
+			locationChanged = true;
+		}
+
+		@Override
+		public DisplayIndependentDimension getSize() {
+			return new DisplayIndependentDimension(size);
+		}
+
+		@Override
+		public void setSize(double width, double height) {
+			size.width = width;
+			size.height = height;
+			sizeChanged = true;
+		}
+
+		@Override
+		public double getPreferredAspectRatio() {
+			return preferredAspectRatio;
+		}
+
+		@Override
+		public boolean isResizable() {
+			return resizable;
+		}
+
+		@Override
+		public boolean isMovable() {
+			return movable;
+		}
+
+		@Override
+		public EntityLayout[] getSuccessingEntities() {
+			return getSuccessingNodes();
+		}
+
+		@Override
+		public EntityLayout[] getPredecessingEntities() {
+			return getPredecessingNodes();
+		}
+
+		@Override
+		public Item[] getItems() {
+			return items.clone();
+		}
+
+		@Override
+		public boolean isPrunable() {
+			return false;
+		}
+
+		@Override
+		public boolean isPruned() {
+			return false;
+		}
+
+		@Override
+		public SubgraphLayout getSubgraph() {
+			return null;
+		}
+
+		@Override
+		public void prune(SubgraphLayout subgraph) {
+			throw new UnsupportedOperationException("Pruning is not supported in background layouts"); //$NON-NLS-1$
+		}
+
+		@Override
+		public NodeLayout[] getSuccessingNodes() {
+			NodeLayout[] nodes = new NodeLayout[outgoing.length];
+			for (int i = 0; i < outgoing.length; i++) {
+				nodes[i] = outgoing[i].getTarget() == this ? outgoing[i].getSource() : outgoing[i].getTarget();
+			}
+			return nodes;
+		}
+
+		@Override
+		public NodeLayout[] getPredecessingNodes() {
+			NodeLayout[] nodes = new NodeLayout[incoming.length];
+			for (int i = 0; i < incoming.length; i++) {
+				nodes[i] = incoming[i].getSource() == this ? incoming[i].getTarget() : incoming[i].getSource();
+			}
+			return nodes;
+		}
+
+		@Override
+		public ConnectionLayout[] getIncomingConnections() {
+			return incoming.clone();
+		}
+
+		@Override
+		public ConnectionLayout[] getOutgoingConnections() {
+			return outgoing.clone();
+		}
+
+		@Override
+		public void setMinimized(boolean minimized) {
+			this.minimized = minimized;
+			minimizedChanged = true;
+		}
+
+		@Override
+		public boolean isMinimized() {
+			return minimized;
+		}
+
+		void apply() {
+			if (original.isDisposed()) {
+				return;
+			}
+			if (minimizedChanged) {
+				original.setMinimized(minimized);
+			}
+			if (sizeChanged) {
+				original.setSize(size.width, size.height);
+			}
+			if (locationChanged) {
+				original.setLocation(location.x, location.y);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return original.toString() + "(snapshot)"; //$NON-NLS-1$
+		}
+	}
+
+	private static class ConnectionSnapshot implements ConnectionLayout {
+		private final ConnectionLayout original;
+		private final NodeSnapshot source;
+		private final NodeSnapshot target;
+		private final double weight;
+		private final boolean directed;
+		private boolean visible;
+		private boolean visibleChanged;
+
+		ConnectionSnapshot(ConnectionLayout original, NodeSnapshot source, NodeSnapshot target) {
+			this.original = original;
+			this.source = source;
+			this.target = target;
+			this.weight = original.getWeight();
+			this.directed = original.isDirected();
+			this.visible = original.isVisible();
+		}
+
+		@Override
+		public NodeLayout getSource() {
+			return source;
+		}
+
+		@Override
+		public NodeLayout getTarget() {
+			return target;
+		}
+
+		@Override
+		public double getWeight() {
+			return weight;
+		}
+
+		@Override
+		public boolean isDirected() {
+			return directed;
+		}
+
+		@Override
+		public void setVisible(boolean visible) {
+			this.visible = visible;
+			visibleChanged = true;
+		}
+
+		@Override
+		public boolean isVisible() {
+			return visible;
+		}
+
+		void apply() {
+			if (visibleChanged) {
+				original.setVisible(visible);
+			}
+		}
+	}
+}
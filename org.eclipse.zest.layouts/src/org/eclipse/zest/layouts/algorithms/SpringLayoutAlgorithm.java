@@ -15,11 +15,20 @@
  *******************************************************************************/
 package org.eclipse.zest.layouts.algorithms;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
 
 import org.eclipse.zest.layouts.LayoutStyles;
+import org.eclipse.zest.layouts.algorithms.internal.QuadTree;
+import org.eclipse.zest.layouts.algorithms.internal.SparseAdjacency;
 import org.eclipse.zest.layouts.dataStructures.DisplayIndependentDimension;
 import org.eclipse.zest.layouts.dataStructures.DisplayIndependentPoint;
 import org.eclipse.zest.layouts.dataStructures.DisplayIndependentRectangle;
@@ -156,18 +165,6 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		 */
 		private double largestMovement = 0;
 
-		/**
-		 * Maps a src and dest object to the number of relations between them. Key is
-		 * src.toString() + dest.toString(), value is an Integer
-		 */
-		private Map<String, Integer> srcDestToNumRelsMap;
-
-		/**
-		 * Maps a src and dest object to the average weight of the relations between
-		 * them. Key is src.toString() + dest.toString(), value is a Double
-		 */
-		private Map<String, Double> srcDestToRelsAvgWeightMap;
-
 		/**
 		 * Maps a relationship type to a weight. Key is a string, value is a Double
 		 */
@@ -175,9 +172,13 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 		private int iteration;
 
-		private int[][] srcDestToNumRels;
+		/**
+		 * The number of relations between two nodes, multiplied with their average
+		 * weight.
+		 */
+		private SparseAdjacency srcDestToRelsWeight;
 
-		private double[][] srcDestToRelsAvgWeight;
+		private double[] rowOfWeights;
 
 		private double[] tempLocationsX;
 
@@ -191,6 +192,19 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 		private DisplayIndependentRectangle bounds = null;
 
+		/**
+		 * The number of threads used to compute the forces.
+		 */
+		private int parallelism = 1;
+
+		private ForkJoinPool pool;
+
+		private double[][] blockRowsOfWeights;
+
+		private Long randomSeed;
+
+		private Random random = new Random();
+
 		Date date = null;
 
 		/**
@@ -198,8 +212,6 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		 */
 		public Zest1(int styles) {
 			super(styles);
-			srcDestToNumRelsMap = new HashMap<>();
-			srcDestToRelsAvgWeightMap = new HashMap<>();
 			date = new Date();
 		}
 
@@ -358,6 +370,48 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			return sprRandom;
 		}
 
+		/**
+		 * Sets the number of threads used to compute the forces between the nodes. A
+		 * value of <code>1</code> (the default) computes them on the calling thread.
+		 * In parallel mode, the force on each node is the sum of all pairwise forces
+		 * acting on it, which is independent of the order of the nodes. The result
+		 * therefore differs from the sequential computation. The threads are released
+		 * at the end of each layout.
+		 *
+		 * @param parallelism The number of threads, must be positive.
+		 * @since 2.0
+		 */
+		public void setParallelism(int parallelism) {
+			if (parallelism < 1) {
+				throw new IllegalArgumentException("Parallelism must be positive: " + parallelism); //$NON-NLS-1$
+			}
+			if (this.parallelism != parallelism) {
+				shutdownPool();
+			}
+			this.parallelism = parallelism;
+		}
+
+		/**
+		 * Returns the number of threads used to compute the forces between the nodes.
+		 *
+		 * @return The number of threads.
+		 * @since 2.0
+		 */
+		public int getParallelism() {
+			return parallelism;
+		}
+
+		/**
+		 * Sets the seed for the random placement of the nodes before beginning
+		 * iterations.
+		 *
+		 * @param seed The seed of the random number generator.
+		 * @since 2.0
+		 */
+		public void setRandomSeed(long seed) {
+			randomSeed = Long.valueOf(seed);
+		}
+
 		@SuppressWarnings("static-method")
 		public void setWeight(String relType, double weight) {
 			relTypeToWeightMap.put(relType, Double.valueOf(weight));
@@ -392,8 +446,8 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			forcesY = null;
 			anchors = null;
 			setDefaultConditions();
-			srcDestToNumRelsMap = new HashMap<>();
-			srcDestToRelsAvgWeightMap = new HashMap<>();
+			srcDestToRelsWeight = null;
+			rowOfWeights = null;
 			relTypeToWeightMap = new HashMap<>();
 		}
 
@@ -417,12 +471,9 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			for (int i = 0; i < entitiesToLayout.length; i++) {
 				anchors[i] = DEFAULT_ANCHOR;
 			}
-			for (InternalRelationship layoutRelationship : relationshipsToConsider) {
-				addRelation(layoutRelationship);
-			}
 
 			// do the calculations
-			preCompute(entitiesToLayout);
+			preCompute(entitiesToLayout, relationshipsToConsider);
 			startTime = date.getTime();
 		}
 
@@ -430,57 +481,43 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		protected void postLayoutAlgorithm(InternalNode[] entitiesToLayout,
 				InternalRelationship[] relationshipsToConsider) {
 			reset(entitiesToLayout);
+			shutdownPool();
 		}
 
-		/**
-		 * Adds a simple relation between two nodes to the relation repository.
-		 *
-		 * @param layoutRelationship The simple relation to be added
-		 * @throws java.lang.NullPointerExcetption If <code>sr</code> is null
-		 * @see SimpleRelation
-		 */
-		private void addRelation(InternalRelationship layoutRelationship) {
-			if (layoutRelationship == null) {
-				throw new IllegalArgumentException("The arguments can not be null!"); //$NON-NLS-1$
-			}
-			double weight = layoutRelationship.getWeight();
-			weight = (weight <= 0 ? 0.1 : weight);
-			String key1 = layoutRelationship.getSource().toString() + layoutRelationship.getDestination().toString();
-			String key2 = layoutRelationship.getDestination().toString() + layoutRelationship.getSource().toString();
-			String[] keys = { key1, key2 };
-			for (String key : keys) {
-				Integer count = srcDestToNumRelsMap.get(key);
-				Double avgWeight = srcDestToRelsAvgWeightMap.get(key);
-				if (count == null) {
-					count = Integer.valueOf(1);
-					avgWeight = Double.valueOf(weight);
-				} else {
-					int newCount = count.intValue() + 1;
-					double newAverage = (avgWeight.doubleValue() * count.doubleValue() + weight) / newCount;
-					avgWeight = Double.valueOf(newAverage);
-					count = Integer.valueOf(newCount);
-				}
-				srcDestToNumRelsMap.put(key, count);
-				srcDestToRelsAvgWeightMap.put(key, avgWeight);
+		private void shutdownPool() {
+			if (pool != null) {
+				pool.shutdown();
+				pool = null;
 			}
 		}
 
-		private void preCompute(InternalNode[] entitiesToLayout) {
+		private void preCompute(InternalNode[] entitiesToLayout, InternalRelationship[] relationshipsToConsider) {
 			// count number of relationships between all nodes and the average
-			// weight between them
-			srcDestToNumRels = new int[entitiesToLayout.length][entitiesToLayout.length];
-			srcDestToRelsAvgWeight = new double[entitiesToLayout.length][entitiesToLayout.length];
-
-			for (int i = 0; i < entitiesToLayout.length - 1; i++) {
-				InternalNode layoutEntity1 = entitiesToLayout[i];
-				for (int j = i + 1; j < entitiesToLayout.length; j++) {
-					InternalNode layoutEntity2 = entitiesToLayout[j];
-					srcDestToNumRels[i][j] = numRelations(layoutEntity1, layoutEntity2);
-					srcDestToNumRels[i][j] += numRelations(layoutEntity2, layoutEntity1);
-					srcDestToRelsAvgWeight[i][j] = avgWeight(layoutEntity1, layoutEntity2);
+			// weight between them. Each relation is counted once per direction.
+			Map<InternalNode, Integer> entityToPosition = new HashMap<>();
+			for (int i = 0; i < entitiesToLayout.length; i++) {
+				entityToPosition.put(entitiesToLayout[i], Integer.valueOf(i));
+			}
+			srcDestToRelsWeight = new SparseAdjacency(entitiesToLayout.length);
+			rowOfWeights = new double[entitiesToLayout.length];
+			for (InternalRelationship layoutRelationship : relationshipsToConsider) {
+				if (layoutRelationship == null) {
+					throw new IllegalArgumentException("The arguments can not be null!"); //$NON-NLS-1$
 				}
+				Integer source = entityToPosition.get(layoutRelationship.getSource());
+				Integer destination = entityToPosition.get(layoutRelationship.getDestination());
+				if (source == null || destination == null) {
+					continue;
+				}
+				double weight = layoutRelationship.getWeight();
+				weight = (weight <= 0 ? 0.1 : weight);
+				srcDestToRelsWeight.add(source.intValue(), destination.intValue(), 2 * weight);
 			}
+			srcDestToRelsWeight.pack();
 
+			if (randomSeed != null) {
+				random = new Random(randomSeed.longValue());
+			}
 			if (sprRandom) {
 				placeRandomly(entitiesToLayout); // put vertices in random places
 			} else {
@@ -631,8 +668,8 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 						tempLocationsX[i] = 1.0;
 						tempLocationsY[i] = 1.0;
 					} else {
-						tempLocationsX[i] = Math.random();
-						tempLocationsY[i] = Math.random();
+						tempLocationsX[i] = random.nextDouble();
+						tempLocationsY[i] = random.nextDouble();
 					}
 				}
 			}
@@ -654,10 +691,14 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 				forcesY[i] = 0.0;
 			}
 
-			// TODO: Again really really slow!
+			if (parallelism > 1 && entitiesToLayout.length > 1) {
+				computeForcesInParallel(entitiesToLayout);
+				return;
+			}
 
 			for (int i = 0; i < entitiesToLayout.length - 1; i++) {
 				InternalNode sourceEntity = entitiesToLayout[i];
+				srcDestToRelsWeight.scatterRow(i, rowOfWeights);
 
 				double srcLocationX = tempLocationsX[i];
 				double srcLocationY = tempLocationsY[i];
@@ -681,11 +722,10 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 						// then decrease force on srcObj (a pull) in direction of destObj
 						// If no relation between srcObj and destObj then increase
 						// force on srcObj (a push) from direction of destObj.
-						int numRels = srcDestToNumRels[i][j];
-						double avgWeight = srcDestToRelsAvgWeight[i][j];
-						if (numRels > 0) {
+						double relsWeight = rowOfWeights[j];
+						if (relsWeight > 0) {
 							// nodes are pulled towards each other
-							double f = sprStrain * Math.log(distance / sprLength) * numRels * avgWeight;
+							double f = sprStrain * Math.log(distance / sprLength) * relsWeight;
 
 							fx = fx - (f * dx / distance);
 							fy = fy - (f * dy / distance);
@@ -713,6 +753,7 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 				 */
 				forcesX[i] = fx;
 				forcesY[i] = fy;
+				srcDestToRelsWeight.clearRow(i, rowOfWeights);
 				// Remove the src object from the list of destinations since
 				// we've already calculated the force from it on all other
 				// objects.
@@ -721,6 +762,56 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			}
 		}
 
+		/**
+		 * Computes the force for each node as the sum of the forces of all other nodes
+		 * acting on it. Each node is handled independently, so the nodes are
+		 * distributed among {@link SpringLayoutAlgorithm#PARALLEL_BLOCKS} blocks that
+		 * are processed by {@link #parallelism} threads.
+		 */
+		private void computeForcesInParallel(InternalNode[] entitiesToLayout) {
+			int length = entitiesToLayout.length;
+			int blocks = Math.min(PARALLEL_BLOCKS, length);
+			if (blockRowsOfWeights == null || blockRowsOfWeights.length != blocks
+					|| blockRowsOfWeights[0].length != length) {
+				blockRowsOfWeights = new double[blocks][length];
+			}
+			if (pool == null) {
+				pool = new ForkJoinPool(parallelism);
+			}
+			parallelFor(pool, blocks, block -> {
+				double[] row = blockRowsOfWeights[block];
+				for (int i = block; i < length; i += blocks) {
+					InternalNode sourceEntity = entitiesToLayout[i];
+					srcDestToRelsWeight.scatterRow(i, row);
+					double fx = 0;
+					double fy = 0;
+					for (int j = 0; j < length; j++) {
+						if (j == i || entitiesToLayout[j].equals(sourceEntity)) {
+							continue;
+						}
+						double dx = tempLocationsX[i] - tempLocationsX[j];
+						double dy = tempLocationsY[i] - tempLocationsY[j];
+						double distance = Math.sqrt(dx * dx + dy * dy);
+						double distance_sq = distance * distance;
+						distance = Math.max(MIN_DISTANCE, distance);
+						double relsWeight = row[j];
+						if (relsWeight > 0) {
+							double f = sprStrain * Math.log(distance / sprLength) * relsWeight;
+							fx -= f * dx / distance;
+							fy -= f * dy / distance;
+						} else {
+							double f = sprGravitation / (distance_sq);
+							fx += f * dx / distance;
+							fy += f * dy / distance;
+						}
+					}
+					srcDestToRelsWeight.clearRow(i, row);
+					forcesX[i] = fx;
+					forcesY[i] = fy;
+				}
+			});
+		}
+
 		/**
 		 * Computes the position for each node in this SpringLayoutAlgorithm. The
 		 * computed position will be stored in the data repository. position = position
@@ -794,34 +885,6 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			}
 		}
 
-		/**
-		 * Examines the number of specified relation between the <code>src</code> and
-		 * the <code>dest</code> that exist in this SpringLayoutAlgorithm's relation
-		 * repository.
-		 *
-		 * @param src  The source part of the relaton to be examined.
-		 * @param dest The destination part of the relation to be examined.
-		 * @return The number of relations between src and dest.
-		 */
-		private int numRelations(Object src, Object dest) {
-			String key = src.toString() + dest.toString();
-			Integer count = srcDestToNumRelsMap.get(key);
-			return (count == null) ? 0 : count.intValue();
-		}
-
-		/**
-		 * Returns the average weight between a src and dest object.
-		 *
-		 * @param src
-		 * @param dest
-		 * @return The average weight between the given src and dest nodes
-		 */
-		private double avgWeight(Object src, Object dest) {
-			String key = src.toString() + dest.toString();
-			Double avgWeight = srcDestToRelsAvgWeightMap.get(key);
-			return (avgWeight == null) ? 1 : avgWeight.doubleValue();
-		}
-
 		@Override
 		protected boolean isValidConfiguration(boolean asynchronous, boolean continueous) {
 			return asynchronous || !continueous;
@@ -864,11 +927,27 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 	 */
 	public static final double DEFAULT_SPRING_GRAVITATION = 2.0f;
 
+	/**
+	 * The default value for the Barnes-Hut opening angle. A value of
+	 * <code>0</code> computes the exact repulsion between all pairs of nodes.
+	 *
+	 * @since 2.0
+	 */
+	public static final double DEFAULT_SPRING_THETA = 0.0;
+
 	/**
 	 * Minimum distance considered between nodes
 	 */
 	protected static final double MIN_DISTANCE = 1.0d;
 
+	/**
+	 * The number of blocks the nodes are split into when the forces are computed
+	 * in parallel. Each block accumulates its forces separately, before they are
+	 * summed up in a fixed order. The number is independent of the parallelism,
+	 * so that the result does not depend on the number of threads.
+	 */
+	private static final int PARALLEL_BLOCKS = 32;
+
 	/**
 	 * An arbitrarily small value in mathematics.
 	 */
@@ -911,6 +990,28 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 	 */
 	private double sprGravitation = DEFAULT_SPRING_GRAVITATION;
 
+	/**
+	 * The variable can be customized to set the Barnes-Hut opening angle.
+	 */
+	private double sprTheta = DEFAULT_SPRING_THETA;
+
+	/**
+	 * The number of threads used to compute the forces.
+	 */
+	private int parallelism = 1;
+
+	private ForkJoinPool pool;
+
+	private double[][] blockForcesX, blockForcesY, blockRowsOfWeights;
+
+	/**
+	 * The seed used for the random placement of the nodes, or <code>null</code>
+	 * if no fixed seed is used.
+	 */
+	private Long randomSeed;
+
+	private Random random = new Random();
+
 	/**
 	 * Variable indicating whether the algorithm should resize elements.
 	 */
@@ -918,7 +1019,9 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 	private int iteration;
 
-	private double[][] srcDestToSumOfWeights;
+	private SparseAdjacency srcDestToSumOfWeights;
+
+	private double[] rowOfWeights;
 
 	private EntityLayout[] entities;
 
@@ -939,6 +1042,8 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 	 */
 	public boolean fitWithinBounds = true;
 
+	private final LayoutListener layoutListener = new SpringLayoutListener();
+
 	class SpringLayoutListener implements LayoutListener {
 
 		@Override
@@ -993,8 +1098,15 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		if (!clean) {
 			return;
 		}
-		while (performAnotherNonContinuousIteration()) {
-			computeOneIteration();
+		try {
+			while (performAnotherNonContinuousIteration()) {
+				if (context.isLayoutCancelled()) {
+					return;
+				}
+				computeOneIteration();
+			}
+		} finally {
+			shutdownPool();
 		}
 		saveLocations();
 		if (resize) {
@@ -1015,8 +1127,12 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 	@Override
 	public void setLayoutContext(LayoutContext context) {
+		if (this.context != null) {
+			this.context.removeLayoutListener(layoutListener);
+		}
 		super.setLayoutContext(context);
-		this.context.addLayoutListener(new SpringLayoutListener());
+		this.context.addLayoutListener(layoutListener);
+		shutdownPool();
 		initLayout();
 	}
 
@@ -1030,9 +1146,13 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			initLayout();
 		}
 		bounds = context.getBounds();
-		for (int i = 0; i < n; i++) {
-			computeOneIteration();
-			saveLocations();
+		try {
+			for (int i = 0; i < n; i++) {
+				computeOneIteration();
+				saveLocations();
+			}
+		} finally {
+			shutdownPool();
 		}
 		context.flushChanges(false);
 	}
@@ -1047,8 +1167,12 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			initLayout();
 		}
 		bounds = context.getBounds();
-		computeOneIteration();
-		saveLocations();
+		try {
+			computeOneIteration();
+			saveLocations();
+		} finally {
+			shutdownPool();
+		}
 		context.flushChanges(false);
 	}
 
@@ -1163,6 +1287,82 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		return sprGravitation;
 	}
 
+	/**
+	 * Sets the opening angle of the Barnes-Hut approximation used for the
+	 * repulsion between unconnected nodes. With a value of <code>0</code> (the
+	 * default), the exact repulsion between all pairs of nodes is computed, which
+	 * takes quadratic time per iteration. Larger values trade accuracy for speed;
+	 * values between <code>0.5</code> and <code>1.0</code> are recommended for
+	 * graphs with several thousand nodes.
+	 *
+	 * @param theta The opening angle, must not be negative.
+	 * @since 2.0
+	 */
+	public void setBarnesHutTheta(double theta) {
+		if (theta < 0) {
+			throw new IllegalArgumentException("Theta must not be negative: " + theta); //$NON-NLS-1$
+		}
+		sprTheta = theta;
+	}
+
+	/**
+	 * Returns the opening angle of the Barnes-Hut approximation.
+	 *
+	 * @return The opening angle, or <code>0</code> if the repulsion is computed
+	 *         exactly.
+	 * @since 2.0
+	 */
+	public double getBarnesHutTheta() {
+		return sprTheta;
+	}
+
+	/**
+	 * Sets the number of threads used to compute the forces between the nodes. A
+	 * value of <code>1</code> (the default) computes them on the calling thread.
+	 * For a given seed, all values greater than <code>1</code> produce the same
+	 * layout, which may differ slightly from the sequential one due to rounding.
+	 * The threads are released at the end of {@link #applyLayout(boolean)},
+	 * {@link #performNIteration(int)} and {@link #performOneIteration()}, and when
+	 * the layout context changes.
+	 *
+	 * @param parallelism The number of threads, must be positive.
+	 * @see #setRandomSeed(long)
+	 * @since 2.0
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive: " + parallelism); //$NON-NLS-1$
+		}
+		if (this.parallelism != parallelism) {
+			shutdownPool();
+		}
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Returns the number of threads used to compute the forces between the nodes.
+	 *
+	 * @return The number of threads.
+	 * @since 2.0
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the seed for the random placement of the nodes before beginning
+	 * iterations. Together with a spring timeout of <code>0</code>, this makes
+	 * the layout reproducible.
+	 *
+	 * @param seed The seed of the random number generator.
+	 * @see #setRandom(boolean)
+	 * @see #setSpringTimeout(long)
+	 * @since 2.0
+	 */
+	public void setRandomSeed(long seed) {
+		randomSeed = Long.valueOf(seed);
+	}
+
 	/**
 	 * Sets the number of iterations to be used.
 	 *
@@ -1206,7 +1406,8 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		bounds = context.getBounds();
 		loadLocations();
 
-		srcDestToSumOfWeights = new double[entities.length][entities.length];
+		srcDestToSumOfWeights = new SparseAdjacency(entities.length);
+		rowOfWeights = new double[entities.length];
 		Map<EntityLayout, Integer> entityToPosition = new HashMap<>();
 		for (int i = 0; i < entities.length; i++) {
 			entityToPosition.put(entities[i], Integer.valueOf(i));
@@ -1221,10 +1422,13 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			}
 			double weight = connection.getWeight();
 			weight = (weight <= 0 ? 0.1 : weight);
-			srcDestToSumOfWeights[source.intValue()][target.intValue()] += weight;
-			srcDestToSumOfWeights[target.intValue()][source.intValue()] += weight;
+			srcDestToSumOfWeights.add(source.intValue(), target.intValue(), weight);
 		}
+		srcDestToSumOfWeights.pack();
 
+		if (randomSeed != null) {
+			random = new Random(randomSeed.longValue());
+		}
 		if (sprRandom) {
 			placeRandomly(); // put vertices in random places
 		}
@@ -1338,8 +1542,8 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			locationsX[1] = bounds.x + bounds.width;
 			locationsY[1] = bounds.y + bounds.height;
 			for (int i = 2; i < locationsX.length; i++) {
-				locationsX[i] = bounds.x + Math.random() * bounds.width;
-				locationsY[i] = bounds.y + Math.random() * bounds.height;
+				locationsX[i] = bounds.x + random.nextDouble() * bounds.width;
+				locationsY[i] = bounds.y + random.nextDouble() * bounds.height;
 			}
 		}
 	}
@@ -1370,43 +1574,13 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 				locationsY[i] = this.locationsY[i];
 			}
 		}
-		// TODO: Again really really slow!
-
 		for (int k = 0; k < 2; k++) {
-			for (int i = 0; i < this.locationsX.length; i++) {
-
-				for (int j = i + 1; j < locationsX.length; j++) {
-					double dx = (locationsX[i] - locationsX[j]) / bounds.width / boundsScaleX;
-					double dy = (locationsY[i] - locationsY[j]) / bounds.height / boundsScaleY;
-					double distance_sq = dx * dx + dy * dy;
-					// make sure distance and distance squared not too small
-					distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, distance_sq);
-					double distance = Math.sqrt(distance_sq);
-
-					// If there are relationships between srcObj and destObj
-					// then decrease force on srcObj (a pull) in direction of
-					// destObj
-					// If no relation between srcObj and destObj then increase
-					// force on srcObj (a push) from direction of destObj.
-					double sumOfWeights = srcDestToSumOfWeights[i][j];
-
-					double f;
-					if (sumOfWeights > 0) {
-						// nodes are pulled towards each other
-						f = -sprStrain * Math.log(distance / sprLength) * sumOfWeights;
-					} else {
-						// nodes are repelled from each other
-						f = sprGravitation / (distance_sq);
-					}
-					double dfx = f * dx / distance;
-					double dfy = f * dy / distance;
-
-					forcesX[k][i] += dfx;
-					forcesY[k][i] += dfy;
-
-					forcesX[k][j] -= dfx;
-					forcesY[k][j] -= dfy;
-				}
+			if (sprTheta > 0) {
+				computeApproximatedForces(locationsX, locationsY, forcesX[k], forcesY[k]);
+			} else if (parallelism > 1 && locationsX.length > 1) {
+				computeExactForcesInParallel(locationsX, locationsY, forcesX[k], forcesY[k]);
+			} else {
+				computeExactForces(locationsX, locationsY, forcesX[k], forcesY[k]);
 			}
 
 			for (int i = 0; i < entities.length; i++) {
@@ -1458,6 +1632,175 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 	}
 
+	/**
+	 * Computes the forces between all pairs of nodes. Connected nodes are pulled
+	 * towards each other, all other nodes are repelled from each other.
+	 */
+	private void computeExactForces(double[] locationsX, double[] locationsY, double[] forcesX, double[] forcesY) {
+		for (int i = 0; i < locationsX.length; i++) {
+			addExactForces(i, locationsX, locationsY, rowOfWeights, forcesX, forcesY);
+		}
+	}
+
+	/**
+	 * Computes the same forces as
+	 * {@link #computeExactForces(double[], double[], double[], double[])} using
+	 * {@link #parallelism} threads. The nodes are distributed round-robin among
+	 * {@link #PARALLEL_BLOCKS} blocks with separate force accumulators, which are
+	 * then summed up in block order to keep the result deterministic.
+	 */
+	private void computeExactForcesInParallel(double[] locationsX, double[] locationsY, double[] forcesX,
+			double[] forcesY) {
+		int length = locationsX.length;
+		int blocks = Math.min(PARALLEL_BLOCKS, length);
+		if (blockForcesX == null || blockForcesX.length != blocks || blockForcesX[0].length != length) {
+			blockForcesX = new double[blocks][length];
+			blockForcesY = new double[blocks][length];
+			blockRowsOfWeights = new double[blocks][length];
+		}
+		parallelFor(getPool(), blocks, block -> {
+			double[] blockX = blockForcesX[block];
+			double[] blockY = blockForcesY[block];
+			Arrays.fill(blockX, 0);
+			Arrays.fill(blockY, 0);
+			for (int i = block; i < length; i += blocks) {
+				addExactForces(i, locationsX, locationsY, blockRowsOfWeights[block], blockX, blockY);
+			}
+		});
+		parallelFor(getPool(), blocks, block -> {
+			for (int i = block; i < length; i += blocks) {
+				for (int b = 0; b < blocks; b++) {
+					forcesX[i] += blockForcesX[b][i];
+					forcesY[i] += blockForcesY[b][i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Adds the forces between the node with index <code>i</code> and all nodes
+	 * with a larger index to the given force arrays.
+	 */
+	private void addExactForces(int i, double[] locationsX, double[] locationsY, double[] rowOfWeights,
+			double[] forcesX, double[] forcesY) {
+		srcDestToSumOfWeights.scatterRow(i, rowOfWeights);
+		for (int j = i + 1; j < locationsX.length; j++) {
+			double dx = (locationsX[i] - locationsX[j]) / bounds.width / boundsScaleX;
+			double dy = (locationsY[i] - locationsY[j]) / bounds.height / boundsScaleY;
+			double distance_sq = dx * dx + dy * dy;
+			// make sure distance and distance squared not too small
+			distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, distance_sq);
+			double distance = Math.sqrt(distance_sq);
+
+			// If there are relationships between srcObj and destObj
+			// then decrease force on srcObj (a pull) in direction of
+			// destObj
+			// If no relation between srcObj and destObj then increase
+			// force on srcObj (a push) from direction of destObj.
+			double sumOfWeights = rowOfWeights[j];
+
+			double f;
+			if (sumOfWeights > 0) {
+				// nodes are pulled towards each other
+				f = -sprStrain * Math.log(distance / sprLength) * sumOfWeights;
+			} else {
+				// nodes are repelled from each other
+				f = sprGravitation / (distance_sq);
+			}
+			double dfx = f * dx / distance;
+			double dfy = f * dy / distance;
+
+			forcesX[i] += dfx;
+			forcesY[i] += dfy;
+
+			forcesX[j] -= dfx;
+			forcesY[j] -= dfy;
+		}
+		srcDestToSumOfWeights.clearRow(i, rowOfWeights);
+	}
+
+	/**
+	 * Computes the forces between all nodes, using a Barnes-Hut approximation for
+	 * the repulsion. The repulsion between connected nodes is then replaced by
+	 * their exact attraction, so that the result matches
+	 * {@link #computeExactForces(double[], double[], double[], double[])} for an
+	 * opening angle of <code>0</code>. As the force on each node is computed
+	 * independently, this is done in parallel if requested.
+	 */
+	private void computeApproximatedForces(double[] locationsX, double[] locationsY, double[] forcesX,
+			double[] forcesY) {
+		double[] scaledX = new double[locationsX.length];
+		double[] scaledY = new double[locationsY.length];
+		for (int i = 0; i < locationsX.length; i++) {
+			scaledX[i] = locationsX[i] / bounds.width / boundsScaleX;
+			scaledY[i] = locationsY[i] / bounds.height / boundsScaleY;
+		}
+		QuadTree tree = new QuadTree(scaledX, scaledY);
+		if (parallelism > 1 && scaledX.length > 1) {
+			int length = scaledX.length;
+			int blocks = Math.min(PARALLEL_BLOCKS, length);
+			parallelFor(getPool(), blocks, block -> {
+				double[] force = new double[2];
+				for (int i = block; i < length; i += blocks) {
+					addApproximatedForce(i, tree, scaledX, scaledY, force, forcesX, forcesY);
+				}
+			});
+		} else {
+			double[] force = new double[2];
+			for (int i = 0; i < scaledX.length; i++) {
+				addApproximatedForce(i, tree, scaledX, scaledY, force, forcesX, forcesY);
+			}
+		}
+	}
+
+	private void addApproximatedForce(int i, QuadTree tree, double[] scaledX, double[] scaledY, double[] force,
+			double[] forcesX, double[] forcesY) {
+		force[0] = 0;
+		force[1] = 0;
+		tree.addRepulsion(i, sprTheta, sprGravitation, MIN_DISTANCE, force);
+		for (int k = srcDestToSumOfWeights.getRowStart(i); k < srcDestToSumOfWeights.getRowEnd(i); k++) {
+			int j = srcDestToSumOfWeights.getNeighbor(k);
+			double dx = scaledX[i] - scaledX[j];
+			double dy = scaledY[i] - scaledY[j];
+			double distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, dx * dx + dy * dy);
+			double distance = Math.sqrt(distance_sq);
+			double f = -sprStrain * Math.log(distance / sprLength) * srcDestToSumOfWeights.getWeight(k)
+					- sprGravitation / distance_sq;
+			force[0] += f * dx / distance;
+			force[1] += f * dy / distance;
+		}
+		forcesX[i] += force[0];
+		forcesY[i] += force[1];
+	}
+
+	private ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = new ForkJoinPool(parallelism);
+		}
+		return pool;
+	}
+
+	private void shutdownPool() {
+		if (pool != null) {
+			pool.shutdown();
+			pool = null;
+		}
+	}
+
+	/**
+	 * Executes the body for all indices between <code>0</code> and
+	 * <code>count</code> (exclusive) in the given pool and waits for all of them
+	 * to complete.
+	 */
+	private static void parallelFor(ForkJoinPool pool, int count, IntConsumer body) {
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int index = i;
+			tasks.add(ForkJoinTask.adapt(() -> body.accept(index)));
+		}
+		pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+	}
+
 	/**
 	 * Computes the position for each node in this SpringLayoutAlgorithm. The
 	 * computed position will be stored in the data repository. position = position
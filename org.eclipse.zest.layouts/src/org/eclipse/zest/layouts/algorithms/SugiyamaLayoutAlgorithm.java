@@ -186,10 +186,14 @@ public class SugiyamaLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		map.clear();
 		createLayers();
 		padLayers();
-		layers.forEach(layer -> { // reduce and refine
-			reduceCrossings();    // iteratively, depending on
-			refineLayers();       // the depth of the graph
-		});
+		// reduce and refine iteratively, depending on the depth of the graph
+		for (int i = 0; i < layers.size(); i++) {
+			if (context.isLayoutCancelled()) {
+				return;
+			}
+			reduceCrossings();
+			refineLayers();
+		}
 		reduceCrossings();
 		calculatePositions();
 	}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.layouts.algorithms.internal;
+
+/**
+ * Region quadtree over a set of points of unit mass, used to approximate the
+ * repulsive forces between all pairs of nodes with the Barnes-Hut method. A
+ * cell whose size, divided by its distance to a node, is smaller than the
+ * opening angle <i>theta</i> is treated as a single body located at its center
+ * of mass. This reduces the cost per iteration from <i>O(n&sup2;)</i> to
+ * <i>O(n log n)</i>.
+ *
+ * @since 2.0
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class QuadTree {
+
+	/**
+	 * Cells with fewer points or a smaller size than this are not subdivided any
+	 * further. This guards against infinite recursion for coinciding points.
+	 */
+	private static final int LEAF_CAPACITY = 4;
+	private static final double MIN_CELL_SIZE = 1e-9;
+
+	private final double[] xs;
+	private final double[] ys;
+	private final Cell root;
+
+	private static final class Cell {
+		final double x, y, size;
+		int mass;
+		double centerX, centerY;
+		Cell[] children;
+		int[] points = new int[LEAF_CAPACITY];
+
+		Cell(double x, double y, double size) {
+			this.x = x;
+			this.y = y;
+			this.size = size;
+		}
+
+		boolean contains(double px, double py) {
+			return px >= x && px <= x + size && py >= y && py <= y + size;
+		}
+	}
+
+	/**
+	 * Creates a new quadtree containing all given points. The arrays are not
+	 * copied and must not be modified while this tree is in use.
+	 *
+	 * @param xs the x coordinates of the points
+	 * @param ys the y coordinates of the points
+	 */
+	public QuadTree(double[] xs, double[] ys) {
+		this.xs = xs;
+		this.ys = ys;
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < xs.length; i++) {
+			minX = Math.min(minX, xs[i]);
+			minY = Math.min(minY, ys[i]);
+			maxX = Math.max(maxX, xs[i]);
+			maxY = Math.max(maxY, ys[i]);
+		}
+		double size = Math.max(Math.max(maxX - minX, maxY - minY), MIN_CELL_SIZE);
+		root = new Cell(xs.length == 0 ? 0 : minX, xs.length == 0 ? 0 : minY, size);
+		for (int i = 0; i < xs.length; i++) {
+			insert(root, i);
+		}
+	}
+
+	private void insert(Cell cell, int point) {
+		double px = xs[point];
+		double py = ys[point];
+		cell.centerX = (cell.centerX * cell.mass + px) / (cell.mass + 1);
+		cell.centerY = (cell.centerY * cell.mass + py) / (cell.mass + 1);
+		cell.mass++;
+
+		if (cell.children == null) {
+			if (cell.mass <= cell.points.length) {
+				cell.points[cell.mass - 1] = point;
+				return;
+			}
+			if (cell.size / 2 < MIN_CELL_SIZE) {
+				int[] points = new int[2 * cell.points.length];
+				System.arraycopy(cell.points, 0, points, 0, cell.points.length);
+				cell.points = points;
+				cell.points[cell.mass - 1] = point;
+				return;
+			}
+			subdivide(cell);
+		}
+		insert(childFor(cell, px, py), point);
+	}
+
+	private void subdivide(Cell cell) {
+		double half = cell.size / 2;
+		cell.children = new Cell[] { new Cell(cell.x, cell.y, half), new Cell(cell.x + half, cell.y, half),
+				new Cell(cell.x, cell.y + half, half), new Cell(cell.x + half, cell.y + half, half) };
+		// the point currently being inserted is not yet part of the leaf
+		for (int i = 0; i < cell.mass - 1; i++) {
+			int point = cell.points[i];
+			insert(childFor(cell, xs[point], ys[point]), point);
+		}
+		cell.points = null;
+	}
+
+	private static Cell childFor(Cell cell, double px, double py) {
+		double half = cell.size / 2;
+		int index = (px < cell.x + half ? 0 : 1) + (py < cell.y + half ? 0 : 2);
+		return cell.children[index];
+	}
+
+	/**
+	 * Adds the approximated repulsion of all other points on the point with the
+	 * given index to <code>force</code>. The repulsion between two points at
+	 * distance <i>d</i> is <code>gravitation / d&sup2;</code>, where <i>d</i> is
+	 * never smaller than <code>minDistance</code>.
+	 *
+	 * @param point       the index of the point the force acts upon
+	 * @param theta       the opening angle; 0 yields the exact result
+	 * @param gravitation the strength of the repulsion
+	 * @param minDistance the lower bound of the considered distance
+	 * @param force       array of length 2 the x and y force is added to
+	 */
+	public void addRepulsion(int point, double theta, double gravitation, double minDistance, double[] force) {
+		addRepulsion(root, point, xs[point], ys[point], theta, gravitation, minDistance * minDistance, force);
+	}
+
+	private void addRepulsion(Cell cell, int point, double px, double py, double theta, double gravitation,
+			double minDistanceSq, double[] force) {
+		if (cell.mass == 0) {
+			return;
+		}
+		if (cell.children == null) {
+			for (int i = 0; i < cell.mass; i++) {
+				int other = cell.points[i];
+				if (other != point) {
+					addBody(px - xs[other], py - ys[other], 1, gravitation, minDistanceSq, force);
+				}
+			}
+			return;
+		}
+		double dx = px - cell.centerX;
+		double dy = py - cell.centerY;
+		double distanceSq = dx * dx + dy * dy;
+		if (!cell.contains(px, py) && cell.size * cell.size < theta * theta * distanceSq) {
+			addBody(dx, dy, cell.mass, gravitation, minDistanceSq, force);
+			return;
+		}
+		for (Cell child : cell.children) {
+			addRepulsion(child, point, px, py, theta, gravitation, minDistanceSq, force);
+		}
+	}
+
+	private static void addBody(double dx, double dy, int mass, double gravitation, double minDistanceSq,
+			double[] force) {
+		double distanceSq = Math.max(minDistanceSq, dx * dx + dy * dy);
+		double distance = Math.sqrt(distanceSq);
+		double f = mass * gravitation / distanceSq;
+		force[0] += f * dx / distance;
+		force[1] += f * dy / distance;
+	}
+}
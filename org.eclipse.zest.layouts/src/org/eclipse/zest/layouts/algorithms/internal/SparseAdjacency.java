@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.layouts.algorithms.internal;
+
+import java.util.Arrays;
+
+/**
+ * Symmetric, weighted adjacency of a graph stored in compressed row form.
+ * Memory usage is linear in the number of nodes and edges, as opposed to the
+ * quadratic cost of a dense matrix. Edges are added via
+ * {@link #add(int, int, double)} and become accessible after {@link #pack()}
+ * has been called. Parallel edges are merged by summing up their weights,
+ * self-loops are ignored.
+ *
+ * @since 2.0
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class SparseAdjacency {
+
+	private final int nodeCount;
+
+	private int[] sources = new int[16];
+	private int[] targets = new int[16];
+	private double[] weights = new double[16];
+	private int edgeCount;
+
+	private int[] rowStart;
+	private int[] columns;
+	private double[] values;
+
+	/**
+	 * Creates a new adjacency without any edges.
+	 *
+	 * @param nodeCount the number of nodes, which are indexed from 0 to
+	 *                  <code>nodeCount - 1</code>
+	 */
+	public SparseAdjacency(int nodeCount) {
+		this.nodeCount = nodeCount;
+	}
+
+	/**
+	 * Adds an undirected edge between the two nodes with the given indices.
+	 *
+	 * @param source the index of the first node
+	 * @param target the index of the second node
+	 * @param weight the weight of the edge
+	 */
+	public void add(int source, int target, double weight) {
+		if (source == target) {
+			return;
+		}
+		if (edgeCount == sources.length) {
+			int newLength = 2 * edgeCount;
+			sources = Arrays.copyOf(sources, newLength);
+			targets = Arrays.copyOf(targets, newLength);
+			weights = Arrays.copyOf(weights, newLength);
+		}
+		sources[edgeCount] = source;
+		targets[edgeCount] = target;
+		weights[edgeCount] = weight;
+		edgeCount++;
+	}
+
+	/**
+	 * Converts all added edges into the compressed row form. Each edge is
+	 * accessible from both of its nodes afterwards.
+	 */
+	public void pack() {
+		int[] start = new int[nodeCount + 1];
+		for (int e = 0; e < edgeCount; e++) {
+			start[sources[e] + 1]++;
+			start[targets[e] + 1]++;
+		}
+		for (int i = 0; i < nodeCount; i++) {
+			start[i + 1] += start[i];
+		}
+		int[] fill = Arrays.copyOf(start, nodeCount);
+		int[] rawColumns = new int[2 * edgeCount];
+		double[] rawValues = new double[2 * edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			int s = sources[e];
+			int t = targets[e];
+			rawColumns[fill[s]] = t;
+			rawValues[fill[s]++] = weights[e];
+			rawColumns[fill[t]] = s;
+			rawValues[fill[t]++] = weights[e];
+		}
+
+		// merge parallel edges, using a scratch row to find duplicates
+		double[] row = new double[nodeCount];
+		boolean[] seen = new boolean[nodeCount];
+		rowStart = new int[nodeCount + 1];
+		int size = 0;
+		for (int i = 0; i < nodeCount; i++) {
+			rowStart[i] = size;
+			for (int k = start[i]; k < start[i + 1]; k++) {
+				int column = rawColumns[k];
+				if (!seen[column]) {
+					seen[column] = true;
+					rawColumns[size++] = column;
+				}
+				row[column] += rawValues[k];
+			}
+			for (int k = rowStart[i]; k < size; k++) {
+				int column = rawColumns[k];
+				rawValues[k] = row[column];
+				row[column] = 0;
+				seen[column] = false;
+			}
+		}
+		rowStart[nodeCount] = size;
+		columns = Arrays.copyOf(rawColumns, size);
+		values = Arrays.copyOf(rawValues, size);
+
+		sources = null;
+		targets = null;
+		weights = null;
+	}
+
+	/**
+	 * @return the number of nodes this adjacency has been created for
+	 */
+	public int getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * @return the first position of the neighbors of the given node
+	 */
+	public int getRowStart(int node) {
+		return rowStart[node];
+	}
+
+	/**
+	 * @return the position after the last neighbor of the given node
+	 */
+	public int getRowEnd(int node) {
+		return rowStart[node + 1];
+	}
+
+	/**
+	 * @return the index of the neighbor stored at the given position
+	 */
+	public int getNeighbor(int position) {
+		return columns[position];
+	}
+
+	/**
+	 * @return the summed weight of the edge stored at the given position
+	 */
+	public double getWeight(int position) {
+		return values[position];
+	}
+
+	/**
+	 * Writes the weights of all edges of the given node into the dense row,
+	 * indexed by the neighbor. Use {@link #clearRow(int, double[])} to reset the
+	 * row afterwards.
+	 */
+	public void scatterRow(int node, double[] row) {
+		for (int k = rowStart[node]; k < rowStart[node + 1]; k++) {
+			row[columns[k]] = values[k];
+		}
+	}
+
+	/**
+	 * Resets all entries of the dense row previously written by
+	 * {@link #scatterRow(int, double[])}.
+	 */
+	public void clearRow(int node, double[] row) {
+		for (int k = rowStart[node]; k < rowStart[node + 1]; k++) {
+			row[columns[k]] = 0;
+		}
+	}
+}
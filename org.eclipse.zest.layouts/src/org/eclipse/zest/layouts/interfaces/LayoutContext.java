@@ -216,4 +216,18 @@ public interface LayoutContext {
 	 *                      are major and should be animated (if true) or not.
 	 */
 	public void flushChanges(boolean animationHint);
+
+	/**
+	 * Checks if the layout currently applied to this context has been cancelled,
+	 * e.g. because a new layout has been requested while the current one is still
+	 * computed in background. Changes made by a cancelled layout are discarded, so
+	 * layout algorithms working iteratively should check this regularly and return
+	 * as soon as possible.
+	 *
+	 * @return true if the current layout has been cancelled
+	 * @since 2.0
+	 */
+	public default boolean isLayoutCancelled() {
+		return false;
+	}
 }
@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2026 GEF Classic contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     GEF Classic contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.tests;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.zest.core.widgets.DAGExpandCollapseManager;
+import org.eclipse.zest.core.widgets.Graph;
+import org.eclipse.zest.core.widgets.GraphConnection;
+import org.eclipse.zest.core.widgets.GraphNode;
+import org.eclipse.zest.core.widgets.ZestStyles;
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.GridLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.zest.layouts.dataStructures.InternalNode;
+import org.eclipse.zest.layouts.dataStructures.InternalRelationship;
+import org.eclipse.zest.layouts.interfaces.EntityLayout;
+import org.eclipse.zest.layouts.interfaces.LayoutContext;
+
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.geometry.Point;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the layout of a {@link Graph} on a background thread (see
+ * {@link Graph#setAsynchronousLayout(boolean)}).
+ */
+@SuppressWarnings("removal")
+public class AsynchronousLayoutTests extends Assert {
+
+	/**
+	 * Moves all entities to the same location once it has been released. Stops
+	 * without any changes if the layout is cancelled before.
+	 */
+	private static class BlockingLayoutAlgorithm implements LayoutAlgorithm {
+		private final int location;
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch released = new CountDownLatch(1);
+		private LayoutContext context;
+		volatile Thread thread;
+		volatile boolean stopped;
+
+		BlockingLayoutAlgorithm(int location) {
+			this.location = location;
+		}
+
+		@Override
+		public void setLayoutContext(LayoutContext context) {
+			this.context = context;
+		}
+
+		@Override
+		public void applyLayout(boolean clean) {
+			thread = Thread.currentThread();
+			started.countDown();
+			if (thread != Display.getDefault().getThread()) {
+				long end = System.currentTimeMillis() + 10000;
+				try {
+					while (!released.await(10, TimeUnit.MILLISECONDS) && System.currentTimeMillis() < end) {
+						if (context.isLayoutCancelled()) {
+							stopped = true;
+							return;
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			for (EntityLayout entity : context.getEntities()) {
+				entity.setLocation(location, location);
+			}
+		}
+
+		void release() {
+			released.countDown();
+		}
+
+		boolean isStarted() {
+			return started.getCount() == 0;
+		}
+	}
+
+	private Shell shell;
+	private Graph graph;
+	private GraphNode[] nodes;
+
+	@Before
+	public void setUp() {
+		shell = new Shell();
+		shell.setSize(500, 500);
+		graph = new Graph(shell, SWT.NONE);
+		graph.setSize(500, 500);
+		graph.setNodeStyle(ZestStyles.NODES_NO_LAYOUT_ANIMATION);
+		graph.setAsynchronousLayout(true);
+		nodes = new GraphNode[] { new GraphNode(graph, SWT.NONE), new GraphNode(graph, SWT.NONE),
+				new GraphNode(graph, SWT.NONE) };
+		new GraphConnection(graph, SWT.NONE, nodes[0], nodes[1]);
+		new GraphConnection(graph, SWT.NONE, nodes[0], nodes[2]);
+		shell.open();
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	/**
+	 * The algorithm runs in the background, while its result is applied on the UI
+	 * thread.
+	 */
+	@Test
+	public void testSnapshotAppliedOnUIThread() {
+		Set<Thread> movingThreads = ConcurrentHashMap.newKeySet();
+		FigureListener listener = source -> movingThreads.add(Thread.currentThread());
+		for (GraphNode node : nodes) {
+			node.getNodeFigure().addFigureListener(listener);
+		}
+		BlockingLayoutAlgorithm algorithm = new BlockingLayoutAlgorithm(100);
+		graph.setLayoutAlgorithm(algorithm, true);
+		waitFor(algorithm::isStarted);
+		assertTrue(graph.isLayoutRunning());
+		assertNotSame(shell.getDisplay().getThread(), algorithm.thread);
+
+		algorithm.release();
+		waitFor(() -> !graph.isLayoutRunning());
+		for (GraphNode node : nodes) {
+			assertEquals(new Point(100, 100), node.getLocation());
+		}
+		assertEquals(Set.of(shell.getDisplay().getThread()), movingThreads);
+	}
+
+	/**
+	 * A new layout cancels the running one, stopping the algorithm that is
+	 * actually running even if it has been replaced in the meantime.
+	 */
+	@Test
+	public void testNewLayoutCancelsRunningLayout() {
+		BlockingLayoutAlgorithm first = new BlockingLayoutAlgorithm(100);
+		graph.setLayoutAlgorithm(first, true);
+		waitFor(first::isStarted);
+
+		BlockingLayoutAlgorithm second = new BlockingLayoutAlgorithm(200);
+		graph.setLayoutAlgorithm(second, true);
+		waitFor(second::isStarted);
+		assertTrue(first.stopped);
+		assertFalse(second.stopped);
+
+		second.release();
+		waitFor(() -> !graph.isLayoutRunning());
+		for (GraphNode node : nodes) {
+			assertEquals(new Point(200, 200), node.getLocation());
+		}
+	}
+
+	/**
+	 * Cancelling the layout stops a running spring layout, which would not finish
+	 * on its own.
+	 */
+	@Test
+	public void testCancelStopsSpringLayout() {
+		AtomicInteger iterations = new AtomicInteger();
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm() {
+			@Override
+			protected boolean performAnotherNonContinuousIteration() {
+				iterations.incrementAndGet();
+				return super.performAnotherNonContinuousIteration();
+			}
+		};
+		algorithm.setIterations(Integer.MAX_VALUE);
+		algorithm.setSpringTimeout(0);
+		graph.setLayoutAlgorithm(algorithm, true);
+		waitFor(() -> iterations.get() > 10);
+		assertTrue(graph.isLayoutRunning());
+
+		// the result of the layout is only discarded after the algorithm has returned
+		graph.cancelLayout();
+		waitFor(() -> !graph.isLayoutRunning());
+	}
+
+	/**
+	 * Graphs with an expand/collapse manager are laid out on the UI thread.
+	 */
+	@Test
+	public void testSubgraphsAreLaidOutSynchronously() {
+		graph.setExpandCollapseManager(new DAGExpandCollapseManager());
+		BlockingLayoutAlgorithm algorithm = new BlockingLayoutAlgorithm(100);
+		graph.setLayoutAlgorithm(algorithm, true);
+		waitFor(algorithm::isStarted);
+		assertSame(shell.getDisplay().getThread(), algorithm.thread);
+		assertFalse(graph.isLayoutRunning());
+	}
+
+	/**
+	 * Zest 1.x algorithms are laid out on the UI thread.
+	 */
+	@Test
+	public void testZest1IsLaidOutSynchronously() {
+		Thread[] layoutThread = new Thread[1];
+		graph.setLayoutAlgorithm(new GridLayoutAlgorithm.Zest1() {
+			@Override
+			protected synchronized void applyLayoutInternal(InternalNode[] entitiesToLayout,
+					InternalRelationship[] relationshipsToConsider, double boundsX, double boundsY,
+					double boundsWidth, double boundsHeight) {
+				layoutThread[0] = Thread.currentThread();
+				super.applyLayoutInternal(entitiesToLayout, relationshipsToConsider, boundsX, boundsY, boundsWidth,
+						boundsHeight);
+			}
+		}, true);
+		waitFor(() -> layoutThread[0] != null);
+		assertSame(shell.getDisplay().getThread(), layoutThread[0]);
+		assertFalse(graph.isLayoutRunning());
+	}
+
+	private void waitFor(BooleanSupplier condition) {
+		Display display = shell.getDisplay();
+		long end = System.currentTimeMillis() + 10000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+			if (!display.readAndDispatch()) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		assertTrue(condition.getAsBoolean());
+	}
+}
@@ -14,18 +14,33 @@
 package org.eclipse.zest.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.zest.core.widgets.Graph;
+import org.eclipse.zest.core.widgets.GraphConnection;
+import org.eclipse.zest.core.widgets.GraphNode;
 import org.eclipse.zest.layouts.InvalidLayoutConfiguration;
 import org.eclipse.zest.layouts.LayoutAlgorithm;
 import org.eclipse.zest.layouts.LayoutEntity;
 import org.eclipse.zest.layouts.LayoutRelationship;
 import org.eclipse.zest.layouts.algorithms.GridLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.internal.QuadTree;
+import org.eclipse.zest.layouts.algorithms.internal.SparseAdjacency;
 import org.eclipse.zest.layouts.progress.ProgressEvent;
 import org.eclipse.zest.layouts.progress.ProgressListener;
 
+import org.eclipse.draw2d.geometry.Point;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -90,4 +105,191 @@ public class LayoutAlgorithmTest {
 		layoutAlgorithm.applyLayout(nodes, new LayoutRelationship[0], 0, 0, 0, 0, false, false);
 		assertEquals(logger.size(), 1); // $NON-NLS-1$
 	}
+
+	/**
+	 * The repulsion approximated by the {@link QuadTree} must be exact for a theta
+	 * of 0 and close to the exact sum over all pairs otherwise.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testQuadTreeRepulsion() {
+		Random random = new Random(42);
+		int count = 300;
+		double[] xs = new double[count];
+		double[] ys = new double[count];
+		for (int i = 0; i < count; i++) {
+			// the last points coincide, so that they can't be separated by subdividing
+			xs[i] = i < count - 10 ? random.nextDouble() * 1000 : 500;
+			ys[i] = i < count - 10 ? random.nextDouble() * 1000 : 500;
+		}
+		QuadTree tree = new QuadTree(xs, ys);
+		double gravitation = 2;
+		double minDistance = 1;
+		for (int i = 0; i < count; i++) {
+			double[] exact = new double[2];
+			double scale = 0;
+			for (int j = 0; j < count; j++) {
+				if (i != j) {
+					double dx = xs[i] - xs[j];
+					double dy = ys[i] - ys[j];
+					double distanceSq = Math.max(minDistance * minDistance, dx * dx + dy * dy);
+					double distance = Math.sqrt(distanceSq);
+					double f = gravitation / distanceSq;
+					exact[0] += f * dx / distance;
+					exact[1] += f * dy / distance;
+					scale += f;
+				}
+			}
+			double[] force = new double[2];
+			tree.addRepulsion(i, 0, gravitation, minDistance, force);
+			assertEquals(exact[0], force[0], 1e-9 * scale);
+			assertEquals(exact[1], force[1], 1e-9 * scale);
+
+			force = new double[2];
+			tree.addRepulsion(i, 0.5, gravitation, minDistance, force);
+			assertEquals(exact[0], force[0], 0.05 * scale);
+			assertEquals(exact[1], force[1], 0.05 * scale);
+		}
+	}
+
+	/**
+	 * Edges of the {@link SparseAdjacency} are symmetric, parallel edges are
+	 * summed up and self-loops are ignored.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testSparseAdjacency() {
+		SparseAdjacency adjacency = new SparseAdjacency(4);
+		adjacency.add(0, 1, 1);
+		adjacency.add(1, 0, 2);
+		adjacency.add(2, 3, 0.5);
+		adjacency.add(1, 1, 5);
+		for (int i = 0; i < 40; i++) {
+			adjacency.add(0, 2, 0.25);
+		}
+		adjacency.pack();
+
+		assertEquals(4, adjacency.getNodeCount());
+		double[] row = new double[4];
+		double[][] expected = { { 0, 3, 10, 0 }, { 3, 0, 0, 0 }, { 10, 0, 0, 0.5 }, { 0, 0, 0.5, 0 } };
+		for (int node = 0; node < 4; node++) {
+			adjacency.scatterRow(node, row);
+			for (int neighbor = 0; neighbor < 4; neighbor++) {
+				assertEquals(expected[node][neighbor], row[neighbor], 0);
+			}
+			adjacency.clearRow(node, row);
+			for (double weight : row) {
+				assertEquals(0, weight, 0);
+			}
+		}
+		assertEquals(2, adjacency.getRowEnd(0) - adjacency.getRowStart(0));
+		assertEquals(0, adjacency.getNeighbor(adjacency.getRowStart(1)));
+		assertEquals(3, adjacency.getWeight(adjacency.getRowStart(1)), 0);
+	}
+
+	/**
+	 * A chain laid out using the Barnes-Hut approximation must be unfolded like
+	 * with the exact repulsion: neighbors in the chain end up much closer together
+	 * than nodes far apart in the chain, and as close as in the exact layout. The
+	 * individual locations differ, since small differences in the forces add up
+	 * over the iterations.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testBarnesHutLayout() {
+		double[] neighborDistances = new double[2];
+		double[] thetas = { 0, 0.8 };
+		for (int i = 0; i < thetas.length; i++) {
+			Graph graph = createChain(100);
+			SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+			algorithm.setBarnesHutTheta(thetas[i]);
+			algorithm.setRandomSeed(42);
+			algorithm.setSpringTimeout(0);
+			algorithm.setIterations(200);
+			graph.setLayoutAlgorithm(algorithm, false);
+			graph.applyLayoutNow();
+
+			neighborDistances[i] = getMeanDistance(graph.getNodes(), 1);
+			assertTrue(3 * neighborDistances[i] < getMeanDistance(graph.getNodes(), 50));
+		}
+		assertEquals(neighborDistances[0], neighborDistances[1], 0.25 * neighborDistances[0]);
+	}
+
+	/**
+	 * Returns the mean distance between the nodes which are the given number of
+	 * steps apart in the chain.
+	 */
+	private static double getMeanDistance(List<? extends GraphNode> nodes, int steps) {
+		double sum = 0;
+		for (int i = 0; i + steps < nodes.size(); i++) {
+			Point p1 = nodes.get(i).getLocation();
+			Point p2 = nodes.get(i + steps).getLocation();
+			sum += Math.hypot(p1.x - p2.x, p1.y - p2.y);
+		}
+		return sum / (nodes.size() - steps);
+	}
+
+	/**
+	 * Computing the forces in parallel must not fail for a graph without nodes.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testParallelSpringLayoutEmptyGraph() throws InvalidLayoutConfiguration {
+		SpringLayoutAlgorithm.Zest1 zest1 = new SpringLayoutAlgorithm.Zest1();
+		zest1.setParallelism(2);
+		zest1.applyLayout(new LayoutEntity[0], new LayoutRelationship[0], 0, 0, 500, 500, false, false);
+
+		Graph graph = createChain(0);
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setParallelism(2);
+		graph.setLayoutAlgorithm(algorithm, false);
+		graph.applyLayoutNow();
+		assertTrue(graph.getNodes().isEmpty());
+	}
+
+	/**
+	 * For a given seed, the layout must not depend on the number of threads.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testParallelSpringLayoutIsDeterministic() {
+		for (double theta : new double[] { 0, 0.8 }) {
+			List<Point> expected = null;
+			for (int parallelism : new int[] { 2, 3, 8 }) {
+				Graph graph = createChain(100);
+				SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+				algorithm.setBarnesHutTheta(theta);
+				algorithm.setParallelism(parallelism);
+				algorithm.setRandomSeed(42);
+				algorithm.setSpringTimeout(0);
+				algorithm.setIterations(50);
+				graph.setLayoutAlgorithm(algorithm, false);
+				graph.applyLayoutNow();
+
+				List<Point> locations = new ArrayList<>();
+				for (GraphNode node : graph.getNodes()) {
+					locations.add(node.getLocation());
+				}
+				if (expected == null) {
+					expected = locations;
+				} else {
+					assertEquals(expected, locations);
+				}
+			}
+		}
+	}
+
+	private static Graph createChain(int nodeCount) {
+		Graph graph = new Graph(new Shell(), SWT.NONE);
+		graph.setSize(500, 500);
+		GraphNode previous = null;
+		for (int i = 0; i < nodeCount; i++) {
+			GraphNode node = new GraphNode(graph, SWT.NONE, "Node " + i); //$NON-NLS-1$
+			if (previous != null) {
+				new GraphConnection(graph, SWT.NONE, previous, node);
+			}
+			previous = node;
+		}
+		return graph;
+	}
 }
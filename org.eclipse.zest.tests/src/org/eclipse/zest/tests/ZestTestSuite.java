@@ -29,6 +29,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	GraphTests.class,
+	AsynchronousLayoutTests.class,
 	GraphSelectionTests.class,
 	GraphViewerTests.class,
 	LayoutAlgorithmTest.class,